@@ -24,30 +24,44 @@
 
 package com.github.akarazhev.cryptoscout;
 
+import com.github.akarazhev.cryptoscout.client.CmcBackfill;
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
 import com.github.akarazhev.cryptoscout.config.ConfigValidator;
 import com.github.akarazhev.cryptoscout.module.BybitLinearModule;
 import com.github.akarazhev.cryptoscout.module.BybitSpotModule;
 import com.github.akarazhev.cryptoscout.module.ClientModule;
+import com.github.akarazhev.cryptoscout.module.CmcBackfillModule;
 import com.github.akarazhev.cryptoscout.module.CmcParserModule;
 import com.github.akarazhev.cryptoscout.module.CoreModule;
+import com.github.akarazhev.cryptoscout.module.ServerModule;
+import com.github.akarazhev.cryptoscout.module.StreamModule;
 import com.github.akarazhev.cryptoscout.module.WebModule;
 import com.github.akarazhev.jcryptolib.config.AppConfig;
+import io.activej.inject.annotation.Inject;
+import io.activej.inject.binding.OptionalDependency;
 import io.activej.inject.module.Module;
 import io.activej.jmx.JmxModule;
 import io.activej.launcher.Launcher;
+import io.activej.reactor.nio.NioReactor;
 import io.activej.service.ServiceGraphModule;
 
 import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.akarazhev.cryptoscout.Constants.Module.CMC_PARSER_MODULE_ENABLED;
 import static com.github.akarazhev.cryptoscout.Constants.Module.BYBIT_STREAM_MODULE_ENABLED;
 import static io.activej.inject.module.Modules.combine;
 
 final class Client extends Launcher {
+    @Inject
+    private NioReactor reactor;
+    @Inject
+    private OptionalDependency<CmcBackfill> cmcBackfill;
 
     @Override
     protected void onStart() throws Exception {
-        ConfigValidator.validate(AppConfig.getAsBoolean(CMC_PARSER_MODULE_ENABLED));
+        ConfigValidator.validate(AppConfig.getAsBoolean(CMC_PARSER_MODULE_ENABLED),
+                AppConfig.getAsBoolean(BYBIT_STREAM_MODULE_ENABLED));
     }
 
     @Override
@@ -57,6 +71,16 @@ final class Client extends Launcher {
         modules.add(ServiceGraphModule.create());
         modules.add(CoreModule.create());
         modules.add(ClientModule.create());
+        modules.add(WebModule.create());
+
+        if (CmcApiConfig.isCmcBackfillEnabled()) {
+            // One-shot mode: backfill CMC history and exit, without the live streams, their services and the server
+            modules.add(CmcBackfillModule.create());
+            return combine(modules);
+        }
+
+        modules.add(StreamModule.create());
+        modules.add(ServerModule.create());
 
         if (AppConfig.getAsBoolean(BYBIT_STREAM_MODULE_ENABLED)) {
             modules.add(BybitSpotModule.create());
@@ -67,12 +91,24 @@ final class Client extends Launcher {
             modules.add(CmcParserModule.create());
         }
 
-        modules.add(WebModule.create());
         return combine(modules);
     }
 
     @Override
     protected void run() throws Exception {
+        if (cmcBackfill.isPresent()) {
+            final var done = new CompletableFuture<Void>();
+            reactor.execute(() -> cmcBackfill.get().backfill().whenComplete((_, ex) -> {
+                if (ex == null) {
+                    done.complete(null);
+                } else {
+                    done.completeExceptionally(ex);
+                }
+            }));
+            done.get();
+            return;
+        }
+
         awaitShutdown();
     }
 
@@ -24,19 +24,56 @@
 
 package com.github.akarazhev.cryptoscout.client;
 
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
 import com.github.akarazhev.jcryptolib.bybit.stream.BybitStream;
+import com.github.akarazhev.jcryptolib.stream.Payload;
 import io.activej.async.service.ReactiveService;
 import io.activej.datastream.consumer.StreamConsumers;
+import io.activej.jmx.api.attribute.JmxAttribute;
 import io.activej.promise.Promise;
+import io.activej.promise.Promises;
 import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
 import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public abstract class AbstractBybitStreamConsumer extends AbstractReactive implements ReactiveService {
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.EXPECTED_UPDATE_ID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.GAP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.KLINE_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ORDER_BOOK_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.RECEIVED_UPDATE_ID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.UPDATE_ID;
+
+public abstract class AbstractBybitStreamConsumer extends AbstractReactive implements ReactiveService,
+        ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractBybitStreamConsumer.class);
     private final BybitStream bybitStream;
-    private final AmqpPublisher amqpPublisher;
+    private final BybitStream standbyStream;
+    private final StalenessWatchdog stalenessWatchdog;
+    private final KlineBackfill klineBackfill;
+    private final Sink sink;
+    private final StreamArbiter streamArbiter;
+    private final OrderBookSequenceTracker orderBookSequenceTracker = OrderBookSequenceTracker.create();
+    private final Runnable resubscribe = this::resubscribe;
+    private final Consumer<Payload<Map<String, Object>>> publish = this::publish;
+    private final Set<StreamArbiter.Feed> reconnecting = EnumSet.noneOf(StreamArbiter.Feed.class);
+    private boolean resubscribing;
+    private boolean closed;
 
     protected AbstractBybitStreamConsumer(final NioReactor reactor, final BybitStream bybitStream,
-                                          final AmqpPublisher amqpPublisher) {
+                                          final BybitStream standbyStream, final StalenessWatchdog stalenessWatchdog,
+                                          final KlineBackfill klineBackfill, final Sink sink) {
         super(reactor);
         if (reactor == null) {
             throw new IllegalStateException("Reactor cannot be null");
@@ -44,21 +81,232 @@ public abstract class AbstractBybitStreamConsumer extends AbstractReactive imple
         if (bybitStream == null) {
             throw new IllegalStateException("BybitStream cannot be null");
         }
-        if (amqpPublisher == null) {
-            throw new IllegalStateException("AmqpPublisher cannot be null");
+        if (sink == null) {
+            throw new IllegalStateException("Sink cannot be null");
         }
         this.bybitStream = bybitStream;
-        this.amqpPublisher = amqpPublisher;
+        this.standbyStream = standbyStream;
+        this.stalenessWatchdog = stalenessWatchdog;
+        this.klineBackfill = klineBackfill;
+        this.sink = sink;
+        this.streamArbiter = standbyStream != null ?
+                StreamArbiter.create(BybitStreamConfig.getHotStandbyDedupWindow(),
+                        BybitStreamConfig.getHotStandbyStallMs()) :
+                null;
     }
 
     @Override
     public Promise<Void> start() {
-        return bybitStream.start().then(stream ->
-                stream.streamTo(StreamConsumers.ofConsumer(amqpPublisher::publish)));
+        if (standbyStream == null) {
+            return bybitStream.start().then(stream ->
+                    stream.streamTo(StreamConsumers.ofConsumer(this::onPayload)));
+        }
+
+        return Promises.all(
+                bybitStream.start().then(stream ->
+                        stream.streamTo(StreamConsumers.ofConsumer((Payload<Map<String, Object>> payload) ->
+                                arbitrate(StreamArbiter.Feed.PRIMARY, payload)))),
+                standbyStream.start().then(stream ->
+                        stream.streamTo(StreamConsumers.ofConsumer((Payload<Map<String, Object>> payload) ->
+                                arbitrate(StreamArbiter.Feed.STANDBY, payload)))));
     }
 
     @Override
     public Promise<Void> stop() {
-        return bybitStream.stop();
+        return standbyStream == null ?
+                bybitStream.stop() :
+                Promises.all(bybitStream.stop(), standbyStream.stop());
+    }
+
+    /**
+     * Reconnects the stream(s) of this consumer only, which makes the exchange send fresh snapshots for all of its
+     * topics. Other consumers keep their connections. With a hot standby the legs are restarted one after the
+     * other, so the standby keeps feeding while the primary reconnects. Repeated calls while a resubscribe is in
+     * flight are ignored.
+     */
+    protected void resubscribe() {
+        if (resubscribing || closed) {
+            return;
+        }
+
+        resubscribing = true;
+        LOGGER.warn("Resubscribing {}", getClass().getSimpleName());
+        final var event = new JfrEvents.Reconnect();
+        event.begin();
+        final var restarted = standbyStream == null ?
+                bybitStream.stop().then(() -> closed ? Promise.complete() : connect(bybitStream, this::onPayload)) :
+                restart(StreamArbiter.Feed.PRIMARY).then(() -> restart(StreamArbiter.Feed.STANDBY));
+        restarted.whenComplete((_, ex) -> {
+            resubscribing = false;
+            if (ex != null) {
+                LOGGER.error("Failed to resubscribe {}", getClass().getSimpleName(), ex);
+            }
+
+            if (event.shouldCommit()) {
+                event.consumer = getClass().getSimpleName();
+                event.succeeded = ex == null;
+                event.commit();
+            }
+        });
+    }
+
+    /**
+     * Stops the stream(s) for good: later staleness or gap signals no longer resubscribe, and the topics of this
+     * consumer are dropped from the staleness watchdog.
+     */
+    protected Promise<Void> close() {
+        closed = true;
+        return stop().whenComplete(() -> {
+            if (stalenessWatchdog != null) {
+                stalenessWatchdog.forget(resubscribe);
+            }
+        });
+    }
+
+    private void arbitrate(final StreamArbiter.Feed feed, final Payload<Map<String, Object>> payload) {
+        if (payload == null) {
+            return;
+        }
+
+        final var promotions = streamArbiter.getPromotions();
+        if (streamArbiter.accept(feed, payload.getData(), reactor.currentTimeMillis())) {
+            onPayload(payload);
+        }
+
+        if (streamArbiter.getPromotions() != promotions) {
+            reconnectStalled(StreamArbiter.Feed.PRIMARY.equals(feed) ?
+                    StreamArbiter.Feed.STANDBY :
+                    StreamArbiter.Feed.PRIMARY);
+        }
+    }
+
+    /**
+     * Reconnects the leg the arbiter demoted for being silent, leaving the promoted leg untouched.
+     */
+    private void reconnectStalled(final StreamArbiter.Feed feed) {
+        if (resubscribing || closed || !reconnecting.add(feed)) {
+            return;
+        }
+
+        LOGGER.warn("Reconnecting stalled {} feed of {}", feed, getClass().getSimpleName());
+        restart(feed).whenComplete((_, ex) -> {
+            reconnecting.remove(feed);
+            if (ex != null) {
+                LOGGER.error("Failed to reconnect {} feed of {}", feed, getClass().getSimpleName(), ex);
+            }
+        });
+    }
+
+    private Promise<Void> restart(final StreamArbiter.Feed feed) {
+        final var stream = StreamArbiter.Feed.PRIMARY.equals(feed) ? bybitStream : standbyStream;
+        return stream.stop().then(() -> closed ?
+                Promise.complete() :
+                connect(stream, payload -> arbitrate(feed, payload)));
+    }
+
+    /**
+     * Starts the stream and completes once it is connected, without waiting for the stream to end.
+     */
+    private static Promise<Void> connect(final BybitStream stream,
+                                         final Consumer<Payload<Map<String, Object>>> consumer) {
+        return stream.start().whenResult(supplier -> supplier.streamTo(StreamConsumers.ofConsumer(consumer))).toVoid();
+    }
+
+    private void onPayload(final Payload<Map<String, Object>> payload) {
+        if (payload == null) {
+            return;
+        }
+
+        final var event = new JfrEvents.PayloadReceived();
+        event.begin();
+        route(payload);
+        event.end();
+        if (event.shouldCommit()) {
+            event.describe(payload);
+            event.commit();
+        }
+    }
+
+    private void route(final Payload<Map<String, Object>> payload) {
+        final var data = payload.getData();
+        if (data != null && data.get(TOPIC) instanceof String topic) {
+            if (stalenessWatchdog != null) {
+                stalenessWatchdog.onUpdate(payload.getSource(), topic, resubscribe);
+            }
+
+            if (topic.startsWith(ORDER_BOOK_PREFIX) && !isInSequence(payload, topic)) {
+                return;
+            }
+
+            if (klineBackfill != null && topic.startsWith(KLINE_PREFIX)) {
+                klineBackfill.onKline(payload, topic, publish);
+                return;
+            }
+        }
+
+        publish(payload);
+    }
+
+    private void publish(final Payload<Map<String, Object>> payload) {
+        sink.publish(payload);
+    }
+
+    private boolean isInSequence(final Payload<Map<String, Object>> payload, final String topic) {
+        final var data = payload.getData();
+        if (!(data.get(DATA) instanceof Map<?, ?> book) || !(book.get(UPDATE_ID) instanceof Number updateId)) {
+            return true;
+        }
+
+        final var result = orderBookSequenceTracker.onUpdate(topic, (String) data.get(TYPE), updateId.longValue());
+        if (OrderBookSequenceTracker.Result.GAP.equals(result)) {
+            LOGGER.warn("Order book {} sequence gap: expected u={}, received u={}", topic,
+                    orderBookSequenceTracker.getLastExpectedUpdateId(), updateId);
+            sink.publish(gapEvent(payload, topic, updateId.longValue()));
+            resubscribe();
+        }
+
+        return OrderBookSequenceTracker.Result.ACCEPTED.equals(result);
+    }
+
+    private Payload<Map<String, Object>> gapEvent(final Payload<Map<String, Object>> payload, final String topic,
+                                                  final long receivedUpdateId) {
+        final var gap = new LinkedHashMap<String, Object>();
+        gap.put(EXPECTED_UPDATE_ID, orderBookSequenceTracker.getLastExpectedUpdateId());
+        gap.put(RECEIVED_UPDATE_ID, receivedUpdateId);
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, topic);
+        data.put(TYPE, GAP);
+        data.put(TS, reactor.currentTimeMillis());
+        data.put(DATA, gap);
+        final var event = new Payload<Map<String, Object>>();
+        event.setProvider(payload.getProvider());
+        event.setSource(payload.getSource());
+        event.setData(data);
+        return event;
+    }
+
+    @JmxAttribute
+    public long getOrderBookGaps() {
+        return orderBookSequenceTracker.getGaps();
+    }
+
+    @JmxAttribute
+    public long getOrderBookDuplicates() {
+        return orderBookSequenceTracker.getDuplicates();
+    }
+
+    @JmxAttribute
+    public long getOrderBookDroppedDeltas() {
+        return orderBookSequenceTracker.getDropped();
+    }
+
+    @JmxAttribute
+    public long getStandbyDuplicates() {
+        return streamArbiter != null ? streamArbiter.getDuplicates() : 0;
+    }
+
+    @JmxAttribute
+    public long getStandbyPromotions() {
+        return streamArbiter != null ? streamArbiter.getPromotions() : 0;
     }
 }
@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.cryptoscout.config.AmqpConfig;
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import com.rabbitmq.stream.Environment;
+import com.rabbitmq.stream.Producer;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * One RabbitMQ stream environment of the publisher with its own producers, confirm window and counters. The primary
+ * environment hands every message to its producers, which block once the window is unconfirmed, as before, and
+ * fails the publish while it is not connected. A best-effort environment never waits: while its window is full, or
+ * while it is not connected, its copy of the message is dropped, so a slow cluster cannot hold back the primary.
+ */
+final class AmqpEnvironment extends AbstractReactive {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AmqpEnvironment.class);
+    private final String name;
+    private final int confirmWindow;
+    private final boolean bestEffort;
+    private volatile Environment environment;
+    private volatile Producer bybitStream;
+    private volatile Producer cryptoScoutStream;
+    private int inFlight;
+    private long sent;
+    private long confirmed;
+    private long failed;
+    private long dropped;
+
+    static AmqpEnvironment create(final NioReactor reactor, final String name, final int confirmWindow,
+                                  final boolean bestEffort) {
+        return new AmqpEnvironment(reactor, name, confirmWindow, bestEffort);
+    }
+
+    private AmqpEnvironment(final NioReactor reactor, final String name, final int confirmWindow,
+                            final boolean bestEffort) {
+        super(reactor);
+        this.name = name;
+        this.confirmWindow = confirmWindow;
+        this.bestEffort = bestEffort;
+    }
+
+    static boolean isRouted(final Provider provider, final Source source) {
+        return Provider.CMC.equals(provider) || Provider.BYBIT.equals(provider) && isBybitStream(source);
+    }
+
+    /**
+     * Connects the environment and its producers; blocking, run off the reactor.
+     */
+    void connect() {
+        try {
+            final var bybitStreamName = AmqpConfig.getAmqpBybitStream();
+            if (bybitStreamName == null || bybitStreamName.isBlank()) {
+                throw new IllegalStateException("Bybit stream name must be configured");
+            }
+
+            final var cryptoScoutStreamName = AmqpConfig.getAmqpCryptoScoutStream();
+            if (cryptoScoutStreamName == null || cryptoScoutStreamName.isBlank()) {
+                throw new IllegalStateException("Crypto Scout stream name must be configured");
+            }
+
+            environment = AmqpConfig.getEnvironment(name);
+            bybitStream = environment.producerBuilder()
+                    .name(bybitStreamName)
+                    .stream(bybitStreamName)
+                    .maxUnconfirmedMessages(confirmWindow)
+                    .build();
+            cryptoScoutStream = environment.producerBuilder()
+                    .name(cryptoScoutStreamName)
+                    .stream(cryptoScoutStreamName)
+                    .maxUnconfirmedMessages(confirmWindow)
+                    .build();
+            LOGGER.info("Stream environment {} connected", name);
+        } catch (final Exception ex) {
+            LOGGER.error("Failed to connect stream environment {}", name, ex);
+            // Release what was built, so a later reconnect starts clean
+            close();
+            throw new IllegalStateException("Failed to connect stream environment " + name, ex);
+        }
+    }
+
+    /**
+     * Closes the producers and the environment; blocking, run off the reactor.
+     */
+    void close() {
+        try {
+            close(bybitStream);
+        } finally {
+            bybitStream = null;
+            try {
+                close(cryptoScoutStream);
+            } finally {
+                cryptoScoutStream = null;
+                closeEnvironment();
+            }
+        }
+    }
+
+    /**
+     * Sends the encoded payload to the stream of its route and completes on the confirm.
+     */
+    Promise<Void> send(final Payload<Map<String, Object>> payload, final byte[] bytes) {
+        final var producer = getProducer(payload.getProvider(), payload.getSource());
+        if (producer == null) {
+            if (!bestEffort) {
+                failed++;
+                return Promise.ofException(new IllegalStateException("Stream environment " + name +
+                        " is not connected"));
+            }
+
+            dropped++;
+            LOGGER.debug("Skipping publish: stream environment {} is not connected", name);
+            return Promise.complete();
+        }
+
+        if (bestEffort && inFlight >= confirmWindow) {
+            dropped++;
+            LOGGER.debug("Skipping publish: confirm window of stream environment {} is full", name);
+            return Promise.complete();
+        }
+
+        final var settablePromise = new SettablePromise<Void>();
+        try {
+            final var message = producer.messageBuilder()
+                    .addData(bytes)
+                    .build();
+            final var confirm = JfrEvents.ConfirmReceived.start(payload, bytes.length);
+            if (confirm != null) {
+                confirm.environment = name;
+            }
+
+            final var sentEvent = new JfrEvents.MessageSent();
+            sentEvent.begin();
+            inFlight++;
+            sent++;
+            producer.send(message, status ->
+                    reactor.execute(() -> {
+                        inFlight--;
+                        if (confirm != null) {
+                            confirm.confirmed = status.isConfirmed();
+                            confirm.commit();
+                        }
+
+                        if (status.isConfirmed()) {
+                            confirmed++;
+                            settablePromise.set(null);
+                        } else {
+                            failed++;
+                            settablePromise.setException(new IllegalStateException("Stream publish to " + name +
+                                    " not confirmed: " + status));
+                        }
+                    })
+            );
+            sentEvent.end();
+            if (sentEvent.shouldCommit()) {
+                sentEvent.describe(payload, bytes.length);
+                sentEvent.environment = name;
+                sentEvent.commit();
+            }
+        } catch (final Exception ex) {
+            failed++;
+            LOGGER.error("Failed to publish payload to stream environment {}: {}", name, ex.getMessage(), ex);
+            settablePromise.setException(ex);
+        }
+
+        return settablePromise;
+    }
+
+    boolean isReady() {
+        final var env = environment;
+        final var bybit = bybitStream;
+        final var scout = cryptoScoutStream;
+        return env != null && bybit != null && scout != null;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getInFlight() {
+        return inFlight;
+    }
+
+    long getSent() {
+        return sent;
+    }
+
+    long getConfirmed() {
+        return confirmed;
+    }
+
+    long getFailed() {
+        return failed;
+    }
+
+    long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public String toString() {
+        return name + " ready=" + isReady() + " inFlight=" + inFlight + "/" + confirmWindow + " sent=" + sent +
+                " confirmed=" + confirmed + " failed=" + failed + " dropped=" + dropped;
+    }
+
+    private Producer getProducer(final Provider provider, final Source source) {
+        return Provider.CMC.equals(provider) ?
+                cryptoScoutStream :
+                Provider.BYBIT.equals(provider) && isBybitStream(source) ?
+                        bybitStream :
+                        null;
+    }
+
+    private static boolean isBybitStream(final Source source) {
+        return Source.PMST.equals(source) || Source.PML.equals(source);
+    }
+
+    private void close(final Producer producer) {
+        try {
+            if (producer != null) {
+                producer.close();
+            }
+        } catch (final Exception ex) {
+            LOGGER.warn("Error closing stream producer of {}", name, ex);
+        }
+    }
+
+    private void closeEnvironment() {
+        try {
+            if (environment != null) {
+                environment.close();
+            }
+        } catch (final Exception ex) {
+            LOGGER.warn("Error closing stream environment {}", name, ex);
+        } finally {
+            environment = null;
+        }
+    }
+}
@@ -27,154 +27,198 @@ package com.github.akarazhev.cryptoscout.client;
 import com.github.akarazhev.cryptoscout.config.AmqpConfig;
 import com.github.akarazhev.jcryptolib.util.JsonUtils;
 import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
 import io.activej.promise.Promise;
 import io.activej.promise.SettablePromise;
 import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
 import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.github.akarazhev.jcryptolib.stream.Payload;
-import com.github.akarazhev.jcryptolib.stream.Provider;
-import com.github.akarazhev.jcryptolib.stream.Source;
-import com.rabbitmq.stream.Environment;
-import com.rabbitmq.stream.Producer;
 
-public final class AmqpPublisher extends AbstractReactive implements ReactiveService {
+/**
+ * Publishes payloads to the RabbitMQ streams of one or more environments (clusters). The same bytes, encoded once by
+ * the caller, are sent to every environment; the first one is the primary, whose confirms complete the publish
+ * and whose readiness is the publisher's, the others are best effort (see {@link AmqpEnvironment}). With a start
+ * buffer, {@link #start()} completes at once and the primary connects in the background, so the services that depend
+ * on the publisher (WebSocket streams, CMC) are started concurrently with it; payloads published meanwhile are
+ * buffered, oldest dropped first when the buffer is full, and sent in order once connected; a primary that fails
+ * to connect is retried every {@code amqp.reconnect.interval.ms} while buffering continues. Without one, start
+ * completes when the primary is connected and fails the launch otherwise. A best-effort environment that fails to
+ * connect is retried in the background on the same interval.
+ */
+public final class AmqpPublisher extends AbstractReactive implements Sink, ReactiveService, ReactiveJmxBean {
     private static final Logger LOGGER = LoggerFactory.getLogger(AmqpPublisher.class);
     private final Executor executor;
-    private volatile Environment environment;
-    private volatile Producer bybitStream;
-    private volatile Producer cryptoScoutStream;
+    private final int startBuffer;
+    private final long reconnectIntervalMs;
+    private final Map<String, ScheduledRunnable> reconnects = new HashMap<>();
+    private final List<AmqpEnvironment> environments;
+    private ArrayDeque<Pending> pending;
+    private boolean stopped;
+
+    private record Pending(Payload<Map<String, Object>> payload, byte[] bytes, SettablePromise<Void> promise) {
+    }
 
-    public static AmqpPublisher create(final NioReactor reactor, final Executor executor) {
-        return new AmqpPublisher(reactor, executor);
+    public static AmqpPublisher create(final NioReactor reactor, final Executor executor, final int startBuffer) {
+        return new AmqpPublisher(reactor, executor, startBuffer);
     }
 
-    private AmqpPublisher(final NioReactor reactor, final Executor executor) {
+    private AmqpPublisher(final NioReactor reactor, final Executor executor, final int startBuffer) {
         super(reactor);
         this.executor = executor;
+        this.startBuffer = startBuffer;
+        this.reconnectIntervalMs = AmqpConfig.getAmqpReconnectIntervalMs();
+        final var names = AmqpConfig.getAmqpEnvironments();
+        if (names.isEmpty()) {
+            throw new IllegalStateException("At least one stream environment must be configured");
+        }
+
+        this.environments = new ArrayList<>(names.size());
+        for (final var name : names) {
+            environments.add(AmqpEnvironment.create(reactor, name, AmqpConfig.getAmqpConfirmWindow(name),
+                    !environments.isEmpty()));
+        }
     }
 
     @Override
     public Promise<Void> start() {
-        return Promise.ofBlocking(executor, () -> {
-            try {
-                final var bybitStreamName = AmqpConfig.getAmqpBybitStream();
-                if (bybitStreamName == null || bybitStreamName.isBlank()) {
-                    throw new IllegalStateException("Bybit stream name must be configured");
-                }
+        stopped = false;
+        for (final var secondary : environments.subList(1, environments.size())) {
+            connect(secondary);
+        }
 
-                final var cryptoScoutStreamName = AmqpConfig.getAmqpCryptoScoutStream();
-                if (cryptoScoutStreamName == null || cryptoScoutStreamName.isBlank()) {
-                    throw new IllegalStateException("Crypto Scout stream name must be configured");
-                }
+        if (startBuffer == 0) {
+            return Promise.ofBlocking(executor, environments.getFirst()::connect);
+        }
 
-                environment = AmqpConfig.getEnvironment();
-                bybitStream = environment.producerBuilder()
-                        .name(bybitStreamName)
-                        .stream(bybitStreamName)
-                        .build();
-                cryptoScoutStream = environment.producerBuilder()
-                        .name(cryptoScoutStreamName)
-                        .stream(cryptoScoutStreamName)
-                        .build();
-            } catch (final Exception ex) {
-                LOGGER.error("Failed to start AmqpPublisher", ex);
-                throw new IllegalStateException("Failed to start AmqpPublisher", ex);
-            }
-        });
+        pending = new ArrayDeque<>();
+        connect(environments.getFirst());
+        return Promise.complete();
     }
 
     @Override
     public Promise<Void> stop() {
-        return Promise.ofBlocking(executor, () -> {
-            try {
-                close(bybitStream);
-            } finally {
-                bybitStream = null;
-                try {
-                    close(cryptoScoutStream);
-                } finally {
-                    cryptoScoutStream = null;
-                    closeEnvironment();
+        stopped = true;
+        reconnects.values().forEach(ScheduledRunnable::cancel);
+        reconnects.clear();
+        if (pending != null) {
+            final var buffered = pending;
+            pending = null;
+            LOGGER.warn("Stopping before the stream environment connected, dropping {} buffered payloads",
+                    buffered.size());
+            buffered.forEach(p -> p.promise().setException(new IllegalStateException("Publisher stopped")));
+        }
+
+        return Promise.ofBlocking(executor, () -> environments.forEach(AmqpEnvironment::close));
+    }
+
+    /**
+     * Connects an environment in the background and keeps retrying it every {@code amqp.reconnect.interval.ms}
+     * until it is connected or the publisher stops. Meanwhile a best-effort environment drops its copies and the
+     * primary keeps buffering, which it sends in order once connected; both are reported as {@code ready=false}.
+     */
+    private void connect(final AmqpEnvironment environment) {
+        reconnects.remove(environment.getName());
+        Promise.ofBlocking(executor, environment::connect).whenComplete((_, ex) -> {
+            if (stopped) {
+                // Connected while stopping: close what the stop did not see
+                Promise.ofBlocking(executor, environment::close);
+                return;
+            }
+
+            if (ex == null) {
+                if (environment == environments.getFirst()) {
+                    drain();
                 }
+
+                return;
             }
+
+            LOGGER.warn("Stream environment {} is down, reconnecting in {} ms", environment.getName(),
+                    reconnectIntervalMs);
+            reconnects.put(environment.getName(),
+                    reactor.delayBackground(reconnectIntervalMs, () -> connect(environment)));
         });
     }
 
+    private void drain() {
+        final var buffered = pending;
+        pending = null;
+        LOGGER.info("Stream environment connected, sending {} buffered payloads", buffered.size());
+        buffered.forEach(p -> send(p.payload(), p.bytes()).whenComplete((_, e) -> {
+            if (e == null) {
+                p.promise().set(null);
+            } else {
+                p.promise().setException(e);
+            }
+        }));
+    }
+
+    @Override
     public Promise<Void> publish(final Payload<Map<String, Object>> payload) {
+        return publish(payload, JsonUtils.object2Bytes(payload));
+    }
+
+    @Override
+    public Promise<Void> publish(final Payload<Map<String, Object>> payload, final byte[] bytes) {
+        return pending != null ? enqueue(payload, bytes) : send(payload, bytes);
+    }
+
+    private Promise<Void> enqueue(final Payload<Map<String, Object>> payload, final byte[] bytes) {
+        if (pending.size() == startBuffer) {
+            pending.removeFirst().promise()
+                    .setException(new IllegalStateException("Dropped while the stream environment connects"));
+        }
+
+        final var promise = new SettablePromise<Void>();
+        pending.addLast(new Pending(payload, bytes, promise));
+        return promise;
+    }
+
+    private Promise<Void> send(final Payload<Map<String, Object>> payload, final byte[] bytes) {
         final var provider = payload.getProvider();
         final var source = payload.getSource();
-        final var producer = getProducer(provider, source);
-        if (producer == null) {
+        if (!AmqpEnvironment.isRouted(provider, source)) {
             LOGGER.debug("Skipping publish: no stream route for provider={} source={}", provider, source);
             return Promise.of(null);
         }
 
-        final var settablePromise = new SettablePromise<Void>();
-        try {
-            final var message = producer.messageBuilder()
-                    .addData(JsonUtils.object2Bytes(payload))
-                    .build();
-            producer.send(message, status ->
-                    reactor.execute(() -> {
-                        if (status.isConfirmed()) {
-                            settablePromise.set(null);
-                        } else {
-                            settablePromise.setException(new IllegalStateException("Stream publish not confirmed: " + status));
-                        }
-                    })
-            );
-        } catch (final Exception ex) {
-            LOGGER.error("Failed to publish payload to stream: {}", ex.getMessage(), ex);
-            settablePromise.setException(ex);
+        final var primary = environments.getFirst().send(payload, bytes);
+        for (var i = 1; i < environments.size(); i++) {
+            environments.get(i).send(payload, bytes);
         }
 
-        return settablePromise;
+        return primary;
     }
 
-    private Producer getProducer(final Provider provider, final Source source) {
-        return Provider.CMC.equals(provider) ?
-                cryptoScoutStream :
-                Provider.BYBIT.equals(provider) && isBybitStream(source) ?
-                        bybitStream :
-                        null;
-    }
-
-    private boolean isBybitStream(final Source source) {
-        return Source.PMST.equals(source) || Source.PML.equals(source);
-    }
-
-    private void close(final Producer producer) {
-        try {
-            if (producer != null) {
-                producer.close();
-            }
-        } catch (final Exception ex) {
-            LOGGER.warn("Error closing stream producer", ex);
-        }
+    @Override
+    public boolean isReady() {
+        return environments.getFirst().isReady();
     }
 
-    private void closeEnvironment() {
-        try {
-            if (environment != null) {
-                environment.close();
-            }
-        } catch (final Exception ex) {
-            LOGGER.warn("Error closing stream environment", ex);
-        } finally {
-            environment = null;
-        }
+    @JmxAttribute
+    public String getEnvironments() {
+        return environments.stream()
+                .map(AmqpEnvironment::toString)
+                .collect(Collectors.joining("\n"));
     }
 
-    public boolean isReady() {
-        final var env = environment;
-        final var bybit = bybitStream;
-        final var scout = cryptoScoutStream;
-        return env != null && bybit != null && scout != null;
+    @JmxAttribute
+    public long getDropped() {
+        return environments.stream()
+                .mapToLong(AmqpEnvironment::getDropped)
+                .sum();
     }
 }
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.BASIS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.BASIS_BPS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.BPS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.FUNDING_RATE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.INDEX_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.MARK_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.PERP_ASK;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.PERP_BID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.PERP_LAST;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.PREMIUM_BPS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.SKEW_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.SPOT_ASK;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.SPOT_BID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Basis.SPOT_LAST;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BASIS_BOOK_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BASIS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKERS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKER_FUNDING_RATE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKER_INDEX_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKER_LAST_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKER_MARK_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Numbers.toDouble;
+
+/**
+ * Joins the spot (PMST) and perpetual (PML) feeds per symbol. The quote of each leg, best bid and ask and their
+ * exchange timestamp, comes from its {@code orderbook.50} book only, shared with the other listeners through
+ * {@link OrderBooks}; the tickers add the last price and, for the
+ * perpetual, mark, index and funding. When both legs have a quote whose timestamps differ by at most the skew bound
+ * and the spot or perp mid changed, a {@code basis.<symbol>} event is emitted to the Bybit stream.
+ */
+public final class BasisJoin extends AbstractReactive implements PayloadListener, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BasisJoin.class);
+    private final Sink sink;
+    private final OrderBooks orderBooks;
+    private final long maxSkewMs;
+    private final Map<String, Pair> pairs = new HashMap<>();
+    private final Map<String, Leg> spotLegs = new HashMap<>();
+    private final Map<String, Leg> perpLegs = new HashMap<>();
+    private long emittedEvents;
+    private long skewedUpdates;
+
+    private static final class Leg {
+        private final Pair pair;
+        private double last = Double.NaN;
+        private double bid = Double.NaN;
+        private double ask = Double.NaN;
+        private long ts;
+
+        private Leg(final Pair pair) {
+            this.pair = pair;
+        }
+
+        private double mid() {
+            return (bid + ask) / 2;
+        }
+    }
+
+    private static final class Pair {
+        private final String symbol;
+        private final Leg spot;
+        private final Leg perp;
+        private double markPrice = Double.NaN;
+        private double indexPrice = Double.NaN;
+        private double fundingRate = Double.NaN;
+        private double spotMid = Double.NaN;
+        private double perpMid = Double.NaN;
+
+        private Pair(final String symbol) {
+            this.symbol = symbol;
+            this.spot = new Leg(this);
+            this.perp = new Leg(this);
+        }
+    }
+
+    public static BasisJoin create(final NioReactor reactor, final Sink sink,
+                                   final long maxSkewMs) {
+        return create(reactor, sink, OrderBooks.create(), maxSkewMs);
+    }
+
+    public static BasisJoin create(final NioReactor reactor, final Sink sink, final OrderBooks orderBooks,
+                                   final long maxSkewMs) {
+        return new BasisJoin(reactor, sink, orderBooks, maxSkewMs);
+    }
+
+    private BasisJoin(final NioReactor reactor, final Sink sink, final OrderBooks orderBooks, final long maxSkewMs) {
+        super(reactor);
+        this.sink = sink;
+        this.orderBooks = orderBooks;
+        this.maxSkewMs = maxSkewMs;
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        final var data = payload.getData();
+        if (!Provider.BYBIT.equals(payload.getProvider()) || data == null ||
+                !(data.get(TOPIC) instanceof String topic)) {
+            return;
+        }
+
+        final var perp = Source.PML.equals(payload.getSource());
+        if (!perp && !Source.PMST.equals(payload.getSource())) {
+            return;
+        }
+
+        final boolean ticker;
+        if (topic.startsWith(TICKERS_PREFIX)) {
+            ticker = true;
+        } else if (topic.startsWith(BASIS_BOOK_PREFIX)) {
+            ticker = false;
+        } else {
+            return;
+        }
+
+        final var leg = getLeg(perp ? perpLegs : spotLegs, topic, perp);
+        if (ticker) {
+            // Tickers leave the quote alone: its bid, ask and timestamp come from the book
+            onTicker(leg, data.get(DATA));
+            return;
+        }
+
+        if (data.get(TS) instanceof Number ts) {
+            leg.ts = ts.longValue();
+        }
+
+        final var book = orderBooks.apply(PayloadKeys.of(payload).asString(), data);
+        if (book.isValid()) {
+            leg.bid = book.getBestBidPrice();
+            leg.ask = book.getBestAskPrice();
+        } else {
+            leg.bid = Double.NaN;
+            leg.ask = Double.NaN;
+        }
+
+        join(leg.pair);
+    }
+
+    @JmxAttribute
+    public int getSymbols() {
+        return pairs.size();
+    }
+
+    @JmxAttribute
+    public long getEmittedEvents() {
+        return emittedEvents;
+    }
+
+    @JmxAttribute
+    public long getSkewedUpdates() {
+        return skewedUpdates;
+    }
+
+    private void onTicker(final Leg leg, final Object ticker) {
+        // Linear ticker deltas carry only changed fields; absent fields keep their last value
+        if (!(ticker instanceof Map<?, ?> fields)) {
+            return;
+        }
+
+        leg.last = toDouble(fields.get(TICKER_LAST_PRICE), leg.last);
+        if (leg == leg.pair.perp) {
+            leg.pair.markPrice = toDouble(fields.get(TICKER_MARK_PRICE), leg.pair.markPrice);
+            leg.pair.indexPrice = toDouble(fields.get(TICKER_INDEX_PRICE), leg.pair.indexPrice);
+            leg.pair.fundingRate = toDouble(fields.get(TICKER_FUNDING_RATE), leg.pair.fundingRate);
+        }
+    }
+
+    private void join(final Pair pair) {
+        final var spotMid = pair.spot.mid();
+        final var perpMid = pair.perp.mid();
+        if (Double.isNaN(spotMid) || Double.isNaN(perpMid) || spotMid == pair.spotMid && perpMid == pair.perpMid) {
+            return;
+        }
+
+        final var skewMs = Math.abs(pair.perp.ts - pair.spot.ts);
+        if (skewMs > maxSkewMs) {
+            skewedUpdates++;
+            return;
+        }
+
+        pair.spotMid = spotMid;
+        pair.perpMid = perpMid;
+        emittedEvents++;
+        sink.publish(toPayload(pair, skewMs))
+                .whenException(ex -> LOGGER.debug("Failed to publish basis event for {}", pair.symbol, ex));
+    }
+
+    private Leg getLeg(final Map<String, Leg> legs, final String topic, final boolean perp) {
+        final var leg = legs.get(topic);
+        if (leg != null) {
+            return leg;
+        }
+
+        // First update of a topic binds it to the pair of its symbol
+        final var pair = pairs.computeIfAbsent(topic.substring(topic.lastIndexOf('.') + 1), Pair::new);
+        final var bound = perp ? pair.perp : pair.spot;
+        legs.put(topic, bound);
+        return bound;
+    }
+
+    private static Payload<Map<String, Object>> toPayload(final Pair pair, final long skewMs) {
+        final var basis = new LinkedHashMap<String, Object>();
+        basis.put(SPOT_BID, pair.spot.bid);
+        basis.put(SPOT_ASK, pair.spot.ask);
+        basis.put(SPOT_LAST, toNullable(pair.spot.last));
+        basis.put(PERP_BID, pair.perp.bid);
+        basis.put(PERP_ASK, pair.perp.ask);
+        basis.put(PERP_LAST, toNullable(pair.perp.last));
+        basis.put(BASIS, pair.perpMid - pair.spotMid);
+        basis.put(BASIS_BPS, (pair.perpMid - pair.spotMid) / pair.spotMid * BPS);
+        basis.put(MARK_PRICE, toNullable(pair.markPrice));
+        basis.put(INDEX_PRICE, toNullable(pair.indexPrice));
+        basis.put(PREMIUM_BPS, toNullable((pair.markPrice - pair.indexPrice) / pair.indexPrice * BPS));
+        basis.put(FUNDING_RATE, toNullable(pair.fundingRate));
+        basis.put(SKEW_MS, skewMs);
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, BASIS_PREFIX + pair.symbol);
+        data.put(TYPE, SNAPSHOT);
+        data.put(TS, Math.max(pair.spot.ts, pair.perp.ts));
+        data.put(DATA, basis);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PML);
+        payload.setData(data);
+        return payload;
+    }
+
+    private static Double toNullable(final double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? null : value;
+    }
+}
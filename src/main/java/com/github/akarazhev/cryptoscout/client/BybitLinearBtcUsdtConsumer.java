@@ -30,12 +30,21 @@ import io.activej.reactor.nio.NioReactor;
 public final class BybitLinearBtcUsdtConsumer extends AbstractBybitStreamConsumer {
 
     public static BybitLinearBtcUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
-                                                    final AmqpPublisher amqpPublisher) {
-        return new BybitLinearBtcUsdtConsumer(reactor, bybitStream, amqpPublisher);
+                                                    final Sink sink) {
+        return new BybitLinearBtcUsdtConsumer(reactor, bybitStream, null, null, null, sink);
+    }
+
+    public static BybitLinearBtcUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
+                                                    final BybitStream standbyStream,
+                                                    final StalenessWatchdog stalenessWatchdog,
+                                                    final KlineBackfill klineBackfill,
+                                                    final Sink sink) {
+        return new BybitLinearBtcUsdtConsumer(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 
     private BybitLinearBtcUsdtConsumer(final NioReactor reactor, final BybitStream bybitStream,
-                                       final AmqpPublisher amqpPublisher) {
-        super(reactor, bybitStream, amqpPublisher);
+                                       final BybitStream standbyStream, final StalenessWatchdog stalenessWatchdog,
+                                       final KlineBackfill klineBackfill, final Sink sink) {
+        super(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 }
@@ -30,12 +30,21 @@ import io.activej.reactor.nio.NioReactor;
 public final class BybitLinearEthUsdtConsumer extends AbstractBybitStreamConsumer {
 
     public static BybitLinearEthUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
-                                                    final AmqpPublisher amqpPublisher) {
-        return new BybitLinearEthUsdtConsumer(reactor, bybitStream, amqpPublisher);
+                                                    final Sink sink) {
+        return new BybitLinearEthUsdtConsumer(reactor, bybitStream, null, null, null, sink);
+    }
+
+    public static BybitLinearEthUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
+                                                    final BybitStream standbyStream,
+                                                    final StalenessWatchdog stalenessWatchdog,
+                                                    final KlineBackfill klineBackfill,
+                                                    final Sink sink) {
+        return new BybitLinearEthUsdtConsumer(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 
     private BybitLinearEthUsdtConsumer(final NioReactor reactor, final BybitStream bybitStream,
-                                       final AmqpPublisher amqpPublisher) {
-        super(reactor, bybitStream, amqpPublisher);
+                                       final BybitStream standbyStream, final StalenessWatchdog stalenessWatchdog,
+                                       final KlineBackfill klineBackfill, final Sink sink) {
+        super(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 }
@@ -30,12 +30,21 @@ import io.activej.reactor.nio.NioReactor;
 public final class BybitSpotEthUsdtConsumer extends AbstractBybitStreamConsumer {
 
     public static BybitSpotEthUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
-                                                  final AmqpPublisher amqpPublisher) {
-        return new BybitSpotEthUsdtConsumer(reactor, bybitStream, amqpPublisher);
+                                                  final Sink sink) {
+        return new BybitSpotEthUsdtConsumer(reactor, bybitStream, null, null, null, sink);
+    }
+
+    public static BybitSpotEthUsdtConsumer create(final NioReactor reactor, final BybitStream bybitStream,
+                                                  final BybitStream standbyStream,
+                                                  final StalenessWatchdog stalenessWatchdog,
+                                                  final KlineBackfill klineBackfill,
+                                                  final Sink sink) {
+        return new BybitSpotEthUsdtConsumer(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 
     private BybitSpotEthUsdtConsumer(final NioReactor reactor, final BybitStream bybitStream,
-                                     final AmqpPublisher amqpPublisher) {
-        super(reactor, bybitStream, amqpPublisher);
+                                     final BybitStream standbyStream, final StalenessWatchdog stalenessWatchdog,
+                                     final KlineBackfill klineBackfill, final Sink sink) {
+        super(reactor, bybitStream, standbyStream, stalenessWatchdog, klineBackfill, sink);
     }
 }
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.dns.IDnsClient;
+import io.activej.dns.protocol.DnsQuery;
+import io.activej.dns.protocol.DnsResponse;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caching {@link IDnsClient} wrapper. Answers are kept for their TTL (capped), failed lookups, including timeouts
+ * and other resolver errors, for a short negative TTL. Names used close to expiry are refreshed in the background,
+ * and expired answers are served immediately while a refresh runs, or for as long as the upstream resolver is
+ * unreachable, so reconnects do not wait on DNS.
+ */
+public final class CachingDnsClient extends AbstractReactive implements IDnsClient, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingDnsClient.class);
+    private final IDnsClient dnsClient;
+    private final long maxTtlMs;
+    private final long negativeTtlMs;
+    private final long prefetchMs;
+    private final long staleMs;
+    private final Map<DnsQuery, Entry> entries = new HashMap<>();
+    private final Map<DnsQuery, Promise<DnsResponse>> pending = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long staleHits;
+    private long prefetches;
+
+    private static final class Entry {
+        private final DnsResponse response;
+        private final Exception error;
+        private final long expiresAtMs;
+        private boolean used;
+
+        private Entry(final DnsResponse response, final Exception error, final long expiresAtMs) {
+            this.response = response;
+            this.error = error;
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        private boolean isAnswer() {
+            return response != null && response.isSuccessful();
+        }
+    }
+
+    public static CachingDnsClient create(final NioReactor reactor, final IDnsClient dnsClient, final long maxTtlMs,
+                                          final long negativeTtlMs, final long prefetchMs, final long staleMs) {
+        return new CachingDnsClient(reactor, dnsClient, maxTtlMs, negativeTtlMs, prefetchMs, staleMs);
+    }
+
+    private CachingDnsClient(final NioReactor reactor, final IDnsClient dnsClient, final long maxTtlMs,
+                             final long negativeTtlMs, final long prefetchMs, final long staleMs) {
+        super(reactor);
+        if (dnsClient == null) {
+            throw new IllegalStateException("DnsClient cannot be null");
+        }
+        this.dnsClient = dnsClient;
+        this.maxTtlMs = maxTtlMs;
+        this.negativeTtlMs = negativeTtlMs;
+        this.prefetchMs = prefetchMs;
+        this.staleMs = staleMs;
+    }
+
+    @Override
+    public Promise<DnsResponse> resolve(final DnsQuery query) {
+        return resolve(query, reactor.currentTimeMillis());
+    }
+
+    Promise<DnsResponse> resolve(final DnsQuery query, final long nowMs) {
+        final var entry = entries.get(query);
+        if (entry == null) {
+            misses++;
+            return fetch(query, nowMs);
+        }
+
+        if (nowMs < entry.expiresAtMs) {
+            hits++;
+            if (entry.error != null) {
+                return Promise.ofException(entry.error);
+            }
+
+            if (entry.isAnswer() && entry.used && nowMs >= entry.expiresAtMs - prefetchMs &&
+                    !pending.containsKey(query)) {
+                prefetches++;
+                fetch(query, nowMs);
+            }
+
+            entry.used = true;
+            return Promise.of(entry.response);
+        }
+
+        if (entry.isAnswer() && nowMs < entry.expiresAtMs + staleMs) {
+            staleHits++;
+            fetch(query, nowMs);
+            return Promise.of(entry.response);
+        }
+
+        entries.remove(query);
+        misses++;
+        return fetch(query, nowMs);
+    }
+
+    @JmxAttribute
+    public int getSize() {
+        return entries.size();
+    }
+
+    @JmxAttribute
+    public long getHits() {
+        return hits;
+    }
+
+    @JmxAttribute
+    public long getMisses() {
+        return misses;
+    }
+
+    @JmxAttribute
+    public long getStaleHits() {
+        return staleHits;
+    }
+
+    @JmxAttribute
+    public long getPrefetches() {
+        return prefetches;
+    }
+
+    private Promise<DnsResponse> fetch(final DnsQuery query, final long nowMs) {
+        final var inFlight = pending.get(query);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        final var promise = dnsClient.resolve(query)
+                .whenResult(response -> entries.put(query, new Entry(response, null, nowMs + getTtlMs(response))))
+                .whenException(ex -> onError(query, ex, nowMs))
+                .whenComplete(() -> pending.remove(query));
+        if (!promise.isComplete()) {
+            pending.put(query, promise);
+        }
+
+        return promise;
+    }
+
+    /**
+     * Caches the error for the negative TTL, unless an answer is kept to be served while stale.
+     */
+    private void onError(final DnsQuery query, final Exception ex, final long nowMs) {
+        LOGGER.warn("Failed to resolve {}: {}", query.getDomainName(), ex.getMessage());
+        final var entry = entries.get(query);
+        if (entry == null || !entry.isAnswer()) {
+            entries.put(query, new Entry(null, ex, nowMs + negativeTtlMs));
+        }
+    }
+
+    private long getTtlMs(final DnsResponse response) {
+        if (!response.isSuccessful() || response.getRecord() == null) {
+            return negativeTtlMs;
+        }
+
+        return Math.min(maxTtlMs, response.getRecord().getMinTtl() * 1000L);
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.bytebuf.ByteBuf;
+import io.activej.http.HttpHeaders;
+import io.activej.http.HttpRequest;
+import io.activej.http.IHttpClient;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.API_KEY_HEADER;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.BTC_ID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.CONVERT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.DAILY_PERIOD;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.ERROR_CODE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.FGI_LIMIT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.FGI_PATH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.FGI_TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.NO_TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.OHLCV_PATH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.STATUS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.WEEKLY_PERIOD;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.DAY_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.HTTP_OK;
+import static com.github.akarazhev.cryptoscout.client.Constants.State.BACKFILL_PROGRESS_FILE;
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTES;
+
+/**
+ * One-shot backfill of CMC history (BTC/USD daily and weekly, Fear &amp; Greed). Each source's range is split into
+ * chunks that are fetched concurrently under the shared rate limit, parsed on the executor and published strictly in
+ * chronological order. The end of the last published chunk is persisted per source, so an interrupted run resumes
+ * where it stopped.
+ */
+public final class CmcBackfill extends AbstractReactive implements ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmcBackfill.class);
+    private static final List<Source> SOURCES = List.of(Source.BTC_USD_1D, Source.BTC_USD_1W, Source.FGI_API_PRO_L);
+    private final Executor executor;
+    private final IHttpClient httpClient;
+    private final Sink sink;
+    private final String apiUrl;
+    private final String apiKey;
+    private final long fromMs;
+    private final long chunkMs;
+    private final int parallelism;
+    private final long rateLimitMs;
+    private final int attempts;
+    private final long attemptsDelayMs;
+    private final StateFile progress;
+    private long nextRequestAtMs;
+    private long publishedChunks;
+    private long publishedQuotes;
+    private long failedChunks;
+
+    public static CmcBackfill create(final NioReactor reactor, final Executor executor, final IHttpClient httpClient,
+                                     final Sink sink, final Path stateDir) {
+        return new CmcBackfill(reactor, executor, httpClient, sink, stateDir);
+    }
+
+    private CmcBackfill(final NioReactor reactor, final Executor executor, final IHttpClient httpClient,
+                        final Sink sink, final Path stateDir) {
+        super(reactor);
+        this.executor = executor;
+        this.httpClient = httpClient;
+        this.sink = sink;
+        this.progress = StateFile.create(reactor, executor, stateDir.resolve(BACKFILL_PROGRESS_FILE));
+        this.apiUrl = CmcApiConfig.getCmcApiUrl();
+        this.apiKey = CmcApiConfig.getCmcApiKey();
+        this.fromMs = CmcApiConfig.getCmcBackfillFromMs();
+        this.chunkMs = CmcApiConfig.getCmcBackfillChunkDays() * DAY_MS;
+        this.parallelism = CmcApiConfig.getCmcBackfillParallelism();
+        this.rateLimitMs = CmcApiConfig.getCmcRateLimitMs();
+        this.attempts = CmcApiConfig.getCmcFetchAttempts();
+        this.attemptsDelayMs = CmcApiConfig.getCmcFetchAttemptsDelay() * 1000L;
+    }
+
+    /**
+     * Backfills all sources one after another, resuming from the persisted progress.
+     */
+    public Promise<Void> backfill() {
+        var promise = progress.load();
+        for (final var source : SOURCES) {
+            promise = promise.then(() -> backfill(source));
+        }
+
+        return promise
+                .then(progress::flush)
+                .whenResult(() -> LOGGER.info("CMC backfill completed: {} chunks, {} quotes published",
+                        publishedChunks, publishedQuotes));
+    }
+
+    @JmxAttribute
+    public long getPublishedChunks() {
+        return publishedChunks;
+    }
+
+    @JmxAttribute
+    public long getPublishedQuotes() {
+        return publishedQuotes;
+    }
+
+    @JmxAttribute
+    public long getFailedChunks() {
+        return failedChunks;
+    }
+
+    private Promise<Void> backfill(final Source source) {
+        final var toMs = reactor.currentTimeMillis();
+        final var startMs = Math.max(fromMs, getProgress(source));
+        final var chunks = chunks(startMs, toMs, chunkMs);
+        if (chunks.isEmpty()) {
+            LOGGER.info("CMC backfill of {} is up to date", source);
+            return Promise.complete();
+        }
+
+        LOGGER.info("CMC backfill of {} from {} to {} in {} chunks", source, Instant.ofEpochMilli(startMs),
+                Instant.ofEpochMilli(toMs), chunks.size());
+        return new Run(source, chunks, toMs).start();
+    }
+
+    /**
+     * Keeps up to {@code parallelism} chunk fetches in flight and publishes completed chunks in order. Publishing is
+     * chained, so a chunk is only marked done once the publishes before it were confirmed.
+     */
+    private final class Run {
+        private final Source source;
+        private final List<long[]> chunks;
+        private final long nowMs;
+        private final List<Map<String, Object>> fetched;
+        private final SettablePromise<Void> fetchedAll = new SettablePromise<>();
+        private Promise<Void> lastPublish = Promise.complete();
+        private int next;
+        private int published;
+        private int inFlight;
+
+        private Run(final Source source, final List<long[]> chunks, final long nowMs) {
+            this.source = source;
+            this.chunks = chunks;
+            this.nowMs = nowMs;
+            this.fetched = new ArrayList<>(chunks.size());
+            for (var i = 0; i < chunks.size(); i++) {
+                fetched.add(null);
+            }
+        }
+
+        private Promise<Void> start() {
+            launch();
+            return fetchedAll.then(() -> lastPublish);
+        }
+
+        private void launch() {
+            while (!fetchedAll.isComplete() && inFlight < parallelism && next < chunks.size()) {
+                final var index = next++;
+                inFlight++;
+                fetch(source, chunks.get(index), nowMs, 1).whenComplete((data, ex) -> onFetched(index, data, ex));
+            }
+        }
+
+        private void onFetched(final int index, final Map<String, Object> data, final Exception ex) {
+            inFlight--;
+            if (fetchedAll.isComplete()) {
+                return;
+            }
+
+            if (ex != null) {
+                failedChunks++;
+                LOGGER.error("CMC backfill of {} failed on chunk {} of {}, rerun to resume", source, index + 1,
+                        chunks.size(), ex);
+                fetchedAll.setException(ex);
+                return;
+            }
+
+            fetched.set(index, data);
+            while (published < chunks.size() && fetched.get(published) != null) {
+                final var chunk = chunks.get(published);
+                final var chunkData = fetched.set(published++, null);
+                lastPublish = lastPublish.then(() -> publish(source, chunk, chunkData));
+            }
+
+            if (published == chunks.size()) {
+                fetchedAll.set(null);
+            } else {
+                launch();
+            }
+        }
+    }
+
+    private Promise<Void> publish(final Source source, final long[] chunk, final Map<String, Object> data) {
+        final var count = data.get(DATA) instanceof List<?> list ? list.size() :
+                data.get(QUOTES) instanceof List<?> list ? list.size() : 0;
+        if (count == 0) {
+            setProgress(source, chunk[1]);
+            return Promise.complete();
+        }
+
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.CMC);
+        payload.setSource(source);
+        payload.setData(data);
+        return sink.publish(payload)
+                .whenResult(() -> {
+                    publishedChunks++;
+                    publishedQuotes += count;
+                    setProgress(source, chunk[1]);
+                });
+    }
+
+    private Promise<Map<String, Object>> fetch(final Source source, final long[] chunk, final long nowMs,
+                                               final int attempt) {
+        final var url = getUrl(source, chunk, nowMs);
+        return acquire()
+                .then(() -> httpClient.request(HttpRequest.get(url)
+                        .withHeader(HttpHeaders.of(API_KEY_HEADER), apiKey)
+                        .build()))
+                .then(response -> {
+                    if (response.getCode() != HTTP_OK) {
+                        return Promise.ofException(new IllegalStateException("Unexpected HTTP code " +
+                                response.getCode() + " for " + url));
+                    }
+
+                    return response.loadBody().map(ByteBuf::asArray);
+                })
+                .then(body -> Promise.ofBlocking(executor, () -> parse(source, body, chunk)))
+                .then((data, ex) -> {
+                    if (ex == null) {
+                        return Promise.of(data);
+                    }
+
+                    if (attempt >= attempts) {
+                        return Promise.ofException(ex);
+                    }
+
+                    LOGGER.warn("CMC backfill attempt {} of {} failed: {}", attempt, attempts, ex.getMessage());
+                    return delay(attemptsDelayMs).then(() -> fetch(source, chunk, nowMs, attempt + 1));
+                });
+    }
+
+    private String getUrl(final Source source, final long[] chunk, final long nowMs) {
+        if (Source.FGI_API_PRO_L.equals(source)) {
+            // The Fear & Greed history is paged by offset from today, newest first
+            final var offset = Math.max(1, (nowMs - chunk[1]) / DAY_MS + 1);
+            final var limit = Math.min(FGI_LIMIT, (chunk[1] - chunk[0]) / DAY_MS + 2);
+            return apiUrl + FGI_PATH + "?start=" + offset + "&limit=" + limit;
+        }
+
+        return getOhlcvUrl(apiUrl, source, chunk);
+    }
+
+    /**
+     * Builds the BTC/USD OHLCV request for the quotes of {@code [range[0], range[1])} only.
+     */
+    static String getOhlcvUrl(final String apiUrl, final Source source, final long[] range) {
+        return apiUrl + OHLCV_PATH + "?id=" + BTC_ID + "&convert=" + CONVERT + "&time_period=" +
+                (Source.BTC_USD_1W.equals(source) ? WEEKLY_PERIOD : DAILY_PERIOD) +
+                "&time_start=" + Instant.ofEpochMilli(range[0]) + "&time_end=" + Instant.ofEpochMilli(range[1]);
+    }
+
+    private Promise<Void> acquire() {
+        final var nowMs = reactor.currentTimeMillis();
+        final var atMs = Math.max(nowMs, nextRequestAtMs);
+        nextRequestAtMs = atMs + rateLimitMs;
+        return delay(atMs - nowMs);
+    }
+
+    private Promise<Void> delay(final long delayMs) {
+        if (delayMs <= 0) {
+            return Promise.complete();
+        }
+
+        final var promise = new SettablePromise<Void>();
+        reactor.delay(delayMs, () -> promise.set(null));
+        return promise;
+    }
+
+    private long getProgress(final Source source) {
+        final var value = progress.get(source.name());
+        return value != null ? Long.parseLong(value) : NO_TIMESTAMP;
+    }
+
+    private void setProgress(final Source source, final long endMs) {
+        progress.put(source.name(), Long.toString(endMs));
+    }
+
+    /**
+     * Splits {@code [fromMs, toMs)} into consecutive chunks of at most {@code chunkMs}.
+     */
+    static List<long[]> chunks(final long fromMs, final long toMs, final long chunkMs) {
+        final var chunks = new ArrayList<long[]>();
+        for (var start = fromMs; start < toMs; start += chunkMs) {
+            chunks.add(new long[]{start, Math.min(start + chunkMs, toMs)});
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Parses a CMC history response and keeps the entries that fall into {@code [chunk[0], chunk[1])}, oldest first.
+     * BTC/USD yields the {@code data} object with its {@code quotes} filtered, Fear &amp; Greed a map holding the
+     * filtered {@code data} list.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> parse(final Source source, final byte[] body, final long[] chunk) {
+        final Map<?, ?> response = JsonUtils.bytes2Object(body, Map.class);
+
+        if (response.get(STATUS) instanceof Map<?, ?> status && status.get(ERROR_CODE) instanceof Number code &&
+                code.intValue() != 0) {
+            throw new IllegalStateException("CMC request failed: " + status);
+        }
+
+        if (Source.FGI_API_PRO_L.equals(source)) {
+            final var entries = new ArrayList<Map<String, Object>>();
+            if (response.get(DATA) instanceof List<?> list) {
+                for (final var entry : list) {
+                    if (entry instanceof Map<?, ?> map && isInChunk(getFgiTimestamp(map), chunk)) {
+                        entries.add((Map<String, Object>) map);
+                    }
+                }
+            }
+
+            entries.sort(Comparator.comparingLong(CmcBackfill::getFgiTimestamp));
+            final var data = new LinkedHashMap<String, Object>();
+            data.put(DATA, entries);
+            return data;
+        }
+
+        if (!(response.get(DATA) instanceof Map<?, ?> map)) {
+            throw new IllegalStateException("Invalid CMC response: " + response);
+        }
+
+        final var data = (Map<String, Object>) map;
+        final var quotes = new ArrayList<Map<String, Object>>();
+        if (data.get(QUOTES) instanceof List<?> list) {
+            for (final var quote : list) {
+                if (quote instanceof Map<?, ?> q &&
+                        isInChunk(CmcParserConsumer.getTimestamp((Map<String, Object>) q), chunk)) {
+                    quotes.add((Map<String, Object>) q);
+                }
+            }
+        }
+
+        quotes.sort(Comparator.comparingLong(CmcParserConsumer::getTimestamp));
+        data.put(QUOTES, quotes);
+        return data;
+    }
+
+    private static boolean isInChunk(final long timestamp, final long[] chunk) {
+        return timestamp != NO_TIMESTAMP && timestamp >= chunk[0] && timestamp < chunk[1];
+    }
+
+    private static long getFgiTimestamp(final Map<?, ?> entry) {
+        final var value = entry.get(FGI_TIMESTAMP);
+        try {
+            // Seconds since the epoch, as a string or a number
+            return value instanceof Number n ? n.longValue() * 1000L :
+                    value instanceof String s ? Long.parseLong(s) * 1000L : NO_TIMESTAMP;
+        } catch (final NumberFormatException ex) {
+            return NO_TIMESTAMP;
+        }
+    }
+}
@@ -24,23 +24,28 @@
 
 package com.github.akarazhev.cryptoscout.client;
 
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
 import com.github.akarazhev.jcryptolib.cmc.parser.CmcParser;
 import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
 import com.github.akarazhev.jcryptolib.stream.Source;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
 import io.activej.async.service.ReactiveService;
 import io.activej.datastream.consumer.StreamConsumers;
 import io.activej.promise.Promise;
 import io.activej.reactor.AbstractReactive;
 import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.ISO_MIN_LENGTH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.NO_TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.DAY_MS;
 import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTE;
 import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTES;
 import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.TIMESTAMP;
@@ -50,16 +55,41 @@ import static com.github.akarazhev.jcryptolib.stream.Source.BTC_USD_1W;
 
 public final class CmcParserConsumer extends AbstractReactive implements ReactiveService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CmcParserConsumer.class);
+    private static final List<Source> QUOTE_SOURCES = List.of(BTC_USD_1D, BTC_USD_1W);
     private final CmcParser cmcParser;
-    private final AmqpPublisher amqpPublisher;
+    private final ContentHashCache contentHashCache;
+    private final QuoteCursor quoteCursor;
+    private final CmcQuoteFetcher quoteFetcher;
+    private final Sink sink;
+    private final long fetchStartAtMs;
+    private final long fetchIntervalMs;
+    private ScheduledRunnable poll;
+    private boolean running;
 
     public static CmcParserConsumer create(final NioReactor reactor, final CmcParser cmcParser,
-                                           final AmqpPublisher amqpPublisher) {
-        return new CmcParserConsumer(reactor, cmcParser, amqpPublisher);
+                                           final Sink sink) {
+        return new CmcParserConsumer(reactor, cmcParser, null, null, null, sink);
+    }
+
+    public static CmcParserConsumer create(final NioReactor reactor, final CmcParser cmcParser,
+                                           final ContentHashCache contentHashCache,
+                                           final Sink sink) {
+        return new CmcParserConsumer(reactor, cmcParser, contentHashCache, null, null, sink);
+    }
+
+    /**
+     * With a quote cursor the BTC/USD quotes are not taken from the parser: they are polled on the parser's
+     * schedule with ranged requests that start at the cursor.
+     */
+    public static CmcParserConsumer create(final NioReactor reactor, final CmcParser cmcParser,
+                                           final ContentHashCache contentHashCache, final QuoteCursor quoteCursor,
+                                           final CmcQuoteFetcher quoteFetcher, final Sink sink) {
+        return new CmcParserConsumer(reactor, cmcParser, contentHashCache, quoteCursor, quoteFetcher, sink);
     }
 
     private CmcParserConsumer(final NioReactor reactor, final CmcParser cmcParser,
-                              final AmqpPublisher amqpPublisher) {
+                              final ContentHashCache contentHashCache, final QuoteCursor quoteCursor,
+                              final CmcQuoteFetcher quoteFetcher, final Sink sink) {
         super(reactor);
         if (reactor == null) {
             throw new IllegalStateException("Reactor cannot be null");
@@ -67,38 +97,166 @@ public final class CmcParserConsumer extends AbstractReactive implements Reactiv
         if (cmcParser == null) {
             throw new IllegalStateException("CmcParser cannot be null");
         }
-        if (amqpPublisher == null) {
-            throw new IllegalStateException("AmqpPublisher cannot be null");
+        if (sink == null) {
+            throw new IllegalStateException("Sink cannot be null");
+        }
+        if (quoteCursor != null && quoteFetcher == null) {
+            throw new IllegalStateException("CmcQuoteFetcher cannot be null with a quote cursor");
         }
         this.cmcParser = cmcParser;
-        this.amqpPublisher = amqpPublisher;
+        this.contentHashCache = contentHashCache;
+        this.quoteCursor = quoteCursor;
+        this.quoteFetcher = quoteFetcher;
+        this.sink = sink;
+        this.fetchStartAtMs = quoteCursor != null ? CmcApiConfig.getCmcFetchStartAtMs() : 0;
+        this.fetchIntervalMs = quoteCursor != null ? CmcApiConfig.getCmcFetchIntervalMs() : 0;
     }
 
     @Override
     public Promise<Void> start() {
+        if (quoteCursor != null) {
+            running = true;
+            poll();
+        }
+
         return cmcParser.start().then(stream ->
                 stream.streamTo(StreamConsumers.ofConsumer((Payload<Map<String, Object>> payload) -> {
                     if (payload != null) {
-                        if (isBtcUsdTimeframe(payload.getSource())) {
-                            payload.setData(selectLatestQuote(payload.getData()));
-                            amqpPublisher.publish(payload);
-                        } else {
-                            amqpPublisher.publish(payload);
-                        }
+                        onFetched(payload);
                     }
                 })));
     }
 
+    private void onFetched(final Payload<Map<String, Object>> payload) {
+        final var event = new JfrEvents.CmcFetch();
+        if (event.isEnabled()) {
+            // Described up front: the quote list is trimmed while the payload is handled
+            event.describe(payload);
+        }
+
+        event.begin();
+        onPayload(payload);
+        event.end();
+        event.commit();
+    }
+
+    /**
+     * Fetches the quotes after the cursor of each BTC/USD source, then schedules the next poll. A failed fetch
+     * leaves the cursor in place, so the next poll asks for the same range again.
+     */
+    private void poll() {
+        var promise = Promise.complete();
+        for (final var source : QUOTE_SOURCES) {
+            promise = promise.then(() -> quoteFetcher.fetch(source, quoteCursor.get(source))
+                    .then((data, ex) -> {
+                        if (ex != null) {
+                            LOGGER.warn("Failed to fetch {} quotes, retrying with the next poll", source, ex);
+                        } else if (running) {
+                            final var payload = new Payload<Map<String, Object>>();
+                            payload.setProvider(Provider.CMC);
+                            payload.setSource(source);
+                            payload.setData(data);
+                            onFetched(payload);
+                        }
+
+                        return Promise.complete();
+                    }));
+        }
+
+        promise.whenComplete(() -> {
+            if (running) {
+                final var nowMs = reactor.currentTimeMillis();
+                poll = reactor.delayBackground(nextPollAtMs(nowMs, fetchStartAtMs, fetchIntervalMs) - nowMs,
+                        this::poll);
+            }
+        });
+    }
+
+    private void onPayload(final Payload<Map<String, Object>> payload) {
+        if (isBtcUsdTimeframe(payload.getSource())) {
+            if (quoteCursor != null) {
+                onQuotes(payload);
+                return;
+            }
+
+            payload.setData(selectLatestQuote(payload.getData()));
+        }
+
+        publishIfChanged(payload);
+    }
+
+    private void onQuotes(final Payload<Map<String, Object>> payload) {
+        final var source = payload.getSource();
+        final var data = payload.getData();
+        @SuppressWarnings("unchecked") final var quotes = (List<Map<String, Object>>) data.get(QUOTES);
+        final var total = quotes != null ? quotes.size() : 0;
+        final var newest = retainNewerQuotes(data, quoteCursor.get(source));
+        if (newest == NO_TIMESTAMP) {
+            quoteCursor.onSkipped(total);
+            LOGGER.debug("Skipping publish: no quotes newer than cursor for source={}", source);
+            return;
+        }
+
+        @SuppressWarnings("unchecked") final var retained = (List<Map<String, Object>>) data.get(QUOTES);
+        quoteCursor.onSkipped(total - retained.size());
+        // Only a confirmed publish moves the cursor, so quotes that were dropped or held back are fetched again
+        publishIfChanged(payload).whenResult(() -> quoteCursor.advance(source, newest));
+    }
+
     @Override
     public Promise<Void> stop() {
+        running = false;
+        if (poll != null) {
+            poll.cancel();
+            poll = null;
+        }
+
         return cmcParser.stop();
     }
 
+    /**
+     * Returns the next poll time after {@code nowMs}: the daily start time plus a whole number of intervals.
+     */
+    static long nextPollAtMs(final long nowMs, final long startAtMs, final long intervalMs) {
+        final var firstMs = nowMs - Math.floorMod(nowMs, DAY_MS) + startAtMs;
+        if (nowMs < firstMs) {
+            return firstMs;
+        }
+
+        return firstMs + ((nowMs - firstMs) / intervalMs + 1) * intervalMs;
+    }
+
+    /**
+     * Publishes the payload unless the same content was already published for its source. The content hash is
+     * recorded only once the sink confirms the publish, so a failed publish is retried with the next fetch.
+     */
+    private Promise<Void> publishIfChanged(final Payload<Map<String, Object>> payload) {
+        final var source = payload.getSource();
+        if (contentHashCache == null || source == null) {
+            return sink.publish(payload);
+        }
+
+        final var hash = ContentHashCache.hash(JsonUtils.object2Bytes(payload.getData()));
+        if (!contentHashCache.isChanged(source, hash)) {
+            LOGGER.debug("Skipping publish: unchanged payload for source={}", source);
+            return Promise.complete();
+        }
+
+        return sink.publish(payload)
+                .whenResult(() -> contentHashCache.record(source, hash))
+                .whenException(ex -> LOGGER.warn("Failed to publish {} payload, retrying with the next fetch",
+                        source, ex));
+    }
+
     private static boolean isBtcUsdTimeframe(final Source source) {
         return BTC_USD_1D.equals(source) || BTC_USD_1W.equals(source);
     }
 
-    private Map<String, Object> selectLatestQuote(final Map<String, Object> data) {
+    /**
+     * Keeps only the most recent quote in a single pass. Timestamps are compared as epoch millis parsed straight
+     * from the ISO-8601 strings, and the quote list is replaced in place instead of copying the payload map.
+     */
+    static Map<String, Object> selectLatestQuote(final Map<String, Object> data) {
         @SuppressWarnings("unchecked") final var quotes = (List<Map<String, Object>>) data.get(QUOTES);
         if (quotes == null || quotes.isEmpty()) {
             LOGGER.warn("No quotes found in data");
@@ -106,12 +264,11 @@ public final class CmcParserConsumer extends AbstractReactive implements Reactiv
         }
 
         Map<String, Object> latest = null;
-        Instant latestTs = null;
+        var latestTs = NO_TIMESTAMP;
         for (final var quote : quotes) {
-            @SuppressWarnings("unchecked") final var q = (Map<String, Object>) quote.get(QUOTE);
-            if (q != null) {
-                final var ts = getTimestamp((String) q.get(TIMESTAMP), (String) quote.get(TIME_CLOSE));
-                if (latestTs == null || ts != null && ts.isAfter(latestTs)) {
+            if (quote.get(QUOTE) != null) {
+                final var ts = getTimestamp(quote);
+                if (latest == null || ts > latestTs) {
                     latestTs = ts;
                     latest = quote;
                 }
@@ -123,18 +280,138 @@ public final class CmcParserConsumer extends AbstractReactive implements Reactiv
             return data;
         }
 
-        final var newData = new LinkedHashMap<>(data);
-        final var onlyLatest = new ArrayList<Map<String, Object>>(1);
-        onlyLatest.add(latest);
-        newData.put(QUOTES, onlyLatest);
-        return newData;
+        if (quotes.size() > 1) {
+            data.put(QUOTES, List.of(latest));
+        }
+
+        return data;
     }
 
-    private Instant getTimestamp(final String timestamp, final String timeClose) {
+    /**
+     * Replaces the quote list in place with the quotes newer than the cursor, oldest first, and returns the newest
+     * retained timestamp or {@link Long#MIN_VALUE} if none is newer. Without a cursor only the latest quote is kept,
+     * as before, so the first run does not republish the whole window.
+     */
+    static long retainNewerQuotes(final Map<String, Object> data, final long cursor) {
+        @SuppressWarnings("unchecked") final var quotes = (List<Map<String, Object>>) data.get(QUOTES);
+        if (quotes == null || quotes.isEmpty()) {
+            return NO_TIMESTAMP;
+        }
+
+        final var newer = new ArrayList<Map<String, Object>>(quotes.size());
+        final var timestamps = new long[quotes.size()];
+        var newest = NO_TIMESTAMP;
+        for (final var quote : quotes) {
+            if (quote.get(QUOTE) != null) {
+                final var ts = getTimestamp(quote);
+                if (ts != NO_TIMESTAMP && ts > cursor) {
+                    var i = newer.size();
+                    for (; i > 0 && timestamps[i - 1] > ts; i--) {
+                        timestamps[i] = timestamps[i - 1];
+                    }
+
+                    timestamps[i] = ts;
+                    newer.add(i, quote);
+                    newest = Math.max(newest, ts);
+                }
+            }
+        }
+
+        if (newer.isEmpty()) {
+            return NO_TIMESTAMP;
+        }
+
+        data.put(QUOTES, cursor == NO_TIMESTAMP ? List.of(newer.getLast()) : newer);
+        return newest;
+    }
+
+    /**
+     * Returns the quote timestamp ({@code quote.timestamp}, else {@code time_close}) as epoch millis, or
+     * {@link Long#MIN_VALUE} if it has none.
+     */
+    static long getTimestamp(final Map<String, Object> quote) {
+        final var timestamp = quote.get(QUOTE) instanceof Map<?, ?> q ? (String) q.get(TIMESTAMP) : null;
+        final var timeClose = (String) quote.get(TIME_CLOSE);
         if (timestamp == null && timeClose == null) {
-            return null;
+            return NO_TIMESTAMP;
         }
 
-        return Instant.parse(timestamp != null ? timestamp : timeClose);
+        return toEpochMillis(timestamp != null ? timestamp : timeClose);
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss[.SSS...](Z|±HH:mm)} to epoch millis without allocating, or returns
+     * {@link Long#MIN_VALUE} if the text is not in that form.
+     */
+    static long toEpochMillis(final String text) {
+        if (text.length() < ISO_MIN_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' ||
+                text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return NO_TIMESTAMP;
+        }
+
+        final var year = digits(text, 0, 4);
+        final var month = digits(text, 5, 7);
+        final var day = digits(text, 8, 10);
+        final var hour = digits(text, 11, 13);
+        final var minute = digits(text, 14, 16);
+        final var second = digits(text, 17, 19);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23 ||
+                minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return NO_TIMESTAMP;
+        }
+
+        var i = ISO_MIN_LENGTH;
+        var millis = 0;
+        if (i < text.length() && text.charAt(i) == '.') {
+            var scale = 100;
+            for (i++; i < text.length() && Character.isDigit(text.charAt(i)); i++) {
+                millis += (text.charAt(i) - '0') * scale;
+                scale /= 10;
+            }
+        }
+
+        var offsetSeconds = 0;
+        if (i == text.length() - 1 && text.charAt(i) == 'Z') {
+            offsetSeconds = 0;
+        } else if (i == text.length() - 6 && (text.charAt(i) == '+' || text.charAt(i) == '-') &&
+                text.charAt(i + 3) == ':') {
+            final var offsetHours = digits(text, i + 1, i + 3);
+            final var offsetMinutes = digits(text, i + 4, i + 6);
+            if (offsetHours < 0 || offsetMinutes < 0) {
+                return NO_TIMESTAMP;
+            }
+
+            offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (text.charAt(i) == '-' ? -1 : 1);
+        } else {
+            return NO_TIMESTAMP;
+        }
+
+        final var seconds = daysFromCivil(year, month, day) * 86_400L + hour * 3600L + minute * 60L + second -
+                offsetSeconds;
+        return seconds * 1000L + millis;
+    }
+
+    private static int digits(final String text, final int from, final int to) {
+        var value = 0;
+        for (var i = from; i < to; i++) {
+            final var c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (c - '0');
+        }
+
+        return value;
+    }
+
+    // Days since 1970-01-01 in the proleptic Gregorian calendar (H. Hinnant's days_from_civil)
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final var y = month <= 2 ? year - 1 : year;
+        final var era = Math.floorDiv(y, 400);
+        final var yoe = y - era * 400;
+        final var doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final var doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097L + doe - 719_468L;
     }
 }
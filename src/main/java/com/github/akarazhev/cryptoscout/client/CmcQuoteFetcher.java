@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.bytebuf.ByteBuf;
+import io.activej.http.HttpHeaders;
+import io.activej.http.HttpRequest;
+import io.activej.http.IHttpClient;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.nio.NioReactor;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.API_KEY_HEADER;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.NO_TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.QUOTE_LOOKBACK_PERIODS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.DAY_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.HTTP_OK;
+
+/**
+ * Fetches the BTC/USD quotes after a {@link QuoteCursor} with a ranged OHLCV request, the same request
+ * {@link CmcBackfill} uses for history, so a poll only asks CMC for quotes that were not published yet.
+ */
+public final class CmcQuoteFetcher extends AbstractReactive {
+    private final Executor executor;
+    private final IHttpClient httpClient;
+    private final String apiUrl;
+    private final String apiKey;
+
+    public static CmcQuoteFetcher create(final NioReactor reactor, final Executor executor,
+                                         final IHttpClient httpClient) {
+        return new CmcQuoteFetcher(reactor, executor, httpClient);
+    }
+
+    private CmcQuoteFetcher(final NioReactor reactor, final Executor executor, final IHttpClient httpClient) {
+        super(reactor);
+        if (httpClient == null) {
+            throw new IllegalStateException("HttpClient cannot be null");
+        }
+        this.executor = executor;
+        this.httpClient = httpClient;
+        this.apiUrl = CmcApiConfig.getCmcApiUrl();
+        this.apiKey = CmcApiConfig.getCmcApiKey();
+    }
+
+    /**
+     * Fetches the quotes of the source from the cursor up to now, oldest first, as the {@code data} object of the
+     * OHLCV response.
+     */
+    public Promise<Map<String, Object>> fetch(final Source source, final long cursor) {
+        final var range = getRange(source, cursor, reactor.currentTimeMillis());
+        final var url = CmcBackfill.getOhlcvUrl(apiUrl, source, range);
+        return httpClient.request(HttpRequest.get(url)
+                        .withHeader(HttpHeaders.of(API_KEY_HEADER), apiKey)
+                        .build())
+                .then(response -> {
+                    if (response.getCode() != HTTP_OK) {
+                        return Promise.ofException(new IllegalStateException("Unexpected HTTP code " +
+                                response.getCode() + " for " + url));
+                    }
+
+                    return response.loadBody().map(ByteBuf::asArray);
+                })
+                .then(body -> Promise.ofBlocking(executor, () -> CmcBackfill.parse(source, body, range)));
+    }
+
+    /**
+     * Returns {@code [cursor, nowMs)}. Without a cursor the last periods are requested, which always include the
+     * latest closed quote.
+     */
+    static long[] getRange(final Source source, final long cursor, final long nowMs) {
+        final var periodMs = Source.BTC_USD_1W.equals(source) ? 7 * DAY_MS : DAY_MS;
+        return new long[]{cursor != NO_TIMESTAMP ? cursor : nowMs - QUOTE_LOOKBACK_PERIODS * periodMs, nowMs};
+    }
+}
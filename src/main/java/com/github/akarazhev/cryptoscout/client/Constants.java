@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+final class Constants {
+    private Constants() {
+        throw new UnsupportedOperationException();
+    }
+
+    final static class Bybit {
+        private Bybit() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String TOPIC = "topic";
+        static final String TYPE = "type";
+        static final String SNAPSHOT = "snapshot";
+        static final String DELTA = "delta";
+        static final String GAP = "gap";
+        static final String EXPECTED_UPDATE_ID = "expected";
+        static final String RECEIVED_UPDATE_ID = "received";
+        static final String TS = "ts";
+        static final String DATA = "data";
+        static final String CROSS_SEQUENCE = "cs";
+        static final String UPDATE_ID = "u";
+        static final String SEQUENCE = "seq";
+        static final String TRADE_ID = "i";
+        static final String START = "start";
+        static final String END = "end";
+        static final String INTERVAL = "interval";
+        static final String OPEN = "open";
+        static final String HIGH = "high";
+        static final String LOW = "low";
+        static final String CLOSE = "close";
+        static final String VOLUME = "volume";
+        static final String TURNOVER = "turnover";
+        static final String CONFIRM = "confirm";
+        static final String TIMESTAMP = "timestamp";
+        static final String SYMBOL = "s";
+        static final String BIDS = "b";
+        static final String ASKS = "a";
+        static final String BACKFILL = "backfill";
+        static final char KEY_SEPARATOR = '|';
+        static final String ORDER_BOOK_PREFIX = "orderbook.";
+        static final int ORDER_BOOK_INITIAL_LEVELS = 64;
+        static final String TICKERS_PREFIX = "tickers.";
+        static final String PUBLIC_TRADE_PREFIX = "publicTrade.";
+        static final String KLINE_PREFIX = "kline.";
+        static final String ALL_LIQUIDATION_PREFIX = "allLiquidation.";
+        static final String ANALYTICS_PREFIX = "analytics.";
+        static final String TRADE_PRICE = "p";
+        static final String TRADE_SIZE = "v";
+        static final String TRADE_SIDE = "S";
+        static final String BUY_SIDE = "Buy";
+        static final String TICKER_LAST_PRICE = "lastPrice";
+        static final String TICKER_MARK_PRICE = "markPrice";
+        static final String TICKER_INDEX_PRICE = "indexPrice";
+        static final String TICKER_FUNDING_RATE = "fundingRate";
+        static final String BASIS_PREFIX = "basis.";
+        static final String LIQUIDATIONS_PREFIX = "liquidations.";
+        static final String BASIS_BOOK_PREFIX = "orderbook.50.";
+    }
+
+    final static class Rest {
+        private Rest() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String KLINE_PATH = "/v5/market/kline";
+        static final String SPOT_CATEGORY = "spot";
+        static final String LINEAR_CATEGORY = "linear";
+        static final String RET_CODE = "retCode";
+        static final String RESULT = "result";
+        static final String LIST = "list";
+        static final String DAILY_INTERVAL = "D";
+        static final int KLINE_LIMIT = 1000;
+        static final int HTTP_OK = 200;
+        static final long MINUTE_MS = 60_000L;
+        static final long DAY_MS = 86_400_000L;
+    }
+
+    final static class Cmc {
+        private Cmc() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final long NO_TIMESTAMP = Long.MIN_VALUE;
+        static final int ISO_MIN_LENGTH = 19;
+        static final String OHLCV_PATH = "/v2/cryptocurrency/ohlcv/historical";
+        static final String FGI_PATH = "/v3/fear-and-greed/historical";
+        static final String API_KEY_HEADER = "X-CMC_PRO_API_KEY";
+        static final String BTC_ID = "1";
+        static final String CONVERT = "USD";
+        static final String DAILY_PERIOD = "daily";
+        static final String WEEKLY_PERIOD = "weekly";
+        static final String STATUS = "status";
+        static final String ERROR_CODE = "error_code";
+        static final String DATA = "data";
+        static final String FGI_TIMESTAMP = "timestamp";
+        static final int FGI_LIMIT = 500;
+        static final int QUOTE_LOOKBACK_PERIODS = 2;
+    }
+
+    final static class Snapshot {
+        private Snapshot() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String SPOT_MARKET = "spot";
+        static final String LINEAR_MARKET = "linear";
+        static final String CMC_MARKET = "cmc";
+        static final String BTC_USD_SYMBOL = "BTCUSD";
+        static final String FGI_SYMBOL = "FGI";
+        static final String DAILY_TOPIC = "1d";
+        static final String WEEKLY_TOPIC = "1w";
+        static final String LATEST_TOPIC = "latest";
+    }
+
+    final static class Analytics {
+        private Analytics() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String WINDOW_S = "windowS";
+        static final String LAST_PRICE = "lastPrice";
+        static final String VWAP = "vwap";
+        static final String VOLATILITY = "volatility";
+        static final String BUY_VOLUME = "buyVolume";
+        static final String SELL_VOLUME = "sellVolume";
+        static final String IMBALANCE = "imbalance";
+        static final String TRADES = "trades";
+        static final String TRADE_RATE = "tradeRate";
+    }
+
+    final static class Basis {
+        private Basis() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String SPOT_BID = "spotBid";
+        static final String SPOT_ASK = "spotAsk";
+        static final String SPOT_LAST = "spotLast";
+        static final String PERP_BID = "perpBid";
+        static final String PERP_ASK = "perpAsk";
+        static final String PERP_LAST = "perpLast";
+        static final String BASIS = "basis";
+        static final String BASIS_BPS = "basisBps";
+        static final String MARK_PRICE = "markPrice";
+        static final String INDEX_PRICE = "indexPrice";
+        static final String PREMIUM_BPS = "premiumBps";
+        static final String FUNDING_RATE = "fundingRate";
+        static final String SKEW_MS = "skewMs";
+        static final double BPS = 10_000.0;
+    }
+
+    final static class Liquidations {
+        private Liquidations() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String WINDOW_1S = "1s";
+        static final String WINDOW_10S = "10s";
+        static final String WINDOW_1M = "1m";
+        static final String BUY_NOTIONAL = "buyNotional";
+        static final String SELL_NOTIONAL = "sellNotional";
+        static final String COUNT = "count";
+        static final String LARGEST = "largest";
+        static final String BURST = "burst";
+        static final int SECOND_S = 1;
+        static final int TEN_SECONDS_S = 10;
+        static final int MINUTE_S = 60;
+    }
+
+    final static class Jfr {
+        private Jfr() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String CATEGORY = "Crypto Scout";
+        static final String PAYLOAD_RECEIVED = "cryptoscout.PayloadReceived";
+        static final String PAYLOAD_ENCODED = "cryptoscout.PayloadEncoded";
+        static final String MESSAGE_SENT = "cryptoscout.MessageSent";
+        static final String CONFIRM_RECEIVED = "cryptoscout.ConfirmReceived";
+        static final String RECONNECT = "cryptoscout.Reconnect";
+        static final String CMC_FETCH = "cryptoscout.CmcFetch";
+        static final String PAYLOAD_THRESHOLD = "1 ms";
+        static final String CONFIRM_THRESHOLD = "50 ms";
+    }
+
+    final static class LoopMonitor {
+        private LoopMonitor() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String SAMPLER_THREAD = "event-loop-monitor";
+        static final int SAMPLES_PER_INTERVAL = 4;
+        static final int MAX_FRAMES = 32;
+    }
+
+    final static class Sse {
+        private Sse() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String EVENT_PREFIX = "event: ";
+        static final String DATA_PREFIX = "\ndata: ";
+        static final String EVENT_END = "\n\n";
+    }
+
+    final static class KlineColumns {
+        private KlineColumns() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String COLUMN_SUFFIX = ".col";
+        static final int HEADER_BYTES = Long.BYTES;
+        static final int VALUE_BYTES = Long.BYTES;
+        static final int INITIAL_ROWS = 1024;
+    }
+
+    final static class SegmentLog {
+        private SegmentLog() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String SEGMENT_SUFFIX = ".log";
+        static final String SEGMENT_FORMAT = "%020d" + SEGMENT_SUFFIX;
+        static final int LENGTH_BYTES = Integer.BYTES;
+    }
+
+    final static class Pipeline {
+        private Pipeline() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String RULE_ARROW = "->";
+        static final String SELECTOR_SEPARATOR = "/";
+        static final String STAGE_SEPARATOR = "|";
+        static final String ANY = "*";
+        static final String NO_TOPIC = "";
+        static final String FILTER = "filter";
+        static final String MAP = "map";
+        static final String CONFLATE = "conflate";
+        static final String AGGREGATE = "aggregate";
+        static final String ROUTE = "route";
+        static final String LATEST_QUOTE = "latestQuote";
+        static final String DROP_FIELD = "drop=";
+        static final String LOCAL_TARGET = "local";
+        static final String BYBIT_TARGET = "bybit";
+        static final String CMC_TARGET = "cmc";
+        static final String BATCH_PREFIX = "batch.";
+        static final String ARGUMENT_SEPARATOR = ",";
+        static final int AGGREGATE_MAX_AGE_MS = 1_000;
+    }
+
+    final static class State {
+        private State() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String CONTENT_HASHES_FILE = "cmc-content-hashes.properties";
+        static final String HASH_ALGORITHM = "SHA-256";
+        static final String QUOTE_CURSORS_FILE = "cmc-quote-cursors.properties";
+        static final String BACKFILL_PROGRESS_FILE = "cmc-backfill-progress.properties";
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.State.CONTENT_HASHES_FILE;
+import static com.github.akarazhev.cryptoscout.client.Constants.State.HASH_ALGORITHM;
+
+/**
+ * Remembers the content hash of the last published payload per {@link Source} so identical payloads (unchanged
+ * values, fetch retries) can be dropped. Hashes are persisted under the state directory and survive restarts.
+ */
+public final class ContentHashCache extends AbstractReactive implements ReactiveService, ReactiveJmxBean {
+    private final StateFile hashes;
+    private long suppressed;
+
+    public static ContentHashCache create(final NioReactor reactor, final Executor executor, final Path stateDir) {
+        return new ContentHashCache(reactor, executor, stateDir);
+    }
+
+    private ContentHashCache(final NioReactor reactor, final Executor executor, final Path stateDir) {
+        super(reactor);
+        this.hashes = StateFile.create(reactor, executor, stateDir.resolve(CONTENT_HASHES_FILE));
+    }
+
+    @Override
+    public Promise<Void> start() {
+        return hashes.load();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        return hashes.flush();
+    }
+
+    /**
+     * Returns {@code true} if the hash differs from the last one recorded for the source, {@code false} if it is a
+     * duplicate.
+     */
+    public boolean isChanged(final Source source, final String hash) {
+        if (hash.equals(hashes.get(source.name()))) {
+            suppressed++;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remembers the hash as published for the source; call it only once the publish is confirmed, so a failed
+     * publish is retried on the next fetch.
+     */
+    public void record(final Source source, final String hash) {
+        hashes.put(source.name(), hash);
+    }
+
+    @JmxAttribute
+    public long getSuppressed() {
+        return suppressed;
+    }
+
+    public static String hash(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(content));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Hash algorithm not available: " + HASH_ALGORITHM, ex);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.async.service.ReactiveService;
+import io.activej.eventloop.Eventloop;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.LoopMonitor.MAX_FRAMES;
+import static com.github.akarazhev.cryptoscout.client.Constants.LoopMonitor.SAMPLER_THREAD;
+import static com.github.akarazhev.cryptoscout.client.Constants.LoopMonitor.SAMPLES_PER_INTERVAL;
+
+/**
+ * Watches the reactor thread. A background probe scheduled every interval records its scheduling lag (how late it
+ * ran, i.e. how long the tasks ahead of it kept the loop busy) and the number of queued tasks. A sampler on its own
+ * platform thread checks the last probe several times per interval: once the probe is overdue by the stall threshold
+ * the loop is stuck in a single task, so the reactor thread's stack is captured, repeatedly while the stall lasts,
+ * and the stall duration is recorded when the loop comes back. The probe costs one timer per interval on the loop.
+ * The histograms are rotated every window, so percentiles and maxima cover the current and the previous window
+ * rather than the whole process lifetime; the stall count is a running total.
+ */
+public final class EventLoopMonitor extends AbstractReactive implements ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLoopMonitor.class);
+    private final Window lag = new Window();
+    private final Window queueDepth = new Window();
+    private final Window stallDuration = new Window();
+    private final ArrayDeque<String> samples = new ArrayDeque<>();
+    private final boolean enabled;
+    private final long intervalMs;
+    private final long stallMs;
+    private final int maxSamples;
+    private final long windowNanos;
+    private volatile long lastProbeNanos;
+    private volatile Thread reactorThread;
+    private volatile long stalls;
+    private long expectedNanos;
+    private long windowStartNanos;
+    private ScheduledRunnable probe;
+    private Thread sampler;
+
+    /**
+     * Values of the current and the previous window. Recorded from one thread, rotated on the reactor thread; a value
+     * recorded while rotating may land in the previous window.
+     */
+    private static final class Window {
+        private volatile LatencyHistogram previous = new LatencyHistogram();
+        private volatile LatencyHistogram current = new LatencyHistogram();
+
+        private void record(final long value) {
+            current.record(value);
+        }
+
+        private void rotate() {
+            previous = current;
+            current = new LatencyHistogram();
+        }
+
+        private LatencyHistogram get() {
+            return LatencyHistogram.merge(previous, current);
+        }
+    }
+
+    public static EventLoopMonitor create(final NioReactor reactor, final boolean enabled, final long intervalMs,
+                                          final long stallMs, final int maxSamples, final long windowMs) {
+        return new EventLoopMonitor(reactor, enabled, intervalMs, stallMs, maxSamples, windowMs);
+    }
+
+    private EventLoopMonitor(final NioReactor reactor, final boolean enabled, final long intervalMs,
+                             final long stallMs, final int maxSamples, final long windowMs) {
+        super(reactor);
+        this.enabled = enabled;
+        this.intervalMs = intervalMs;
+        this.stallMs = stallMs;
+        this.maxSamples = maxSamples;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    @Override
+    public Promise<Void> start() {
+        if (enabled) {
+            reactorThread = Thread.currentThread();
+            lastProbeNanos = System.nanoTime();
+            windowStartNanos = lastProbeNanos;
+            scheduleProbe();
+            sampler = Thread.ofPlatform().daemon().name(SAMPLER_THREAD).start(this::sample);
+        }
+
+        return Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        if (probe != null) {
+            probe.cancel();
+            probe = null;
+        }
+
+        if (sampler != null) {
+            sampler.interrupt();
+            sampler = null;
+        }
+
+        return Promise.complete();
+    }
+
+    public String report() {
+        final var lagMs = lag.get();
+        final var depth = queueDepth.get();
+        final var stallDurationMs = stallDuration.get();
+        return "lag_ms p50=" + lagMs.getPercentile(50) + " p99=" + lagMs.getPercentile(99) + " max=" + lagMs.getMax() +
+                "\nqueue_depth p50=" + depth.getPercentile(50) + " p99=" + depth.getPercentile(99) +
+                " max=" + depth.getMax() +
+                "\nstalls count=" + stalls + " p99_ms=" + stallDurationMs.getPercentile(99) +
+                " max_ms=" + stallDurationMs.getMax() + '\n' + getStallSamples();
+    }
+
+    @JmxAttribute
+    public long getLagP50Ms() {
+        return lag.get().getPercentile(50);
+    }
+
+    @JmxAttribute
+    public long getLagP99Ms() {
+        return lag.get().getPercentile(99);
+    }
+
+    @JmxAttribute
+    public long getLagMaxMs() {
+        return lag.get().getMax();
+    }
+
+    @JmxAttribute
+    public long getQueueDepthP99() {
+        return queueDepth.get().getPercentile(99);
+    }
+
+    @JmxAttribute
+    public long getQueueDepthMax() {
+        return queueDepth.get().getMax();
+    }
+
+    @JmxAttribute
+    public long getStalls() {
+        return stalls;
+    }
+
+    @JmxAttribute
+    public long getStallP99Ms() {
+        return stallDuration.get().getPercentile(99);
+    }
+
+    @JmxAttribute
+    public long getStallMaxMs() {
+        return stallDuration.get().getMax();
+    }
+
+    /**
+     * Returns the most recent stack samples of stalled tasks, newest first.
+     */
+    @JmxAttribute
+    public String getStallSamples() {
+        synchronized (samples) {
+            return String.join("\n", samples);
+        }
+    }
+
+    private void scheduleProbe() {
+        expectedNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        probe = reactor.delayBackground(intervalMs, () -> {
+            final var nowNanos = System.nanoTime();
+            lag.record(TimeUnit.NANOSECONDS.toMillis(Math.max(nowNanos - expectedNanos, 0)));
+            queueDepth.record(getQueuedTasks());
+            lastProbeNanos = nowNanos;
+            if (nowNanos - windowStartNanos >= windowNanos) {
+                lag.rotate();
+                queueDepth.rotate();
+                stallDuration.rotate();
+                windowStartNanos = nowNanos;
+            }
+
+            scheduleProbe();
+        });
+    }
+
+    private int getQueuedTasks() {
+        return reactor instanceof Eventloop eventloop ?
+                eventloop.getLocalTasksCount() + eventloop.getConcurrentTasksCount() :
+                0;
+    }
+
+    private void sample() {
+        final var sampleMs = Math.max(1, Math.min(intervalMs, stallMs) / SAMPLES_PER_INTERVAL);
+        var stalledMs = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(sampleMs);
+            } catch (final InterruptedException _) {
+                return;
+            }
+
+            final var overdueMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastProbeNanos) - intervalMs;
+            if (overdueMs >= stallMs) {
+                final var stack = format(overdueMs, reactorThread.getStackTrace());
+                if (stalledMs == 0) {
+                    stalls++;
+                    LOGGER.warn("Reactor thread stalled for {} ms: {}", overdueMs, stack);
+                }
+
+                stalledMs = overdueMs;
+                addSample(stack);
+            } else if (stalledMs > 0) {
+                // The probe ran again: the last overdue value is the stall duration within one sample period
+                stallDuration.record(stalledMs);
+                LOGGER.warn("Reactor thread resumed after a stall of about {} ms", stalledMs);
+                stalledMs = 0;
+            }
+        }
+    }
+
+    private void addSample(final String stack) {
+        synchronized (samples) {
+            if (samples.size() == maxSamples) {
+                samples.removeLast();
+            }
+
+            samples.addFirst(stack);
+        }
+    }
+
+    private static String format(final long overdueMs, final StackTraceElement[] stack) {
+        final var sample = new StringBuilder("stalled ").append(overdueMs).append(" ms at");
+        for (var i = 0; i < Math.min(stack.length, MAX_FRAMES); i++) {
+            sample.append("\n\tat ").append(stack[i]);
+        }
+
+        return sample.toString();
+    }
+}
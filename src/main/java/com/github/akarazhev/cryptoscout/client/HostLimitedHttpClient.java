@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.http.HttpRequest;
+import io.activej.http.HttpResponse;
+import io.activej.http.IHttpClient;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caps concurrent requests per host on top of the shared keep-alive client, so each host gets a bounded pool of
+ * reused connections instead of opening a new one per burst. A slot is held until the response body is loaded, so
+ * the connection is free again when the next request takes the slot; requests beyond the cap wait in FIFO order.
+ */
+public final class HostLimitedHttpClient extends AbstractReactive implements IHttpClient, ReactiveJmxBean {
+    private final IHttpClient httpClient;
+    private final int maxPerHost;
+    private final Map<String, Host> hosts = new HashMap<>();
+    private long queuedRequests;
+
+    private static final class Host {
+        private final ArrayDeque<SettablePromise<Void>> waiting = new ArrayDeque<>();
+        private int active;
+    }
+
+    public static HostLimitedHttpClient create(final NioReactor reactor, final IHttpClient httpClient,
+                                               final int maxPerHost) {
+        return new HostLimitedHttpClient(reactor, httpClient, maxPerHost);
+    }
+
+    private HostLimitedHttpClient(final NioReactor reactor, final IHttpClient httpClient, final int maxPerHost) {
+        super(reactor);
+        if (httpClient == null) {
+            throw new IllegalStateException("HttpClient cannot be null");
+        }
+        if (maxPerHost < 1) {
+            throw new IllegalStateException("Max connections per host must be positive");
+        }
+        this.httpClient = httpClient;
+        this.maxPerHost = maxPerHost;
+    }
+
+    @Override
+    public Promise<HttpResponse> request(final HttpRequest request) {
+        final String key;
+        try {
+            key = getHost(request.getUrl());
+        } catch (final IllegalArgumentException ex) {
+            return Promise.ofException(new IllegalStateException("Malformed URL: " + request.getUrl(), ex));
+        }
+
+        final var host = hosts.computeIfAbsent(key, _ -> new Host());
+        return acquire(host)
+                .then(() -> httpClient.request(request))
+                // The body stays with the response, so a later loadBody() by the caller completes at once
+                .then(response -> response.loadBody()
+                        .whenException(_ -> response.recycle())
+                        .map(_ -> response))
+                .whenComplete(() -> release(host));
+    }
+
+    @JmxAttribute
+    public long getQueuedRequests() {
+        return queuedRequests;
+    }
+
+    @JmxAttribute
+    public int getWaitingRequests() {
+        var waiting = 0;
+        for (final var host : hosts.values()) {
+            waiting += host.waiting.size();
+        }
+
+        return waiting;
+    }
+
+    private Promise<Void> acquire(final Host host) {
+        if (host.active < maxPerHost) {
+            host.active++;
+            return Promise.complete();
+        }
+
+        queuedRequests++;
+        final var promise = new SettablePromise<Void>();
+        host.waiting.add(promise);
+        return promise;
+    }
+
+    private void release(final Host host) {
+        final var next = host.waiting.poll();
+        if (next != null) {
+            // Hand the slot over without decrementing
+            next.set(null);
+        } else {
+            host.active--;
+        }
+    }
+
+    static String getHost(final String url) {
+        final var authority = URI.create(url).getAuthority();
+        return authority != null ? authority : url;
+    }
+}
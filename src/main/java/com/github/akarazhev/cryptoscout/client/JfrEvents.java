@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.CATEGORY;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.CMC_FETCH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.CONFIRM_RECEIVED;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.CONFIRM_THRESHOLD;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.MESSAGE_SENT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.PAYLOAD_ENCODED;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.PAYLOAD_RECEIVED;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.PAYLOAD_THRESHOLD;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.RECONNECT;
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTES;
+
+/**
+ * Flight Recorder events of the ingest and publish pipeline, recorded with e.g.
+ * {@code -XX:StartFlightRecording:settings=profile}. Call sites allocate an event, time it with begin/end and fill
+ * in the fields only when {@link Event#shouldCommit()} holds, so a disabled event is a constant check the JIT folds
+ * away together with the allocation. Per-payload events have default thresholds so that a continuous recording keeps
+ * only the slow ones; override them in a custom {@code .jfc} to see every payload.
+ */
+final class JfrEvents {
+    private JfrEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Category(CATEGORY)
+    abstract static class PayloadEvent extends Event {
+        @Label("Market")
+        String market;
+        @Label("Symbol")
+        String symbol;
+        @Label("Topic")
+        String topic;
+
+        final void describe(final Payload<Map<String, Object>> payload) {
+            final var key = PayloadKeys.of(payload);
+            if (key != null) {
+                market = key.market();
+                symbol = key.symbol();
+                topic = key.topic();
+            } else {
+                topic = String.valueOf(payload.getSource());
+            }
+        }
+    }
+
+    abstract static class MessageEvent extends PayloadEvent {
+        @Label("Size")
+        @DataAmount
+        long size;
+
+        final void describe(final Payload<Map<String, Object>> payload, final long size) {
+            describe(payload);
+            this.size = size;
+        }
+    }
+
+    @Name(PAYLOAD_RECEIVED)
+    @Label("Payload Received")
+    @Description("A decoded Bybit payload routed by a stream consumer")
+    @Threshold(PAYLOAD_THRESHOLD)
+    static final class PayloadReceived extends PayloadEvent {
+    }
+
+    @Name(PAYLOAD_ENCODED)
+    @Label("Payload Encoded")
+    @Description("A payload serialized to JSON once for the listeners and the sink")
+    @Threshold(PAYLOAD_THRESHOLD)
+    static final class PayloadEncoded extends MessageEvent {
+    }
+
+    @Name(MESSAGE_SENT)
+    @Label("Message Sent")
+    @Description("A message handed to the stream producer")
+    @Threshold(PAYLOAD_THRESHOLD)
+    static final class MessageSent extends MessageEvent {
+        @Label("Environment")
+        String environment;
+    }
+
+    @Name(CONFIRM_RECEIVED)
+    @Label("Confirm Received")
+    @Description("A publish confirm, timed from the send")
+    @Threshold(CONFIRM_THRESHOLD)
+    static final class ConfirmReceived extends MessageEvent {
+        @Label("Environment")
+        String environment;
+        @Label("Confirmed")
+        boolean confirmed;
+
+        /**
+         * Returns a begun event, or {@code null} when disabled so that nothing is captured by the confirm callback.
+         */
+        static ConfirmReceived start(final Payload<Map<String, Object>> payload, final long size) {
+            final var event = new ConfirmReceived();
+            if (!event.isEnabled()) {
+                return null;
+            }
+
+            event.describe(payload, size);
+            event.begin();
+            return event;
+        }
+    }
+
+    @Name(RECONNECT)
+    @Label("Reconnect")
+    @Description("A stream consumer resubscribe, timed until its streams are started again")
+    @Category(CATEGORY)
+    static final class Reconnect extends Event {
+        @Label("Consumer")
+        String consumer;
+        @Label("Succeeded")
+        boolean succeeded;
+    }
+
+    @Name(CMC_FETCH)
+    @Label("CMC Fetch")
+    @Description("A fetched CMC payload, timed while it is deduplicated, filtered and published")
+    @Category(CATEGORY)
+    static final class CmcFetch extends Event {
+        @Label("Source")
+        String source;
+        @Label("Quotes")
+        int quotes;
+
+        void describe(final Payload<Map<String, Object>> payload) {
+            source = String.valueOf(payload.getSource());
+            quotes = payload.getData() != null && payload.getData().get(QUOTES) instanceof List<?> list ?
+                    list.size() :
+                    0;
+        }
+    }
+}
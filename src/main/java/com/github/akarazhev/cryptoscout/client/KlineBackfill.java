@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.http.HttpRequest;
+import io.activej.http.IHttpClient;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BACKFILL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.CLOSE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.CONFIRM;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.END;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.HIGH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.INTERVAL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.LOW;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.OPEN;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.START;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TURNOVER;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.VOLUME;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.DAILY_INTERVAL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.DAY_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.HTTP_OK;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.KLINE_LIMIT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.KLINE_PATH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.LINEAR_CATEGORY;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.LIST;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.MINUTE_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.RESULT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.RET_CODE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Rest.SPOT_CATEGORY;
+
+/**
+ * Fills kline gaps left by WebSocket outages. It remembers the last candle seen per source and topic; when a live
+ * candle starts more than one interval after it, the missing confirmed candles are fetched from the Bybit REST API
+ * in pages of {@code KLINE_LIMIT} candles (shared rate limit, bounded retries per page) and emitted in order before
+ * the buffered live messages of that topic.
+ */
+public final class KlineBackfill extends AbstractReactive implements ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KlineBackfill.class);
+    private final IHttpClient httpClient;
+    private final boolean enabled;
+    private final String restUrl;
+    private final long rateLimitMs;
+    private final int attempts;
+    private final long attemptsDelayMs;
+    private final Map<String, KlineState> states = new HashMap<>();
+    private long nextRequestAtMs;
+    private long backfilledCandles;
+    private long failedBackfills;
+
+    private static final class KlineState {
+        private final ArrayDeque<Payload<Map<String, Object>>> pending = new ArrayDeque<>();
+        private long lastStart;
+        private boolean lastConfirmed;
+        private boolean backfilling;
+    }
+
+    public static KlineBackfill create(final NioReactor reactor, final IHttpClient httpClient) {
+        return new KlineBackfill(reactor, httpClient);
+    }
+
+    private KlineBackfill(final NioReactor reactor, final IHttpClient httpClient) {
+        super(reactor);
+        this.httpClient = httpClient;
+        this.enabled = BybitStreamConfig.isKlineBackfillEnabled();
+        this.restUrl = BybitStreamConfig.getRestUrl();
+        this.rateLimitMs = BybitStreamConfig.getRestRateLimitMs();
+        this.attempts = BybitStreamConfig.getFetchAttempts();
+        this.attemptsDelayMs = BybitStreamConfig.getFetchAttemptsDelay() * 1000L;
+    }
+
+    /**
+     * Passes a live kline message to the sink, preceded by any candles missing since the previous message of the
+     * same topic. Messages arriving while a backfill is in flight are held back so the sink sees candles in order.
+     */
+    public void onKline(final Payload<Map<String, Object>> payload, final String topic,
+                        final Consumer<Payload<Map<String, Object>>> sink) {
+        final var category = getCategory(payload.getSource());
+        final var start = getStart(payload.getData());
+        if (!enabled || category == null || start < 0) {
+            sink.accept(payload);
+            return;
+        }
+
+        final var state = states.computeIfAbsent(category + topic, _ -> new KlineState());
+        if (state.backfilling) {
+            state.pending.add(payload);
+            return;
+        }
+
+        final var intervalMs = getIntervalMs(topic);
+        final var from = state.lastConfirmed ? state.lastStart + intervalMs : state.lastStart;
+        final var to = start - intervalMs;
+        if (state.lastStart == 0 || intervalMs <= 0 || from > to) {
+            update(state, payload.getData());
+            sink.accept(payload);
+            return;
+        }
+
+        LOGGER.warn("Kline gap on {} {}: backfilling {} candles from {} to {}", category, topic,
+                (to - from) / intervalMs + 1, from, to);
+        state.backfilling = true;
+        state.pending.add(payload);
+        fetch(category, topic, intervalMs, from, to, new ArrayList<>())
+                .whenResult(candles -> {
+                    for (final var candle : candles) {
+                        final var backfilled = toPayload(payload, topic, candle);
+                        update(state, backfilled.getData());
+                        sink.accept(backfilled);
+                    }
+
+                    backfilledCandles += candles.size();
+                })
+                .whenException(ex -> {
+                    LOGGER.error("Failed to backfill {} {} from {} to {}", category, topic, from, to, ex);
+                    failedBackfills++;
+                    // Give up on the range so the held back message does not trigger the same backfill again
+                    state.lastStart = to;
+                    state.lastConfirmed = true;
+                })
+                .whenComplete(() -> {
+                    state.backfilling = false;
+                    Payload<Map<String, Object>> next;
+                    while (!state.backfilling && (next = state.pending.poll()) != null) {
+                        onKline(next, topic, sink);
+                    }
+                });
+    }
+
+    @JmxAttribute
+    public long getBackfilledCandles() {
+        return backfilledCandles;
+    }
+
+    @JmxAttribute
+    public long getFailedBackfills() {
+        return failedBackfills;
+    }
+
+    /**
+     * Fetches the range oldest page first, so a gap longer than one page is filled completely.
+     */
+    private Promise<List<String[]>> fetch(final String category, final String topic, final long intervalMs,
+                                          final long from, final long to, final List<String[]> candles) {
+        final var pageTo = Math.min(to, from + (KLINE_LIMIT - 1) * intervalMs);
+        return fetchPage(category, topic, intervalMs, from, pageTo, 1).then(page -> {
+            candles.addAll(page);
+            return pageTo < to ?
+                    fetch(category, topic, intervalMs, pageTo + intervalMs, to, candles) :
+                    Promise.of(candles);
+        });
+    }
+
+    private Promise<List<String[]>> fetchPage(final String category, final String topic, final long intervalMs,
+                                              final long from, final long to, final int attempt) {
+        final var parts = topic.split("\\.");
+        final var url = restUrl + KLINE_PATH + "?category=" + category + "&symbol=" + parts[2] +
+                "&interval=" + parts[1] + "&start=" + from + "&end=" + to + "&limit=" +
+                ((to - from) / intervalMs + 1);
+        return acquire()
+                .then(() -> httpClient.request(HttpRequest.get(url).build()))
+                .then(response -> {
+                    if (response.getCode() != HTTP_OK) {
+                        return Promise.ofException(new IllegalStateException("Unexpected HTTP code " +
+                                response.getCode() + " for " + url));
+                    }
+
+                    return response.loadBody().map(body -> parseKlines(body.asArray()));
+                })
+                .map(candles -> {
+                    final List<String[]> inRange = new ArrayList<>(candles.size());
+                    for (final var candle : candles) {
+                        final var start = Long.parseLong(candle[0]);
+                        if (start >= from && start <= to) {
+                            inRange.add(candle);
+                        }
+                    }
+
+                    // Bybit returns candles newest first
+                    inRange.sort(Comparator.comparingLong(candle -> Long.parseLong(candle[0])));
+                    return inRange;
+                })
+                .then((candles, ex) -> {
+                    if (ex == null) {
+                        return Promise.of(candles);
+                    }
+
+                    if (attempt >= attempts) {
+                        return Promise.ofException(ex);
+                    }
+
+                    LOGGER.warn("Kline backfill attempt {} of {} failed: {}", attempt, attempts, ex.getMessage());
+                    return delay(attemptsDelayMs)
+                            .then(() -> fetchPage(category, topic, intervalMs, from, to, attempt + 1));
+                });
+    }
+
+    private Promise<Void> acquire() {
+        final var nowMs = reactor.currentTimeMillis();
+        final var atMs = Math.max(nowMs, nextRequestAtMs);
+        nextRequestAtMs = atMs + rateLimitMs;
+        return delay(atMs - nowMs);
+    }
+
+    private Promise<Void> delay(final long delayMs) {
+        if (delayMs <= 0) {
+            return Promise.complete();
+        }
+
+        final var promise = new SettablePromise<Void>();
+        reactor.delay(delayMs, () -> promise.set(null));
+        return promise;
+    }
+
+    private static void update(final KlineState state, final Map<String, Object> data) {
+        if (data.get(DATA) instanceof List<?> candles) {
+            for (final var candle : candles) {
+                if (candle instanceof Map<?, ?> map && map.get(START) instanceof Number start &&
+                        start.longValue() >= state.lastStart) {
+                    state.lastStart = start.longValue();
+                    state.lastConfirmed = Boolean.TRUE.equals(map.get(CONFIRM));
+                }
+            }
+        }
+    }
+
+    private Payload<Map<String, Object>> toPayload(final Payload<Map<String, Object>> live, final String topic,
+                                                   final String[] candle) {
+        final var intervalMs = getIntervalMs(topic);
+        final var start = Long.parseLong(candle[0]);
+        final var nowMs = reactor.currentTimeMillis();
+        final var kline = new LinkedHashMap<String, Object>();
+        kline.put(START, start);
+        kline.put(END, start + intervalMs - 1);
+        kline.put(INTERVAL, topic.split("\\.")[1]);
+        kline.put(OPEN, candle[1]);
+        kline.put(CLOSE, candle[4]);
+        kline.put(HIGH, candle[2]);
+        kline.put(LOW, candle[3]);
+        kline.put(VOLUME, candle[5]);
+        kline.put(TURNOVER, candle[6]);
+        kline.put(CONFIRM, true);
+        kline.put(TIMESTAMP, nowMs);
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, topic);
+        data.put(DATA, List.of(kline));
+        data.put(TS, nowMs);
+        data.put(TYPE, SNAPSHOT);
+        data.put(BACKFILL, true);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(live.getProvider());
+        payload.setSource(live.getSource());
+        payload.setData(data);
+        return payload;
+    }
+
+    static String getCategory(final Source source) {
+        return Source.PMST.equals(source) ? SPOT_CATEGORY : Source.PML.equals(source) ? LINEAR_CATEGORY : null;
+    }
+
+    static long getStart(final Map<String, Object> data) {
+        if (data != null && data.get(DATA) instanceof List<?> candles && !candles.isEmpty() &&
+                candles.getFirst() instanceof Map<?, ?> candle && candle.get(START) instanceof Number start) {
+            return start.longValue();
+        }
+
+        return -1;
+    }
+
+    static long getIntervalMs(final String topic) {
+        final var parts = topic.split("\\.");
+        if (parts.length != 3) {
+            return -1;
+        }
+
+        if (DAILY_INTERVAL.equals(parts[1])) {
+            return DAY_MS;
+        }
+
+        try {
+            return Long.parseLong(parts[1]) * MINUTE_MS;
+        } catch (final NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Extracts {@code result.list} of a Bybit kline response: rows of [start, open, high, low, close, volume,
+     * turnover] as strings. Fails if {@code retCode} is not zero.
+     */
+    static List<String[]> parseKlines(final byte[] body) {
+        final Map<?, ?> response = JsonUtils.bytes2Object(body, Map.class);
+        if (!(response.get(RET_CODE) instanceof Number retCode)) {
+            throw new IllegalStateException("Invalid kline response: " + response);
+        }
+
+        if (retCode.intValue() != 0) {
+            throw new IllegalStateException("Kline request failed: " + response);
+        }
+
+        final var klines = new ArrayList<String[]>();
+        if (response.get(RESULT) instanceof Map<?, ?> result && result.get(LIST) instanceof List<?> rows) {
+            for (final var row : rows) {
+                if (row instanceof List<?> values) {
+                    klines.add(values.stream().map(String::valueOf).toArray(String[]::new));
+                }
+            }
+        }
+
+        return klines;
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.CLOSE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.CONFIRM;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.HIGH;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.KLINE_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.LOW;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.OPEN;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.START;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TURNOVER;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.VOLUME;
+import static com.github.akarazhev.cryptoscout.client.Constants.KlineColumns.COLUMN_SUFFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.KlineColumns.HEADER_BYTES;
+import static com.github.akarazhev.cryptoscout.client.Constants.KlineColumns.INITIAL_ROWS;
+import static com.github.akarazhev.cryptoscout.client.Constants.KlineColumns.VALUE_BYTES;
+import static com.github.akarazhev.cryptoscout.client.Numbers.toDouble;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only store of confirmed klines per (market, symbol, interval), laid out as fixed-width columns in
+ * memory-mapped files under {@code <dir>/<market>/<symbol>/<interval>/}: open time as longs, then open, high, low,
+ * close, volume and turnover as doubles. The open time column starts with the row count, written after the row, so
+ * a crash never exposes a partial row. Range queries binary search the open time column. Opening a series and
+ * growing its mapping run on the executor, one at a time; rows that arrive meanwhile wait in memory, in order.
+ */
+public final class KlineStore extends AbstractReactive implements PayloadListener, ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KlineStore.class);
+    private static final String[] COLUMNS = {START, OPEN, HIGH, LOW, CLOSE, VOLUME, TURNOVER};
+    private final Executor executor;
+    private final Path dir;
+    private final Map<String, Series> series = new HashMap<>();
+    private final Map<String, List<Row>> opening = new HashMap<>();
+    private Promise<Void> io = Promise.complete();
+    private boolean stopped;
+    private long appendedRows;
+    private long failures;
+
+    private record Row(long start, double[] values) {
+    }
+
+    private static final class Series {
+        private final FileChannel[] channels = new FileChannel[COLUMNS.length];
+        private MappedByteBuffer[] columns = new MappedByteBuffer[COLUMNS.length];
+        private final List<Row> pending = new ArrayList<>();
+        private boolean growing;
+        private int capacity;
+        private int count;
+
+        static Series open(final Path dir) throws IOException {
+            Files.createDirectories(dir);
+            final var series = new Series();
+            try {
+                for (var i = 0; i < COLUMNS.length; i++) {
+                    series.channels[i] = FileChannel.open(dir.resolve(COLUMNS[i] + COLUMN_SUFFIX), CREATE, READ,
+                            WRITE);
+                }
+
+                final var rows = (int) ((series.channels[0].size() - HEADER_BYTES) / VALUE_BYTES);
+                series.map(Math.max(rows, INITIAL_ROWS));
+                series.count = (int) Math.min(Math.max(series.columns[0].getLong(0), 0), series.capacity);
+            } catch (final IOException ex) {
+                series.close();
+                throw ex;
+            }
+
+            return series;
+        }
+
+        int size() {
+            return count;
+        }
+
+        long getStart(final int row) {
+            return columns[0].getLong(offset(row));
+        }
+
+        double get(final int column, final int row) {
+            return columns[column].getDouble(offset(row));
+        }
+
+        long lastStart() {
+            if (!pending.isEmpty()) {
+                return pending.getLast().start();
+            }
+
+            return count == 0 ? Long.MIN_VALUE : getStart(count - 1);
+        }
+
+        void append(final long start, final double[] values) {
+            final var offset = offset(count);
+            columns[0].putLong(offset, start);
+            for (var i = 1; i < COLUMNS.length; i++) {
+                columns[i].putDouble(offset, values[i - 1]);
+            }
+
+            columns[0].putLong(0, ++count);
+        }
+
+        /**
+         * Returns the first row whose open time is not before {@code start}, or {@link #size()} if none.
+         */
+        int lowerBound(final long start) {
+            var low = 0;
+            var high = count;
+            while (low < high) {
+                final var mid = (low + high) >>> 1;
+                if (getStart(mid) < start) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        void force() {
+            for (final var column : columns) {
+                if (column != null) {
+                    column.force();
+                }
+            }
+        }
+
+        void close() throws IOException {
+            for (final var channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+
+        private void map(final int rows) throws IOException {
+            remap(mapColumns(rows), rows);
+        }
+
+        /**
+         * Maps the columns for {@code rows} rows, growing the files; the current mapping stays valid meanwhile.
+         */
+        private MappedByteBuffer[] mapColumns(final int rows) throws IOException {
+            final var size = HEADER_BYTES + (long) rows * VALUE_BYTES;
+            final var mapped = new MappedByteBuffer[COLUMNS.length];
+            for (var i = 0; i < COLUMNS.length; i++) {
+                mapped[i] = channels[i].map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+
+            return mapped;
+        }
+
+        private void remap(final MappedByteBuffer[] mapped, final int rows) {
+            columns = mapped;
+            capacity = rows;
+        }
+
+        private static int offset(final int row) {
+            return HEADER_BYTES + row * VALUE_BYTES;
+        }
+    }
+
+    public static KlineStore create(final NioReactor reactor, final Executor executor, final Path dir) {
+        return new KlineStore(reactor, executor, dir);
+    }
+
+    private KlineStore(final NioReactor reactor, final Executor executor, final Path dir) {
+        super(reactor);
+        this.executor = executor;
+        this.dir = dir;
+    }
+
+    @Override
+    public Promise<Void> start() {
+        io = io.then(() -> Promise.ofBlocking(executor, this::openAll))
+                .whenResult(opened -> {
+                    series.putAll(opened);
+                    LOGGER.info("Opened {} kline series from {}", opened.size(), dir);
+                })
+                .whenException(ex -> LOGGER.warn("Failed to open kline series from {}, starting empty", dir, ex))
+                .then((_, _) -> Promise.complete());
+        return io;
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        stopped = true;
+        // Pending opens and remaps finish first, so their rows are written before the files are closed
+        return io.then(() -> {
+            final var opened = List.copyOf(series.values());
+            series.clear();
+            return Promise.ofBlocking(executor, () -> {
+                for (final var s : opened) {
+                    s.force();
+                    s.close();
+                }
+            });
+        });
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        if (stopped) {
+            return;
+        }
+
+        final var key = PayloadKeys.of(payload);
+        if (key == null || !key.topic().startsWith(KLINE_PREFIX) ||
+                !(payload.getData().get(DATA) instanceof List<?> candles)) {
+            return;
+        }
+
+        final var interval = key.topic().substring(KLINE_PREFIX.length());
+        for (final var candle : candles) {
+            if (candle instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get(CONFIRM)) &&
+                    map.get(START) instanceof Number start) {
+                append(key.market(), key.symbol(), interval, start.longValue(), map);
+            }
+        }
+    }
+
+    /**
+     * Returns klines with open time in {@code [from, to]} as a JSON array of
+     * {@code [start, open, high, low, close, volume, turnover]} rows, oldest first; if more than {@code limit} rows
+     * match, the newest {@code limit} are returned. Returns {@code null} for an unknown series.
+     */
+    public byte[] query(final String market, final String symbol, final String interval, final long from,
+                        final long to, final int limit) {
+        final var s = series.get(PayloadKeys.of(market, symbol, interval));
+        if (s == null) {
+            return null;
+        }
+
+        final var end = to == Long.MAX_VALUE ? s.size() : s.lowerBound(to + 1);
+        final var begin = Math.max(s.lowerBound(from), end - limit);
+        final var json = new StringBuilder().append('[');
+        for (var row = begin; row < end; row++) {
+            if (row > begin) {
+                json.append(',');
+            }
+
+            json.append('[').append(s.getStart(row));
+            for (var column = 1; column < COLUMNS.length; column++) {
+                final var value = s.get(column, row);
+                json.append(',');
+                if (Double.isNaN(value)) {
+                    json.append("null");
+                } else {
+                    json.append(value);
+                }
+            }
+
+            json.append(']');
+        }
+
+        return json.append(']').toString().getBytes(UTF_8);
+    }
+
+    @JmxAttribute
+    public int getSeries() {
+        return series.size();
+    }
+
+    @JmxAttribute
+    public long getAppendedRows() {
+        return appendedRows;
+    }
+
+    @JmxAttribute
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Appends a kline if it is newer than the last stored one; repeated and out-of-order candles are ignored. A new
+     * series is opened on the executor, and its rows are kept in order until it is open.
+     */
+    private void append(final String market, final String symbol, final String interval, final long start,
+                        final Map<?, ?> candle) {
+        final var values = new double[COLUMNS.length - 1];
+        for (var i = 1; i < COLUMNS.length; i++) {
+            values[i - 1] = toDouble(candle.get(COLUMNS[i]), Double.NaN);
+        }
+
+        final var key = PayloadKeys.of(market, symbol, interval);
+        final var s = series.get(key);
+        if (s != null) {
+            write(key, s, new Row(start, values));
+            return;
+        }
+
+        var rows = opening.get(key);
+        if (rows == null) {
+            rows = new ArrayList<>();
+            opening.put(key, rows);
+            open(key, dir.resolve(market).resolve(symbol).resolve(interval));
+        } else if (start <= rows.getLast().start()) {
+            return;
+        }
+
+        rows.add(new Row(start, values));
+    }
+
+    private void open(final String key, final Path seriesDir) {
+        io = io.then(() -> Promise.ofBlocking(executor, () -> Series.open(seriesDir)))
+                .whenComplete((opened, ex) -> {
+                    final var rows = opening.remove(key);
+                    if (ex != null) {
+                        failures += rows.size();
+                        LOGGER.warn("Failed to open kline series {}", key, ex);
+                        return;
+                    }
+
+                    var s = series.get(key);
+                    if (s == null) {
+                        s = opened;
+                        series.put(key, s);
+                    } else {
+                        // Already opened by start(), keep that one
+                        executor.execute(() -> closeQuietly(opened));
+                    }
+
+                    for (final var row : rows) {
+                        write(key, s, row);
+                    }
+                })
+                .then((_, _) -> Promise.complete());
+    }
+
+    private void write(final String key, final Series s, final Row row) {
+        if (row.start() <= s.lastStart()) {
+            return;
+        }
+
+        if (s.pending.isEmpty() && s.count < s.capacity) {
+            s.append(row.start(), row.values());
+            appendedRows++;
+        } else {
+            s.pending.add(row);
+        }
+
+        // Grow ahead of time, so rows rarely have to wait for the remap
+        if (!s.growing && s.count + s.pending.size() >= s.capacity - s.capacity / 4) {
+            grow(key, s);
+        }
+    }
+
+    private void grow(final String key, final Series s) {
+        s.growing = true;
+        final var rows = s.capacity * 2;
+        io = io.then(() -> Promise.ofBlocking(executor, () -> s.mapColumns(rows)))
+                .whenComplete((mapped, ex) -> {
+                    s.growing = false;
+                    if (ex != null) {
+                        failures++;
+                        LOGGER.warn("Failed to grow kline series {} to {} rows", key, rows, ex);
+                        return;
+                    }
+
+                    s.remap(mapped, rows);
+                    final var pending = List.copyOf(s.pending);
+                    s.pending.clear();
+                    for (final var row : pending) {
+                        write(key, s, row);
+                    }
+                })
+                .then((_, _) -> Promise.complete());
+    }
+
+    private static void closeQuietly(final Series s) {
+        try {
+            s.close();
+        } catch (final IOException ex) {
+            LOGGER.warn("Failed to close kline series", ex);
+        }
+    }
+
+    private Map<String, Series> openAll() throws IOException {
+        final var opened = new HashMap<String, Series>();
+        if (!Files.isDirectory(dir)) {
+            return opened;
+        }
+
+        final List<Path> dirs;
+        try (final var paths = Files.find(dir, 3, (path, attributes) -> attributes.isDirectory() &&
+                dir.relativize(path).getNameCount() == 3)) {
+            dirs = new ArrayList<>(paths.toList());
+        }
+
+        try {
+            for (final var seriesDir : dirs) {
+                final var relative = dir.relativize(seriesDir);
+                opened.put(PayloadKeys.of(relative.getName(0).toString(), relative.getName(1).toString(),
+                        relative.getName(2).toString()), Series.open(seriesDir));
+            }
+        } catch (final IOException ex) {
+            opened.values().forEach(KlineStore::closeQuietly);
+            throw ex;
+        }
+
+        return opened;
+    }
+}
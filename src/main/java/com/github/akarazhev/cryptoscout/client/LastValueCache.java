@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ASKS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BIDS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ORDER_BOOK_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SEQUENCE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SYMBOL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.UPDATE_ID;
+
+/**
+ * Latest payload per (market, symbol, topic), see {@link PayloadKeys}. Order book topics use the shared local
+ * book built from snapshots and deltas, see {@link OrderBooks}, and expose its best bid and ask as a snapshot
+ * message. The JSON of an entry is encoded at most once per update, on the first read, and the same bytes are
+ * returned until the next update.
+ */
+public final class LastValueCache extends AbstractReactive implements PayloadListener, ReactiveJmxBean {
+    private final OrderBooks orderBooks;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long updates;
+    private long encodes;
+
+    private static final class Entry {
+        private Payload<Map<String, Object>> payload;
+        private OrderBook book;
+        private byte[] encoded;
+    }
+
+    public static LastValueCache create(final NioReactor reactor) {
+        return create(reactor, OrderBooks.create());
+    }
+
+    public static LastValueCache create(final NioReactor reactor, final OrderBooks orderBooks) {
+        return new LastValueCache(reactor, orderBooks);
+    }
+
+    private LastValueCache(final NioReactor reactor, final OrderBooks orderBooks) {
+        super(reactor);
+        this.orderBooks = orderBooks;
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        onPayload(payload, null);
+    }
+
+    /**
+     * Keeps the given encoding for non-book topics, so {@link #get} does not encode them again; order books are
+     * served as top of book and encoded on read.
+     */
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload, final byte[] encoded) {
+        final var key = PayloadKeys.of(payload);
+        if (key == null) {
+            return;
+        }
+
+        final var entry = entries.computeIfAbsent(key.asString(), _ -> new Entry());
+        entry.payload = payload;
+        entry.encoded = null;
+        updates++;
+        if (key.topic().startsWith(ORDER_BOOK_PREFIX)) {
+            entry.book = orderBooks.apply(key.asString(), payload.getData());
+        } else {
+            entry.encoded = encoded;
+        }
+    }
+
+    /**
+     * Returns the encoded latest payload, or {@code null} if nothing was received for the key yet.
+     */
+    public byte[] get(final String market, final String symbol, final String topic) {
+        final var entry = entries.get(PayloadKeys.of(market, symbol, topic));
+        if (entry == null || entry.payload == null || entry.book != null && !entry.book.isValid()) {
+            return null;
+        }
+
+        if (entry.encoded == null) {
+            encodes++;
+            entry.encoded = JsonUtils.object2Bytes(entry.book != null ? topOfBook(entry) : entry.payload);
+        }
+
+        return entry.encoded;
+    }
+
+    @JmxAttribute
+    public int getSize() {
+        return entries.size();
+    }
+
+    @JmxAttribute
+    public long getUpdates() {
+        return updates;
+    }
+
+    @JmxAttribute
+    public long getEncodes() {
+        return encodes;
+    }
+
+    private static Payload<Map<String, Object>> topOfBook(final Entry entry) {
+        final var source = entry.payload.getData();
+        final var levels = source.get(DATA) instanceof Map<?, ?> map ? map : Map.of();
+        final var book = new LinkedHashMap<String, Object>();
+        book.put(SYMBOL, levels.get(SYMBOL));
+        final var bestBid = entry.book.getBestBid();
+        final var bestAsk = entry.book.getBestAsk();
+        book.put(BIDS, bestBid == null ? List.of() : List.of(bestBid));
+        book.put(ASKS, bestAsk == null ? List.of() : List.of(bestAsk));
+        book.put(UPDATE_ID, levels.get(UPDATE_ID));
+        book.put(SEQUENCE, levels.get(SEQUENCE));
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, source.get(TOPIC));
+        data.put(TYPE, SNAPSHOT);
+        data.put(TS, source.get(TS));
+        data.put(DATA, book);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(entry.payload.getProvider());
+        payload.setSource(entry.payload.getSource());
+        payload.setData(data);
+        return payload;
+    }
+}
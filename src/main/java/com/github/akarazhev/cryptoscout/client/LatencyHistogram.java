@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative values in power-of-two buckets: bucket {@code i > 0} counts values from
+ * {@code 2^(i-1)} to {@code 2^i - 1}, bucket 0 counts zeros. Percentiles are reported as the upper bound of their
+ * bucket, which is accurate to a factor of two and costs one array increment per record. Safe to record from one
+ * thread and read from any other.
+ */
+final class LatencyHistogram {
+    private static final int BUCKETS = Long.SIZE;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(final long value) {
+        final var clamped = Math.max(value, 0);
+        counts.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(clamped));
+        count.incrementAndGet();
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Returns a new histogram holding the values recorded in both.
+     */
+    static LatencyHistogram merge(final LatencyHistogram first, final LatencyHistogram second) {
+        final var merged = new LatencyHistogram();
+        for (var i = 0; i < BUCKETS; i++) {
+            merged.counts.set(i, first.counts.get(i) + second.counts.get(i));
+        }
+
+        merged.count.set(first.count.get() + second.count.get());
+        merged.max.set(Math.max(first.max.get(), second.max.get()));
+        return merged;
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile (0-100), capped by the maximum recorded
+     * value, or 0 when nothing was recorded.
+     */
+    long getPercentile(final double percentile) {
+        final var total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        final var rank = (long) Math.ceil(total * percentile / 100.0);
+        var seen = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min((1L << i) - 1, getMax());
+            }
+        }
+
+        return getMax();
+    }
+}
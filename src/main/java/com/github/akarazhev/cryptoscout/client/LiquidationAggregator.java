@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ALL_LIQUIDATION_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BUY_SIDE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.LIQUIDATIONS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_SIDE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_SIZE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.BURST;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.BUY_NOTIONAL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.COUNT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.LARGEST;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.MINUTE_S;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.SECOND_S;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.SELL_NOTIONAL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.TEN_SECONDS_S;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.WINDOW_1M;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.WINDOW_1S;
+import static com.github.akarazhev.cryptoscout.client.Constants.Liquidations.WINDOW_10S;
+import static com.github.akarazhev.cryptoscout.client.Numbers.toDouble;
+
+/**
+ * Aggregates {@code allLiquidation} messages per symbol into sliding 1s, 10s and 1m windows of notional by side
+ * (as reported by Bybit: {@code Buy} is a liquidated long), count and largest single liquidation. Every interval a
+ * {@code liquidations.<symbol>} summary is published for symbols with liquidations in the last minute. The summary
+ * carries a burst flag while the 10s notional or the 1s count is at or above its threshold; the start of a burst is
+ * published immediately instead of waiting for the next interval.
+ */
+public final class LiquidationAggregator extends AbstractReactive implements PayloadListener, ReactiveService,
+        ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiquidationAggregator.class);
+    private final Sink sink;
+    private final long intervalMs;
+    private final double burstNotional;
+    private final int burstCount;
+    private final Map<String, Symbol> symbols = new LinkedHashMap<>();
+    private ScheduledRunnable publish;
+    private long publishedEvents;
+    private long bursts;
+
+    private static final class Symbol {
+        private final String name;
+        private final LiquidationWindow window = new LiquidationWindow(MINUTE_S);
+        private boolean burst;
+
+        private Symbol(final String name) {
+            this.name = name;
+        }
+    }
+
+    public static LiquidationAggregator create(final NioReactor reactor, final Sink sink,
+                                               final long intervalMs, final double burstNotional,
+                                               final int burstCount) {
+        return new LiquidationAggregator(reactor, sink, intervalMs, burstNotional, burstCount);
+    }
+
+    private LiquidationAggregator(final NioReactor reactor, final Sink sink, final long intervalMs,
+                                  final double burstNotional, final int burstCount) {
+        super(reactor);
+        this.sink = sink;
+        this.intervalMs = intervalMs;
+        this.burstNotional = burstNotional;
+        this.burstCount = burstCount;
+    }
+
+    @Override
+    public Promise<Void> start() {
+        schedulePublish();
+        return Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        if (publish != null) {
+            publish.cancel();
+            publish = null;
+        }
+
+        return Promise.complete();
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        final var data = payload.getData();
+        if (Provider.BYBIT.equals(payload.getProvider()) && data != null &&
+                data.get(TOPIC) instanceof String topic && topic.startsWith(ALL_LIQUIDATION_PREFIX)) {
+            final var summary = onLiquidations(topic.substring(ALL_LIQUIDATION_PREFIX.length()), data.get(DATA),
+                    reactor.currentTimeMillis());
+            if (summary != null) {
+                publish(summary);
+            }
+        }
+    }
+
+    @JmxAttribute
+    public int getSymbols() {
+        return symbols.size();
+    }
+
+    @JmxAttribute
+    public long getPublishedEvents() {
+        return publishedEvents;
+    }
+
+    @JmxAttribute
+    public long getBursts() {
+        return bursts;
+    }
+
+    /**
+     * Adds the liquidations and returns a summary if they started a burst, otherwise {@code null}.
+     */
+    Payload<Map<String, Object>> onLiquidations(final String name, final Object liquidations, final long nowMs) {
+        if (!(liquidations instanceof List<?> list)) {
+            return null;
+        }
+
+        final var symbol = symbols.computeIfAbsent(name, Symbol::new);
+        for (final var liquidation : list) {
+            if (liquidation instanceof Map<?, ?> map) {
+                final var price = toDouble(map.get(TRADE_PRICE), Double.NaN);
+                final var size = toDouble(map.get(TRADE_SIZE), Double.NaN);
+                if (price > 0 && size > 0) {
+                    symbol.window.add(nowMs, BUY_SIDE.equals(map.get(TRADE_SIDE)), price * size);
+                }
+            }
+        }
+
+        final var wasBurst = symbol.burst;
+        return updateBurst(symbol) && !wasBurst ? toPayload(symbol, nowMs) : null;
+    }
+
+    /**
+     * Builds a summary for every symbol with liquidations in the last minute; windows are advanced first.
+     */
+    List<Payload<Map<String, Object>>> snapshot(final long nowMs) {
+        final var payloads = new ArrayList<Payload<Map<String, Object>>>();
+        for (final var symbol : symbols.values()) {
+            symbol.window.advance(nowMs);
+            updateBurst(symbol);
+            if (symbol.window.summarize(MINUTE_S).count() > 0) {
+                payloads.add(toPayload(symbol, nowMs));
+            }
+        }
+
+        return payloads;
+    }
+
+    private boolean updateBurst(final Symbol symbol) {
+        final var tenSeconds = symbol.window.summarize(TEN_SECONDS_S);
+        final var burst = tenSeconds.buyNotional() + tenSeconds.sellNotional() >= burstNotional ||
+                symbol.window.summarize(SECOND_S).count() >= burstCount;
+        if (burst && !symbol.burst) {
+            bursts++;
+            LOGGER.info("Liquidation burst on {}", symbol.name);
+        }
+
+        symbol.burst = burst;
+        return burst;
+    }
+
+    private void schedulePublish() {
+        publish = reactor.delayBackground(intervalMs, () -> {
+            snapshot(reactor.currentTimeMillis()).forEach(this::publish);
+            schedulePublish();
+        });
+    }
+
+    private void publish(final Payload<Map<String, Object>> payload) {
+        publishedEvents++;
+        sink.publish(payload)
+                .whenException(ex -> LOGGER.debug("Failed to publish liquidation summary", ex));
+    }
+
+    private Payload<Map<String, Object>> toPayload(final Symbol symbol, final long nowMs) {
+        final var summary = new LinkedHashMap<String, Object>();
+        summary.put(WINDOW_1S, toMap(symbol.window.summarize(SECOND_S)));
+        summary.put(WINDOW_10S, toMap(symbol.window.summarize(TEN_SECONDS_S)));
+        summary.put(WINDOW_1M, toMap(symbol.window.summarize(MINUTE_S)));
+        summary.put(BURST, symbol.burst);
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, LIQUIDATIONS_PREFIX + symbol.name);
+        data.put(TYPE, SNAPSHOT);
+        data.put(TS, nowMs);
+        data.put(DATA, summary);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PML);
+        payload.setData(data);
+        return payload;
+    }
+
+    private static Map<String, Object> toMap(final LiquidationWindow.Summary summary) {
+        final var map = new LinkedHashMap<String, Object>();
+        map.put(BUY_NOTIONAL, summary.buyNotional());
+        map.put(SELL_NOTIONAL, summary.sellNotional());
+        map.put(COUNT, summary.count());
+        map.put(LARGEST, summary.largest());
+        return map;
+    }
+}
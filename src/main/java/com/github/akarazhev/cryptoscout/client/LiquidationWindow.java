@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+/**
+ * Liquidations of one symbol in one-second buckets over the last minute. Sliding 1s, 10s and 1m summaries are
+ * read from the newest buckets.
+ */
+final class LiquidationWindow {
+    private final int seconds;
+    private final double[] buyNotional;
+    private final double[] sellNotional;
+    private final double[] largest;
+    private final int[] counts;
+    private long currentSecond = Long.MIN_VALUE;
+    private int current;
+
+    record Summary(double buyNotional, double sellNotional, int count, double largest) {
+    }
+
+    LiquidationWindow(final int seconds) {
+        this.seconds = seconds;
+        this.buyNotional = new double[seconds];
+        this.sellNotional = new double[seconds];
+        this.largest = new double[seconds];
+        this.counts = new int[seconds];
+    }
+
+    void add(final long nowMs, final boolean buy, final double notional) {
+        advance(nowMs);
+        if (buy) {
+            buyNotional[current] += notional;
+        } else {
+            sellNotional[current] += notional;
+        }
+
+        counts[current]++;
+        largest[current] = Math.max(largest[current], notional);
+    }
+
+    void advance(final long nowMs) {
+        final var second = Math.floorDiv(nowMs, 1000L);
+        if (currentSecond == Long.MIN_VALUE) {
+            currentSecond = second;
+            return;
+        }
+
+        if (second <= currentSecond) {
+            return;
+        }
+
+        final var steps = (int) Math.min(second - currentSecond, seconds);
+        for (var i = 0; i < steps; i++) {
+            current = (current + 1) % seconds;
+            buyNotional[current] = 0;
+            sellNotional[current] = 0;
+            largest[current] = 0;
+            counts[current] = 0;
+        }
+
+        currentSecond = second;
+    }
+
+    /**
+     * Sums the newest {@code window} seconds, the current one included.
+     */
+    Summary summarize(final int window) {
+        var buy = 0.0;
+        var sell = 0.0;
+        var count = 0;
+        var max = 0.0;
+        for (var i = 0; i < Math.min(window, seconds); i++) {
+            final var slot = Math.floorMod(current - i, seconds);
+            buy += buyNotional[slot];
+            sell += sellNotional[slot];
+            count += counts[slot];
+            max = Math.max(max, largest[slot]);
+        }
+
+        return new Summary(buy, sell, count, max);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.BUY_VOLUME;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.IMBALANCE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.LAST_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.SELL_VOLUME;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.TRADES;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.TRADE_RATE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.VOLATILITY;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.VWAP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Analytics.WINDOW_S;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ANALYTICS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BUY_SIDE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.PUBLIC_TRADE_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKERS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKER_LAST_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_PRICE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_SIDE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_SIZE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Numbers.toDouble;
+
+/**
+ * Rolling market statistics per Bybit stream and symbol, computed once next to the data. Public trades feed VWAP,
+ * buy/sell volume, imbalance and trade rate; trades and ticker last prices feed realized volatility. On every
+ * interval a compact {@code analytics.<symbol>} event per active symbol is published to the Bybit stream.
+ */
+public final class MarketAnalytics extends AbstractReactive implements PayloadListener, ReactiveService,
+        ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MarketAnalytics.class);
+    private final Sink sink;
+    private final int windowS;
+    private final long intervalMs;
+    private final Map<String, Series> series = new LinkedHashMap<>();
+    private ScheduledRunnable publish;
+    private long publishedEvents;
+
+    private record Series(Source source, String symbol, RollingWindow window) {
+    }
+
+    public static MarketAnalytics create(final NioReactor reactor, final Sink sink,
+                                         final int windowS, final long intervalMs) {
+        return new MarketAnalytics(reactor, sink, windowS, intervalMs);
+    }
+
+    private MarketAnalytics(final NioReactor reactor, final Sink sink, final int windowS,
+                            final long intervalMs) {
+        super(reactor);
+        this.sink = sink;
+        this.windowS = windowS;
+        this.intervalMs = intervalMs;
+    }
+
+    @Override
+    public Promise<Void> start() {
+        schedulePublish();
+        return Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        if (publish != null) {
+            publish.cancel();
+            publish = null;
+        }
+
+        return Promise.complete();
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        if (!Provider.BYBIT.equals(payload.getProvider()) || payload.getData() == null ||
+                !(payload.getData().get(TOPIC) instanceof String topic)) {
+            return;
+        }
+
+        if (topic.startsWith(PUBLIC_TRADE_PREFIX)) {
+            onTrades(payload, topic.substring(PUBLIC_TRADE_PREFIX.length()), reactor.currentTimeMillis());
+        } else if (topic.startsWith(TICKERS_PREFIX)) {
+            onTicker(payload, topic.substring(TICKERS_PREFIX.length()), reactor.currentTimeMillis());
+        }
+    }
+
+    @JmxAttribute
+    public int getSymbols() {
+        return series.size();
+    }
+
+    @JmxAttribute
+    public long getPublishedEvents() {
+        return publishedEvents;
+    }
+
+    void onTrades(final Payload<Map<String, Object>> payload, final String symbol, final long nowMs) {
+        if (payload.getData().get(DATA) instanceof List<?> trades) {
+            final var window = getWindow(payload.getSource(), symbol);
+            for (final var trade : trades) {
+                if (trade instanceof Map<?, ?> map) {
+                    final var price = toDouble(map.get(TRADE_PRICE), Double.NaN);
+                    final var size = toDouble(map.get(TRADE_SIZE), Double.NaN);
+                    if (price > 0 && size > 0) {
+                        window.onTrade(nowMs, price, size, BUY_SIDE.equals(map.get(TRADE_SIDE)));
+                    }
+                }
+            }
+        }
+    }
+
+    void onTicker(final Payload<Map<String, Object>> payload, final String symbol, final long nowMs) {
+        // Linear ticker deltas carry only changed fields, so the last price may be absent
+        if (payload.getData().get(DATA) instanceof Map<?, ?> ticker) {
+            final var price = toDouble(ticker.get(TICKER_LAST_PRICE), Double.NaN);
+            if (price > 0) {
+                getWindow(payload.getSource(), symbol).onPrice(nowMs, price);
+            }
+        }
+    }
+
+    /**
+     * Builds one analytics event per symbol that has seen a price; windows are advanced to {@code nowMs} first.
+     */
+    List<Payload<Map<String, Object>>> snapshot(final long nowMs) {
+        final var payloads = new ArrayList<Payload<Map<String, Object>>>(series.size());
+        for (final var s : series.values()) {
+            s.window().advance(nowMs);
+            if (!Double.isNaN(s.window().getLastPrice())) {
+                payloads.add(toPayload(s, nowMs));
+            }
+        }
+
+        return payloads;
+    }
+
+    private void schedulePublish() {
+        publish = reactor.delayBackground(intervalMs, () -> {
+            for (final var payload : snapshot(reactor.currentTimeMillis())) {
+                publishedEvents++;
+                sink.publish(payload)
+                        .whenException(ex -> LOGGER.debug("Failed to publish analytics event", ex));
+            }
+
+            schedulePublish();
+        });
+    }
+
+    private RollingWindow getWindow(final Source source, final String symbol) {
+        return series.computeIfAbsent(source.name() + symbol,
+                _ -> new Series(source, symbol, new RollingWindow(windowS))).window();
+    }
+
+    private Payload<Map<String, Object>> toPayload(final Series s, final long nowMs) {
+        final var window = s.window();
+        final var stats = new LinkedHashMap<String, Object>();
+        stats.put(WINDOW_S, windowS);
+        stats.put(LAST_PRICE, window.getLastPrice());
+        stats.put(VWAP, toNullable(window.getVwap()));
+        stats.put(VOLATILITY, window.getVolatility());
+        stats.put(BUY_VOLUME, window.getBuyVolume());
+        stats.put(SELL_VOLUME, window.getSellVolume());
+        stats.put(IMBALANCE, toNullable(window.getImbalance()));
+        stats.put(TRADES, window.getTrades());
+        stats.put(TRADE_RATE, window.getTradeRate());
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, ANALYTICS_PREFIX + s.symbol());
+        data.put(TYPE, SNAPSHOT);
+        data.put(TS, nowMs);
+        data.put(DATA, stats);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(s.source());
+        payload.setData(data);
+        return payload;
+    }
+
+    private static Double toNullable(final double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
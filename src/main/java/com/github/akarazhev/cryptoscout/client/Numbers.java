@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+/**
+ * Reads numeric fields of exchange messages, which carry prices and sizes as strings or numbers.
+ */
+final class Numbers {
+    private Numbers() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the value as a double, or {@code defaultValue} if it is absent or not a number.
+     */
+    static double toDouble(final Object value, final double defaultValue) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+
+        if (value instanceof String text && !text.isEmpty()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (final NumberFormatException ex) {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+}
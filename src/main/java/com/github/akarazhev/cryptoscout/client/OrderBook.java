@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ASKS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.BIDS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.GAP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ORDER_BOOK_INITIAL_LEVELS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+
+/**
+ * Local Bybit order book built from snapshot and delta messages. A {@code gap} event invalidates the book until
+ * the next snapshot. Each side keeps its prices in a sorted primitive array, so updates do not box the keys. The
+ * book may be shared by several listeners, see {@link OrderBooks}: an update already applied is skipped.
+ */
+final class OrderBook {
+    private final Side bids = new Side();
+    private final Side asks = new Side();
+    private Map<String, Object> applied;
+    private boolean valid;
+
+    void apply(final Map<String, Object> data) {
+        if (data == applied) {
+            return;
+        }
+
+        applied = data;
+        final var type = data.get(TYPE);
+        if (GAP.equals(type)) {
+            // The book is unusable until the next snapshot
+            valid = false;
+            return;
+        }
+
+        if (!(data.get(DATA) instanceof Map<?, ?> levels)) {
+            return;
+        }
+
+        if (SNAPSHOT.equals(type)) {
+            bids.clear();
+            asks.clear();
+            valid = true;
+        }
+
+        bids.apply(levels.get(BIDS));
+        asks.apply(levels.get(ASKS));
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the best bid as a [price, size] level, or {@code null} if the side is empty.
+     */
+    List<?> getBestBid() {
+        return bids.size == 0 ? null : bids.levels[bids.size - 1];
+    }
+
+    /**
+     * Returns the best ask as a [price, size] level, or {@code null} if the side is empty.
+     */
+    List<?> getBestAsk() {
+        return asks.size == 0 ? null : asks.levels[0];
+    }
+
+    double getBestBidPrice() {
+        return bids.size == 0 ? Double.NaN : bids.prices[bids.size - 1];
+    }
+
+    double getBestAskPrice() {
+        return asks.size == 0 ? Double.NaN : asks.prices[0];
+    }
+
+    /**
+     * One side of the book in ascending price order: the best bid is the last level, the best ask the first.
+     */
+    private static final class Side {
+        private double[] prices = new double[ORDER_BOOK_INITIAL_LEVELS];
+        private List<?>[] levels = new List<?>[ORDER_BOOK_INITIAL_LEVELS];
+        private int size;
+
+        private void apply(final Object update) {
+            if (!(update instanceof List<?> list)) {
+                return;
+            }
+
+            for (final var level : list) {
+                if (level instanceof List<?> priceSize && priceSize.size() >= 2 &&
+                        priceSize.get(0) instanceof String price && priceSize.get(1) instanceof String size) {
+                    final var key = Double.parseDouble(price);
+                    if (Double.parseDouble(size) == 0) {
+                        remove(key);
+                    } else {
+                        put(key, priceSize);
+                    }
+                }
+            }
+        }
+
+        private void put(final double price, final List<?> level) {
+            final var index = Arrays.binarySearch(prices, 0, size, price);
+            if (index >= 0) {
+                levels[index] = level;
+                return;
+            }
+
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                levels = Arrays.copyOf(levels, size * 2);
+            }
+
+            final var at = -index - 1;
+            System.arraycopy(prices, at, prices, at + 1, size - at);
+            System.arraycopy(levels, at, levels, at + 1, size - at);
+            prices[at] = price;
+            levels[at] = level;
+            size++;
+        }
+
+        private void remove(final double price) {
+            final var index = Arrays.binarySearch(prices, 0, size, price);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(prices, index + 1, prices, index, size - index - 1);
+            System.arraycopy(levels, index + 1, levels, index, size - index - 1);
+            levels[--size] = null;
+        }
+
+        private void clear() {
+            Arrays.fill(levels, 0, size, null);
+            size = 0;
+        }
+    }
+}
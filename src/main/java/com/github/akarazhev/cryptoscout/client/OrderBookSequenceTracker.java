@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DELTA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+
+/**
+ * Validates the update id ({@code u}) chain of every Bybit order book. A snapshot (re)starts the chain, each delta
+ * must carry the next id. After a gap the book stays invalid and its deltas are dropped until a fresh snapshot
+ * arrives. Not thread-safe: call from the reactor thread.
+ */
+final class OrderBookSequenceTracker {
+
+    enum Result {
+        ACCEPTED,
+        DUPLICATE,
+        GAP,
+        INVALID
+    }
+
+    private static final class BookState {
+        private long lastUpdateId;
+        private boolean valid;
+    }
+
+    private final Map<String, BookState> books = new HashMap<>();
+    private long gaps;
+    private long duplicates;
+    private long dropped;
+    private long lastExpectedUpdateId;
+
+    static OrderBookSequenceTracker create() {
+        return new OrderBookSequenceTracker();
+    }
+
+    private OrderBookSequenceTracker() {
+    }
+
+    Result onUpdate(final String topic, final String type, final long updateId) {
+        var book = books.get(topic);
+        if (book == null) {
+            book = new BookState();
+            books.put(topic, book);
+        }
+
+        if (SNAPSHOT.equals(type)) {
+            book.lastUpdateId = updateId;
+            book.valid = true;
+            return Result.ACCEPTED;
+        }
+
+        if (!DELTA.equals(type)) {
+            return Result.ACCEPTED;
+        }
+
+        if (!book.valid) {
+            dropped++;
+            return Result.INVALID;
+        }
+
+        if (updateId <= book.lastUpdateId) {
+            duplicates++;
+            return Result.DUPLICATE;
+        }
+
+        if (updateId != book.lastUpdateId + 1) {
+            lastExpectedUpdateId = book.lastUpdateId + 1;
+            book.valid = false;
+            gaps++;
+            return Result.GAP;
+        }
+
+        book.lastUpdateId = updateId;
+        return Result.ACCEPTED;
+    }
+
+    /**
+     * Returns the update id that was expected when the last gap was detected.
+     */
+    long getLastExpectedUpdateId() {
+        return lastExpectedUpdateId;
+    }
+
+    boolean isValid(final String topic) {
+        final var book = books.get(topic);
+        return book != null && book.valid;
+    }
+
+    long getGaps() {
+        return gaps;
+    }
+
+    long getDuplicates() {
+        return duplicates;
+    }
+
+    long getDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.akarazhev.cryptoscout.client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Order books shared by the local listeners, one per (market, symbol, topic), see {@link PayloadKeys}. Each listener
+ * hands in the updates it sees; an update is applied to the book once, whichever listener comes first. Used on the
+ * reactor thread only.
+ */
+public final class OrderBooks {
+    private final Map<String, OrderBook> books = new HashMap<>();
+
+    private OrderBooks() {
+    }
+
+    public static OrderBooks create() {
+        return new OrderBooks();
+    }
+
+    /**
+     * Applies the update to the book of the key, creating it on first use, and returns the book.
+     */
+    OrderBook apply(final String key, final Map<String, Object> data) {
+        final var book = books.computeIfAbsent(key, _ -> new OrderBook());
+        book.apply(data);
+        return book;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands each published payload to local listeners (snapshot cache, WebSocket and SSE fan-out). A failing listener
+ * is logged and does not affect the others or the publish itself.
+ */
+public final class PayloadFanout {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayloadFanout.class);
+    private final List<PayloadListener> listeners = new ArrayList<>();
+
+    private PayloadFanout() {
+    }
+
+    public static PayloadFanout create() {
+        return new PayloadFanout();
+    }
+
+    public void subscribe(final PayloadListener listener) {
+        listeners.add(listener);
+    }
+
+    public void publish(final Payload<Map<String, Object>> payload) {
+        publish(payload, JsonUtils.object2Bytes(payload));
+    }
+
+    /**
+     * Hands the payload and its encoding to every listener; the bytes are shared and must not be modified.
+     */
+    public void publish(final Payload<Map<String, Object>> payload, final byte[] encoded) {
+        for (final var listener : listeners) {
+            try {
+                listener.onPayload(payload, encoded);
+            } catch (final Exception ex) {
+                LOGGER.error("Payload listener {} failed", listener.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+}
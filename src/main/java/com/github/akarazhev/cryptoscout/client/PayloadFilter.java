@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selects payloads by market, symbol and topic for local subscribers. Each part is a comma separated list; a missing
+ * or empty part matches everything.
+ */
+public final class PayloadFilter {
+    private final Set<String> markets;
+    private final Set<String> symbols;
+    private final Set<String> topics;
+
+    private PayloadFilter(final Set<String> markets, final Set<String> symbols, final Set<String> topics) {
+        this.markets = markets;
+        this.symbols = symbols;
+        this.topics = topics;
+    }
+
+    public static PayloadFilter of(final String markets, final String symbols, final String topics) {
+        return new PayloadFilter(toSet(markets), toSet(symbols), toSet(topics));
+    }
+
+    boolean test(final PayloadKeys.Key key) {
+        return key != null && (markets.isEmpty() || markets.contains(key.market())) &&
+                (symbols.isEmpty() || symbols.contains(key.symbol())) &&
+                (topics.isEmpty() || topics.contains(key.topic()));
+    }
+
+    private static Set<String> toSet(final String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
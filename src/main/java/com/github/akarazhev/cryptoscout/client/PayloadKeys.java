@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.KEY_SEPARATOR;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.BTC_USD_SYMBOL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.CMC_MARKET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.DAILY_TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.FGI_SYMBOL;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.LATEST_TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.LINEAR_MARKET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.SPOT_MARKET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Snapshot.WEEKLY_TOPIC;
+
+/**
+ * Addresses payloads by (market, symbol, topic) for local consumers. Bybit topics are split at the last dot, e.g.
+ * {@code orderbook.50.BTCUSDT} on spot is (spot, BTCUSDT, orderbook.50). CMC sources map to (cmc, BTCUSD, 1d|1w)
+ * and (cmc, FGI, latest). The market implies the provider.
+ */
+final class PayloadKeys {
+    private PayloadKeys() {
+        throw new UnsupportedOperationException();
+    }
+
+    record Key(String market, String symbol, String topic) {
+
+        String asString() {
+            return of(market, symbol, topic);
+        }
+    }
+
+    static String of(final String market, final String symbol, final String topic) {
+        return market + KEY_SEPARATOR + symbol + KEY_SEPARATOR + topic;
+    }
+
+    /**
+     * Returns the key of the payload, or {@code null} if it is not addressable.
+     */
+    static Key of(final Payload<Map<String, Object>> payload) {
+        final var source = payload.getSource();
+        if (Provider.CMC.equals(payload.getProvider())) {
+            if (Source.BTC_USD_1D.equals(source)) {
+                return new Key(CMC_MARKET, BTC_USD_SYMBOL, DAILY_TOPIC);
+            }
+
+            if (Source.BTC_USD_1W.equals(source)) {
+                return new Key(CMC_MARKET, BTC_USD_SYMBOL, WEEKLY_TOPIC);
+            }
+
+            return Source.FGI_API_PRO_L.equals(source) ? new Key(CMC_MARKET, FGI_SYMBOL, LATEST_TOPIC) : null;
+        }
+
+        final var market = Source.PMST.equals(source) ? SPOT_MARKET : Source.PML.equals(source) ? LINEAR_MARKET : null;
+        final var data = payload.getData();
+        if (market == null || data == null || !(data.get(TOPIC) instanceof String topic)) {
+            return null;
+        }
+
+        final var dot = topic.lastIndexOf('.');
+        return dot > 0 && dot < topic.length() - 1 ?
+                new Key(market, topic.substring(dot + 1), topic.substring(0, dot)) :
+                null;
+    }
+}
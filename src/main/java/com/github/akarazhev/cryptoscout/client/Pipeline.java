@@ -0,0 +1,475 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.Reactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DELTA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ORDER_BOOK_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKERS_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.AGGREGATE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.AGGREGATE_MAX_AGE_MS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.ANY;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.ARGUMENT_SEPARATOR;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.BATCH_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.BYBIT_TARGET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.CMC_TARGET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.CONFLATE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.DROP_FIELD;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.FILTER;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.LATEST_QUOTE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.LOCAL_TARGET;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.MAP;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.NO_TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.ROUTE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.RULE_ARROW;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.SELECTOR_SEPARATOR;
+import static com.github.akarazhev.cryptoscout.client.Constants.Pipeline.STAGE_SEPARATOR;
+
+/**
+ * Processing stages assembled from rules such as {@code bybit/PMST/tickers -> conflate(250) | route(local)}. A
+ * rule selects payloads by provider, source and topic prefix ({@code *} matches any) and the first matching rule
+ * wins; payloads no rule selects pass unchanged. Stages run in order:
+ * <ul>
+ *     <li>{@code filter(field=value)} keeps payloads whose data field equals the text</li>
+ *     <li>{@code map(latestQuote)} keeps the newest CMC quote, {@code map(drop=field)} removes a data field</li>
+ *     <li>{@code conflate(ms)} holds the latest snapshot and passes it on once per interval; a delta cannot be
+ *     conflated, so it passes on at once after the held snapshot, and rules that can match order book topics
+ *     ({@code *} included) or only linear tickers are rejected</li>
+ *     <li>{@code aggregate(n)} or {@code aggregate(n,ms)} passes on one {@code batch.<topic>} payload with the data
+ *     of every n payloads, or of fewer once the first of them is ms old (1000 by default)</li>
+ *     <li>{@code route(local|bybit|cmc)}, last, sends to the local fan-out only or to the given sink</li>
+ * </ul>
+ * Each (source, topic) gets its own chain the first time it is seen: a flat array of stages run by one switch, with
+ * conflate and aggregate state held in the stage, so a payload goes through without wrapper calls or allocation
+ * (aggregate allocates its batch). A held payload completes with the publish of the payload it is passed on in;
+ * {@link #stop()} cancels the timers and passes on what is held.
+ */
+final class Pipeline extends AbstractReactive {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Pipeline.class);
+    private static final Pattern STAGE = Pattern.compile("(\\w+)\\(([^()]*)\\)");
+    private static final Chain PASS = new Chain(new Stage[0], Target.SINK);
+    private final Rule[] rules;
+    private final Terminal terminal;
+    private final Map<Source, Map<String, Chain>> chains = new HashMap<>();
+    private long filtered;
+    private long held;
+    private long emitted;
+
+    enum Target {
+        SINK,
+        LOCAL,
+        BYBIT,
+        CMC
+    }
+
+    @FunctionalInterface
+    interface Terminal {
+
+        Promise<Void> emit(final Payload<Map<String, Object>> payload, final Target target);
+    }
+
+    private enum Kind {
+        FILTER,
+        LATEST_QUOTE,
+        DROP_FIELD,
+        CONFLATE,
+        AGGREGATE
+    }
+
+    private static final class Stage {
+        private final Kind kind;
+        private final String field;
+        private final String value;
+        private final int param;
+        private final int maxAgeMs;
+        private Payload<Map<String, Object>> pending;
+        private List<Object> batch;
+        private ScheduledRunnable timer;
+        private SettablePromise<Void> result;
+
+        private Stage(final Kind kind, final String field, final String value, final int param,
+                      final int maxAgeMs) {
+            this.kind = kind;
+            this.field = field;
+            this.value = value;
+            this.param = param;
+            this.maxAgeMs = maxAgeMs;
+        }
+
+        private Stage copy() {
+            final var stage = new Stage(kind, field, value, param, maxAgeMs);
+            if (kind == Kind.AGGREGATE) {
+                stage.batch = new ArrayList<>(param);
+            }
+
+            return stage;
+        }
+    }
+
+    private record Chain(Stage[] stages, Target target) {
+    }
+
+    private record Rule(Provider provider, Source source, String topicPrefix, Stage[] stages, Target target) {
+
+        private boolean matches(final Provider provider, final Source source, final String topic) {
+            return (this.provider == null || this.provider.equals(provider)) &&
+                    (this.source == null || this.source.equals(source)) &&
+                    (topicPrefix == null || topic.startsWith(topicPrefix));
+        }
+
+        private Chain newChain() {
+            final var copies = new Stage[stages.length];
+            for (var i = 0; i < stages.length; i++) {
+                copies[i] = stages[i].copy();
+            }
+
+            return new Chain(copies, target);
+        }
+    }
+
+    static Pipeline create(final Reactor reactor, final List<String> rules, final Terminal terminal) {
+        return new Pipeline(reactor, rules, terminal);
+    }
+
+    private Pipeline(final Reactor reactor, final List<String> rules, final Terminal terminal) {
+        super(reactor);
+        this.rules = rules.stream().map(Pipeline::parse).toArray(Rule[]::new);
+        this.terminal = terminal;
+    }
+
+    Promise<Void> process(final Payload<Map<String, Object>> payload) {
+        final var data = payload.getData();
+        final var topic = data != null && data.get(TOPIC) instanceof String t ? t : NO_TOPIC;
+        var chain = chains.computeIfAbsent(payload.getSource(), _ -> new HashMap<>()).get(topic);
+        if (chain == null) {
+            chain = resolve(payload.getProvider(), payload.getSource(), topic);
+            chains.get(payload.getSource()).put(topic, chain);
+        }
+
+        return run(chain, 0, payload);
+    }
+
+    /**
+     * Cancels the conflate and aggregate timers and passes on the held payloads, so they reach the sinks before
+     * those stop.
+     */
+    void stop() {
+        for (final var topics : chains.values()) {
+            for (final var chain : topics.values()) {
+                final var stages = chain.stages();
+                for (var i = 0; i < stages.length; i++) {
+                    if (stages[i].pending != null) {
+                        flush(chain, i);
+                    }
+                }
+            }
+        }
+    }
+
+    long getFiltered() {
+        return filtered;
+    }
+
+    long getHeld() {
+        return held;
+    }
+
+    long getEmitted() {
+        return emitted;
+    }
+
+    private Chain resolve(final Provider provider, final Source source, final String topic) {
+        for (final var rule : rules) {
+            if (rule.matches(provider, source, topic)) {
+                return rule.newChain();
+            }
+        }
+
+        return PASS;
+    }
+
+    private Promise<Void> run(final Chain chain, final int from, final Payload<Map<String, Object>> payload) {
+        var current = payload;
+        final var stages = chain.stages();
+        for (var i = from; i < stages.length; i++) {
+            final var stage = stages[i];
+            switch (stage.kind) {
+                case FILTER -> {
+                    final var data = current.getData();
+                    if (data == null || !stage.value.equals(String.valueOf(data.get(stage.field)))) {
+                        filtered++;
+                        return Promise.complete();
+                    }
+                }
+                case LATEST_QUOTE -> {
+                    if (current.getData() != null) {
+                        current.setData(CmcParserConsumer.selectLatestQuote(current.getData()));
+                    }
+                }
+                case DROP_FIELD -> {
+                    if (current.getData() != null) {
+                        current.getData().remove(stage.field);
+                    }
+                }
+                case CONFLATE -> {
+                    final var data = current.getData();
+                    if (data == null || !DELTA.equals(data.get(TYPE))) {
+                        stage.pending = current;
+                        return hold(chain, i, stage.param);
+                    }
+
+                    // A delta only applies on top of everything before it: pass on the held snapshot first
+                    if (stage.pending != null) {
+                        flush(chain, i);
+                    }
+                }
+                case AGGREGATE -> {
+                    stage.batch.add(current.getData());
+                    stage.pending = current;
+                    return stage.batch.size() < stage.param ? hold(chain, i, stage.maxAgeMs) : flush(chain, i);
+                }
+            }
+        }
+
+        emitted++;
+        return terminal.emit(current, chain.target());
+    }
+
+    private Promise<Void> hold(final Chain chain, final int index, final int delayMs) {
+        final var stage = chain.stages()[index];
+        held++;
+        if (stage.result == null) {
+            stage.result = new SettablePromise<>();
+            stage.timer = reactor.delayBackground(delayMs, () -> {
+                stage.timer = null;
+                flush(chain, index);
+            });
+        }
+
+        return stage.result;
+    }
+
+    /**
+     * Passes the held payload (or batch) of a stage on to the rest of the chain and completes the promises of the
+     * payloads held for it with the outcome.
+     */
+    private Promise<Void> flush(final Chain chain, final int index) {
+        final var stage = chain.stages()[index];
+        if (stage.timer != null) {
+            stage.timer.cancel();
+            stage.timer = null;
+        }
+
+        final var result = stage.result;
+        stage.result = null;
+        final var last = stage.pending;
+        stage.pending = null;
+        final var payload = stage.kind == Kind.AGGREGATE ? toBatch(last, stage.batch) : last;
+        if (stage.kind == Kind.AGGREGATE) {
+            stage.batch = new ArrayList<>(stage.param);
+        }
+
+        final var emit = run(chain, index + 1, payload).whenException(ex ->
+                LOGGER.warn("Failed to pass on held payload of {}", payload.getSource(), ex));
+        if (result != null) {
+            emit.whenComplete((_, e) -> {
+                if (e == null) {
+                    result.set(null);
+                } else {
+                    result.setException(e);
+                }
+            });
+        }
+
+        return emit;
+    }
+
+    private static Payload<Map<String, Object>> toBatch(final Payload<Map<String, Object>> last,
+                                                        final List<Object> batch) {
+        final var lastData = last.getData();
+        final var data = new LinkedHashMap<String, Object>();
+        data.put(TOPIC, BATCH_PREFIX + (lastData != null && lastData.get(TOPIC) instanceof String t ? t :
+                String.valueOf(last.getSource())));
+        data.put(TYPE, SNAPSHOT);
+        data.put(TS, lastData != null && lastData.get(TS) != null ? lastData.get(TS) : System.currentTimeMillis());
+        data.put(DATA, batch);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(last.getProvider());
+        payload.setSource(last.getSource());
+        payload.setData(data);
+        return payload;
+    }
+
+    private static Rule parse(final String rule) {
+        final var arrow = rule.indexOf(RULE_ARROW);
+        final var selector = arrow > 0 ? rule.substring(0, arrow).trim().split(SELECTOR_SEPARATOR) : new String[0];
+        if (selector.length != 3) {
+            throw new IllegalStateException("Invalid pipeline rule, expected provider/source/topic -> stages: " +
+                    rule);
+        }
+
+        try {
+            final Provider provider = ANY.equals(selector[0]) ?
+                    null :
+                    Provider.valueOf(selector[0].toUpperCase(Locale.ROOT));
+            final Source source = ANY.equals(selector[1]) ? null : Source.valueOf(selector[1]);
+            final var topicPrefix = ANY.equals(selector[2]) ? null : selector[2];
+            final var stages = new ArrayList<Stage>();
+            var target = Target.SINK;
+            final var specs = rule.substring(arrow + RULE_ARROW.length()).split(Pattern.quote(STAGE_SEPARATOR));
+            for (var i = 0; i < specs.length; i++) {
+                final var matcher = STAGE.matcher(specs[i].trim());
+                if (!matcher.matches()) {
+                    throw new IllegalStateException("Invalid pipeline stage: " + specs[i].trim());
+                }
+
+                final var name = matcher.group(1);
+                final var argument = matcher.group(2).trim();
+                if (ROUTE.equals(name)) {
+                    if (i != specs.length - 1) {
+                        throw new IllegalStateException("Pipeline route must be the last stage");
+                    }
+
+                    target = toTarget(argument);
+                } else {
+                    stages.add(toStage(name, argument));
+                }
+            }
+
+            if (stages.stream().anyMatch(stage -> stage.kind == Kind.CONFLATE)) {
+                checkConflate(rule, provider, source, topicPrefix);
+            }
+
+            return new Rule(provider, source, topicPrefix, stages.toArray(Stage[]::new), target);
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid pipeline rule " + rule + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Rejects conflate rules that can match order books, {@code *} included, and rules that only match linear
+     * tickers, which arrive as deltas and are never held. A rule that matches linear and spot tickers is kept with
+     * a warning, since only the spot half is conflated.
+     */
+    private static void checkConflate(final String rule, final Provider provider, final Source source,
+                                      final String topicPrefix) {
+        if (provider != null && !Provider.BYBIT.equals(provider)) {
+            return;
+        }
+
+        if (overlaps(topicPrefix, ORDER_BOOK_PREFIX)) {
+            throw new IllegalStateException("Pipeline conflate would drop order book deltas: " + rule);
+        }
+
+        if (overlaps(topicPrefix, TICKERS_PREFIX) && (source == null || Source.PML.equals(source))) {
+            if (source != null) {
+                throw new IllegalStateException("Pipeline conflate never holds linear ticker deltas: " + rule);
+            }
+
+            LOGGER.warn("Pipeline rule {} conflates spot tickers only, linear ticker deltas pass at once", rule);
+        }
+    }
+
+    private static boolean overlaps(final String topicPrefix, final String topicClass) {
+        return topicPrefix == null || topicPrefix.startsWith(topicClass) || topicClass.startsWith(topicPrefix);
+    }
+
+    private static Stage toStage(final String name, final String argument) {
+        final var separator = argument.indexOf('=');
+        return switch (name) {
+            case FILTER -> {
+                if (separator <= 0) {
+                    throw new IllegalStateException("Pipeline filter expects field=value: " + argument);
+                }
+
+                yield new Stage(Kind.FILTER, argument.substring(0, separator).trim(),
+                        argument.substring(separator + 1).trim(), 0, 0);
+            }
+            case MAP -> {
+                if (LATEST_QUOTE.equals(argument)) {
+                    yield new Stage(Kind.LATEST_QUOTE, null, null, 0, 0);
+                }
+
+                if (argument.startsWith(DROP_FIELD) && argument.length() > DROP_FIELD.length()) {
+                    yield new Stage(Kind.DROP_FIELD, argument.substring(DROP_FIELD.length()).trim(), null, 0, 0);
+                }
+
+                throw new IllegalStateException("Pipeline map expects latestQuote or drop=field: " + argument);
+            }
+            case CONFLATE -> new Stage(Kind.CONFLATE, null, null, toPositive(name, argument), 0);
+            case AGGREGATE -> {
+                final var arguments = argument.split(ARGUMENT_SEPARATOR);
+                if (arguments.length > 2) {
+                    throw new IllegalStateException("Pipeline aggregate expects n or n,ms: " + argument);
+                }
+
+                yield new Stage(Kind.AGGREGATE, null, null, toPositive(name, arguments[0].trim()),
+                        arguments.length == 2 ? toPositive(name, arguments[1].trim()) : AGGREGATE_MAX_AGE_MS);
+            }
+            default -> throw new IllegalStateException("Unknown pipeline stage: " + name);
+        };
+    }
+
+    private static Target toTarget(final String argument) {
+        return switch (argument) {
+            case LOCAL_TARGET -> Target.LOCAL;
+            case BYBIT_TARGET -> Target.BYBIT;
+            case CMC_TARGET -> Target.CMC;
+            default -> throw new IllegalStateException("Pipeline route expects local, bybit or cmc: " + argument);
+        };
+    }
+
+    private static int toPositive(final String name, final String argument) {
+        final var value = Integer.parseInt(argument);
+        if (value <= 0) {
+            throw new IllegalStateException("Pipeline " + name + " expects a positive number: " + argument);
+        }
+
+        return value;
+    }
+}
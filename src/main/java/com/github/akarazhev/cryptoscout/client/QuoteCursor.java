@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Cmc.NO_TIMESTAMP;
+import static com.github.akarazhev.cryptoscout.client.Constants.State.QUOTE_CURSORS_FILE;
+
+/**
+ * Remembers the timestamp of the last published quote per {@link Source}. The cursor is the start of the next ranged
+ * request, so each poll fetches and publishes only newer quotes. Cursors are persisted under the state directory and
+ * survive restarts.
+ */
+public final class QuoteCursor extends AbstractReactive implements ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuoteCursor.class);
+    private final StateFile cursors;
+    private long skippedQuotes;
+
+    public static QuoteCursor create(final NioReactor reactor, final Executor executor, final Path stateDir) {
+        return new QuoteCursor(reactor, executor, stateDir);
+    }
+
+    private QuoteCursor(final NioReactor reactor, final Executor executor, final Path stateDir) {
+        super(reactor);
+        this.cursors = StateFile.create(reactor, executor, stateDir.resolve(QUOTE_CURSORS_FILE));
+    }
+
+    @Override
+    public Promise<Void> start() {
+        return cursors.load();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        return cursors.flush();
+    }
+
+    /**
+     * Returns the timestamp of the last published quote for the source, or {@link Long#MIN_VALUE} if none.
+     */
+    public long get(final Source source) {
+        final var value = cursors.get(source.name());
+        if (value == null) {
+            return NO_TIMESTAMP;
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            LOGGER.warn("Ignoring malformed quote cursor {}={}", source, value);
+            return NO_TIMESTAMP;
+        }
+    }
+
+    /**
+     * Moves the cursor forward; a timestamp that is not newer than the current cursor is ignored.
+     */
+    public void advance(final Source source, final long timestamp) {
+        if (timestamp <= get(source)) {
+            return;
+        }
+
+        cursors.put(source.name(), Long.toString(timestamp));
+    }
+
+    void onSkipped(final int count) {
+        skippedQuotes += count;
+    }
+
+    @JmxAttribute
+    public long getSkippedQuotes() {
+        return skippedQuotes;
+    }
+}
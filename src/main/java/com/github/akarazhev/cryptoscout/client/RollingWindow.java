@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+/**
+ * Rolling per-second statistics over a fixed window, kept in ring buffers of primitives. Each update and each
+ * second of advance is amortized O(1): running totals are adjusted as slots are written and evicted, and recomputed
+ * from the slots on each full rotation so rounding error does not accumulate. Realized volatility is the square
+ * root of the sum of squared log returns between one-second closes.
+ */
+final class RollingWindow {
+    private final int seconds;
+    private final double[] turnover;
+    private final double[] volume;
+    private final double[] buyVolume;
+    private final double[] squaredReturns;
+    private final int[] trades;
+    private long currentSecond = Long.MIN_VALUE;
+    private int current;
+    private double previousClose = Double.NaN;
+    private double lastPrice = Double.NaN;
+    private double totalTurnover;
+    private double totalVolume;
+    private double totalBuyVolume;
+    private double totalSquaredReturns;
+    private long totalTrades;
+
+    RollingWindow(final int seconds) {
+        this.seconds = seconds;
+        this.turnover = new double[seconds];
+        this.volume = new double[seconds];
+        this.buyVolume = new double[seconds];
+        this.squaredReturns = new double[seconds];
+        this.trades = new int[seconds];
+    }
+
+    void onTrade(final long nowMs, final double price, final double size, final boolean buy) {
+        advance(nowMs);
+        turnover[current] += price * size;
+        volume[current] += size;
+        trades[current]++;
+        totalTurnover += price * size;
+        totalVolume += size;
+        totalTrades++;
+        if (buy) {
+            buyVolume[current] += size;
+            totalBuyVolume += size;
+        }
+
+        onPrice(nowMs, price);
+    }
+
+    void onPrice(final long nowMs, final double price) {
+        advance(nowMs);
+        lastPrice = price;
+        if (!Double.isNaN(previousClose) && previousClose > 0 && price > 0) {
+            final var logReturn = Math.log(price / previousClose);
+            totalSquaredReturns += logReturn * logReturn - squaredReturns[current];
+            squaredReturns[current] = logReturn * logReturn;
+        }
+    }
+
+    /**
+     * Moves the window to the second of {@code nowMs}, evicting the seconds that fell out of it.
+     */
+    void advance(final long nowMs) {
+        final var second = Math.floorDiv(nowMs, 1000L);
+        if (currentSecond == Long.MIN_VALUE) {
+            currentSecond = second;
+            return;
+        }
+
+        if (second <= currentSecond) {
+            return;
+        }
+
+        if (second - currentSecond >= seconds) {
+            clear();
+        } else {
+            for (var s = currentSecond + 1; s <= second; s++) {
+                current = (current + 1) % seconds;
+                evict(current);
+                if (current == 0) {
+                    recompute();
+                }
+            }
+        }
+
+        currentSecond = second;
+        previousClose = lastPrice;
+    }
+
+    double getVwap() {
+        return totalVolume > 0 ? totalTurnover / totalVolume : Double.NaN;
+    }
+
+    double getVolatility() {
+        return Math.sqrt(Math.max(totalSquaredReturns, 0));
+    }
+
+    double getBuyVolume() {
+        return Math.max(totalBuyVolume, 0);
+    }
+
+    double getSellVolume() {
+        return Math.max(totalVolume - totalBuyVolume, 0);
+    }
+
+    /**
+     * Returns (buy - sell) / (buy + sell) volume in [-1, 1], or NaN without trades.
+     */
+    double getImbalance() {
+        final var buy = getBuyVolume();
+        final var sell = getSellVolume();
+        return buy + sell > 0 ? (buy - sell) / (buy + sell) : Double.NaN;
+    }
+
+    long getTrades() {
+        return totalTrades;
+    }
+
+    double getTradeRate() {
+        return (double) totalTrades / seconds;
+    }
+
+    double getLastPrice() {
+        return lastPrice;
+    }
+
+    private void evict(final int slot) {
+        totalTurnover -= turnover[slot];
+        totalVolume -= volume[slot];
+        totalBuyVolume -= buyVolume[slot];
+        totalSquaredReturns -= squaredReturns[slot];
+        totalTrades -= trades[slot];
+        turnover[slot] = 0;
+        volume[slot] = 0;
+        buyVolume[slot] = 0;
+        squaredReturns[slot] = 0;
+        trades[slot] = 0;
+    }
+
+    /**
+     * Replaces the running totals with the sums of the slots.
+     */
+    private void recompute() {
+        totalTurnover = 0;
+        totalVolume = 0;
+        totalBuyVolume = 0;
+        totalSquaredReturns = 0;
+        totalTrades = 0;
+        for (var slot = 0; slot < seconds; slot++) {
+            totalTurnover += turnover[slot];
+            totalVolume += volume[slot];
+            totalBuyVolume += buyVolume[slot];
+            totalSquaredReturns += squaredReturns[slot];
+            totalTrades += trades[slot];
+        }
+    }
+
+    private void clear() {
+        for (var slot = 0; slot < seconds; slot++) {
+            evict(slot);
+        }
+
+        // Start the sums from zero to drop accumulated rounding error
+        totalTurnover = 0;
+        totalVolume = 0;
+        totalBuyVolume = 0;
+        totalSquaredReturns = 0;
+        totalTrades = 0;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.SegmentLog.LENGTH_BYTES;
+import static com.github.akarazhev.cryptoscout.client.Constants.SegmentLog.SEGMENT_FORMAT;
+import static com.github.akarazhev.cryptoscout.client.Constants.SegmentLog.SEGMENT_SUFFIX;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Local append-only log of published payloads for running without a broker. Records are the JSON bytes sent to the
+ * stream, each prefixed by its int length, in preallocated segment files mapped into memory, so an append is a copy
+ * into the page cache with no system call. A segment is named after the offset of its first record and is full when
+ * the next record does not fit; a zero length marks the end of the data. Segments are flushed to disk off the
+ * reactor when they roll and on stop, and the oldest are deleted beyond the retention count (0 keeps all).
+ */
+public final class SegmentLogSink extends AbstractReactive implements Sink, ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentLogSink.class);
+    private final Executor executor;
+    private final Path dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final ArrayDeque<Path> segments = new ArrayDeque<>();
+    private MappedByteBuffer segment;
+    private long offset;
+    private long appendedRecords;
+    private long appendedBytes;
+    private long rejected;
+
+    public static SegmentLogSink create(final NioReactor reactor, final Executor executor, final Path dir,
+                                        final int segmentBytes, final int maxSegments) {
+        return new SegmentLogSink(reactor, executor, dir, segmentBytes, maxSegments);
+    }
+
+    private SegmentLogSink(final NioReactor reactor, final Executor executor, final Path dir, final int segmentBytes,
+                           final int maxSegments) {
+        super(reactor);
+        this.executor = executor;
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+    }
+
+    @Override
+    public Promise<Void> start() {
+        return Promise.ofBlocking(executor, this::open);
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        final var last = segment;
+        segment = null;
+        return last != null ? Promise.ofBlocking(executor, last::force) : Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> publish(final Payload<Map<String, Object>> payload) {
+        return publish(payload, JsonUtils.object2Bytes(payload));
+    }
+
+    @Override
+    public Promise<Void> publish(final Payload<Map<String, Object>> payload, final byte[] bytes) {
+        if (segment == null) {
+            rejected++;
+            return Promise.ofException(new IllegalStateException("Segment log is not open: " + dir));
+        }
+
+        final var recordBytes = LENGTH_BYTES + bytes.length;
+        if (recordBytes > segmentBytes - LENGTH_BYTES) {
+            rejected++;
+            return Promise.ofException(new IllegalStateException("Record of " + bytes.length +
+                    " bytes does not fit a segment of " + segmentBytes + " bytes"));
+        }
+
+        if (segment.remaining() < recordBytes) {
+            try {
+                roll();
+            } catch (final IOException ex) {
+                rejected++;
+                LOGGER.error("Failed to roll segment log {}", dir, ex);
+                return Promise.ofException(ex);
+            }
+        }
+
+        segment.putInt(bytes.length).put(bytes);
+        offset++;
+        appendedRecords++;
+        appendedBytes += recordBytes;
+        return Promise.complete();
+    }
+
+    @Override
+    public boolean isReady() {
+        return segment != null;
+    }
+
+    @JmxAttribute
+    public long getOffset() {
+        return offset;
+    }
+
+    @JmxAttribute
+    public long getAppendedRecords() {
+        return appendedRecords;
+    }
+
+    @JmxAttribute
+    public long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    @JmxAttribute
+    public long getRejected() {
+        return rejected;
+    }
+
+    @JmxAttribute
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(dir);
+            try (final var files = Files.list(dir)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .forEach(segments::addLast);
+            }
+
+            if (segments.isEmpty()) {
+                segments.addLast(dir.resolve(SEGMENT_FORMAT.formatted(0L)));
+            }
+
+            final var last = segments.getLast();
+            final var name = last.getFileName().toString();
+            final var buffer = map(last);
+            var records = 0L;
+            while (buffer.remaining() >= LENGTH_BYTES) {
+                final var length = buffer.getInt(buffer.position());
+                if (length <= 0 || length > buffer.remaining() - LENGTH_BYTES) {
+                    break;
+                }
+
+                buffer.position(buffer.position() + LENGTH_BYTES + length);
+                records++;
+            }
+
+            offset = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())) + records;
+            segment = buffer;
+            LOGGER.info("Opened segment log {} at offset {} ({} segments)", dir, offset, segments.size());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to open segment log " + dir, ex);
+        }
+    }
+
+    private void roll() throws IOException {
+        final var full = segment;
+        final var next = dir.resolve(SEGMENT_FORMAT.formatted(offset));
+        segment = map(next);
+        segments.addLast(next);
+        final var expired = new ArrayDeque<Path>();
+        while (maxSegments > 0 && segments.size() > maxSegments) {
+            expired.addLast(segments.removeFirst());
+        }
+
+        executor.execute(() -> {
+            full.force();
+            for (final var file : expired) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (final IOException ex) {
+                    LOGGER.warn("Failed to delete expired segment {}", file, ex);
+                }
+            }
+        });
+    }
+
+    private MappedByteBuffer map(final Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            // The mapping stays valid after the channel is closed; a segment written with a larger size keeps it
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentBytes));
+        }
+    }
+}
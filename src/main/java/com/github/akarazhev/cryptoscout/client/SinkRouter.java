@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.async.service.ReactiveService;
+import io.activej.promise.Promise;
+import io.activej.promise.Promises;
+import io.activej.reactor.Reactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands every payload to the local fan-out and routes it to the sink of its stream: Bybit spot and linear payloads
+ * to the Bybit sink, CMC payloads to the CMC sink. Each payload is encoded once here and the same bytes go to the
+ * listeners and the sink. Owns the lifecycle of the sinks, so a sink that no route uses is
+ * never started (no broker connection when both routes go to the local log). With {@code pipeline.rules} payloads
+ * first go through the {@link Pipeline} stages, which may drop, hold, transform or reroute them.
+ */
+public final class SinkRouter implements Sink, ReactiveService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SinkRouter.class);
+    private final PayloadFanout payloadFanout;
+    private final Sink bybitSink;
+    private final Sink cmcSink;
+    private final Pipeline pipeline;
+
+    public static SinkRouter create(final PayloadFanout payloadFanout, final Sink bybitSink, final Sink cmcSink) {
+        return new SinkRouter(null, payloadFanout, bybitSink, cmcSink, List.of());
+    }
+
+    public static SinkRouter create(final Reactor reactor, final PayloadFanout payloadFanout, final Sink bybitSink,
+                                    final Sink cmcSink, final List<String> pipelineRules) {
+        return new SinkRouter(reactor, payloadFanout, bybitSink, cmcSink, pipelineRules);
+    }
+
+    private SinkRouter(final Reactor reactor, final PayloadFanout payloadFanout, final Sink bybitSink,
+                       final Sink cmcSink, final List<String> pipelineRules) {
+        if (bybitSink == null || cmcSink == null) {
+            throw new IllegalStateException("Sinks cannot be null");
+        }
+        this.payloadFanout = payloadFanout;
+        this.bybitSink = bybitSink;
+        this.cmcSink = cmcSink;
+        this.pipeline = pipelineRules.isEmpty() ? null : Pipeline.create(reactor, pipelineRules, this::emit);
+    }
+
+    @Override
+    public Promise<Void> start() {
+        return Promises.all(getServices().stream().map(ReactiveService::start));
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+
+        return Promises.all(getServices().stream().map(ReactiveService::stop));
+    }
+
+    @Override
+    public Promise<Void> publish(final Payload<Map<String, Object>> payload) {
+        return pipeline != null ? pipeline.process(payload) : emit(payload, Pipeline.Target.SINK);
+    }
+
+    private Promise<Void> emit(final Payload<Map<String, Object>> payload, final Pipeline.Target target) {
+        final byte[] bytes;
+        try {
+            bytes = encode(payload);
+        } catch (final Exception ex) {
+            LOGGER.error("Failed to encode payload: {}", ex.getMessage(), ex);
+            return Promise.ofException(ex);
+        }
+
+        if (payloadFanout != null) {
+            payloadFanout.publish(payload, bytes);
+        }
+
+        final var sink = switch (target) {
+            case SINK -> getSink(payload.getProvider(), payload.getSource());
+            case LOCAL -> null;
+            case BYBIT -> bybitSink;
+            case CMC -> cmcSink;
+        };
+        if (sink == null) {
+            if (target == Pipeline.Target.SINK) {
+                LOGGER.debug("Skipping publish: no sink for provider={} source={}", payload.getProvider(),
+                        payload.getSource());
+            }
+
+            return Promise.complete();
+        }
+
+        return sink.publish(payload, bytes);
+    }
+
+    private static byte[] encode(final Payload<Map<String, Object>> payload) {
+        final var encoded = new JfrEvents.PayloadEncoded();
+        encoded.begin();
+        final var bytes = JsonUtils.object2Bytes(payload);
+        encoded.end();
+        if (encoded.shouldCommit()) {
+            encoded.describe(payload, bytes.length);
+            encoded.commit();
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public boolean isReady() {
+        return bybitSink.isReady() && cmcSink.isReady();
+    }
+
+    private Sink getSink(final Provider provider, final Source source) {
+        return Provider.CMC.equals(provider) ?
+                cmcSink :
+                Provider.BYBIT.equals(provider) && (Source.PMST.equals(source) || Source.PML.equals(source)) ?
+                        bybitSink :
+                        null;
+    }
+
+    private ArrayList<ReactiveService> getServices() {
+        final var services = new ArrayList<ReactiveService>(2);
+        if (bybitSink instanceof ReactiveService service) {
+            services.add(service);
+        }
+
+        if (cmcSink != bybitSink && cmcSink instanceof ReactiveService service) {
+            services.add(service);
+        }
+
+        return services;
+    }
+}
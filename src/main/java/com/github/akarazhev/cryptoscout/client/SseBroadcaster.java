@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.bytebuf.ByteBuf;
+import io.activej.csp.supplier.AbstractChannelSupplier;
+import io.activej.csp.supplier.ChannelSupplier;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SNAPSHOT;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TYPE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Sse.DATA_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Sse.EVENT_END;
+import static com.github.akarazhev.cryptoscout.client.Constants.Sse.EVENT_PREFIX;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Streams published payloads to Server-Sent Events clients. Each client has a {@link PayloadFilter} and a buffer
+ * that conflates snapshots by (market, symbol, topic): while the client is behind, a newer snapshot replaces the
+ * events queued for the same key, so a slow client gets the latest value instead of a backlog. Deltas and payloads
+ * without a type are queued in order, since dropping one would corrupt the client's state. A client whose buffer
+ * holds more than the limit of events is disconnected. Each event is encoded once and shared by all clients.
+ */
+public final class SseBroadcaster extends AbstractReactive implements PayloadListener, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SseBroadcaster.class);
+    private final int maxClients;
+    private final int maxBuffered;
+    private final List<Connection> connections = new ArrayList<>();
+    private long conflatedEvents;
+    private long slowDisconnects;
+
+    private final class Connection extends AbstractChannelSupplier<ByteBuf> {
+        private final PayloadFilter filter;
+        private final ArrayDeque<Queued> buffer = new ArrayDeque<>();
+        private final Map<PayloadKeys.Key, Integer> queuedPerKey = new HashMap<>();
+        private SettablePromise<ByteBuf> waiting;
+
+        private Connection(final PayloadFilter filter) {
+            this.filter = filter;
+        }
+
+        private void offer(final PayloadKeys.Key key, final ByteBuf event, final boolean snapshot) {
+            if (waiting != null) {
+                final var promise = waiting;
+                waiting = null;
+                promise.set(event);
+                return;
+            }
+
+            if (snapshot && queuedPerKey.containsKey(key)) {
+                // The snapshot supersedes everything queued for its key, deltas included
+                for (final var iterator = buffer.iterator(); iterator.hasNext(); ) {
+                    final var queued = iterator.next();
+                    if (queued.key().equals(key)) {
+                        iterator.remove();
+                        queued.event().recycle();
+                        conflatedEvents++;
+                    }
+                }
+
+                queuedPerKey.remove(key);
+            }
+
+            buffer.add(new Queued(key, event));
+            queuedPerKey.merge(key, 1, Integer::sum);
+            if (buffer.size() > maxBuffered) {
+                slowDisconnects++;
+                LOGGER.warn("Disconnecting slow SSE client with {} buffered events", buffer.size());
+                closeEx(new IllegalStateException("SSE client buffer overflow"));
+            }
+        }
+
+        @Override
+        protected Promise<ByteBuf> doGet() {
+            final var queued = buffer.poll();
+            if (queued != null) {
+                queuedPerKey.computeIfPresent(queued.key(), (_, count) -> count > 1 ? count - 1 : null);
+                return Promise.of(queued.event());
+            }
+
+            waiting = new SettablePromise<>();
+            return waiting;
+        }
+
+        @Override
+        protected void onClosed(final Exception e) {
+            connections.remove(this);
+            buffer.forEach(queued -> queued.event().recycle());
+            buffer.clear();
+            queuedPerKey.clear();
+            if (waiting != null) {
+                final var promise = waiting;
+                waiting = null;
+                promise.setException(e);
+            }
+        }
+    }
+
+    private record Queued(PayloadKeys.Key key, ByteBuf event) {
+    }
+
+    public static SseBroadcaster create(final NioReactor reactor, final int maxClients, final int maxBuffered) {
+        return new SseBroadcaster(reactor, maxClients, maxBuffered);
+    }
+
+    private SseBroadcaster(final NioReactor reactor, final int maxClients, final int maxBuffered) {
+        super(reactor);
+        this.maxClients = maxClients;
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * Opens an event stream for a new client, or returns {@code null} if the client limit is reached.
+     */
+    public ChannelSupplier<ByteBuf> subscribe(final PayloadFilter filter) {
+        if (connections.size() >= maxClients) {
+            LOGGER.warn("Rejecting SSE client: limit of {} reached", maxClients);
+            return null;
+        }
+
+        final var connection = new Connection(filter);
+        connections.add(connection);
+        return connection;
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        onPayload(payload, JsonUtils.object2Bytes(payload));
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload, final byte[] json) {
+        if (connections.isEmpty()) {
+            return;
+        }
+
+        final var key = PayloadKeys.of(payload);
+        final var snapshot = payload.getData() != null && SNAPSHOT.equals(payload.getData().get(TYPE));
+        ByteBuf event = null;
+        // Iterate over a copy: a slow client removes itself while we offer
+        for (final var connection : List.copyOf(connections)) {
+            if (connection.filter.test(key)) {
+                if (event == null) {
+                    event = ByteBuf.wrapForReading(encode(key, json));
+                }
+
+                connection.offer(key, event.slice(), snapshot);
+            }
+        }
+
+        if (event != null) {
+            event.recycle();
+        }
+    }
+
+    static byte[] encode(final PayloadKeys.Key key, final byte[] json) {
+        final var prefix = (EVENT_PREFIX + key.asString() + DATA_PREFIX).getBytes(UTF_8);
+        final var event = new byte[prefix.length + json.length + EVENT_END.length()];
+        System.arraycopy(prefix, 0, event, 0, prefix.length);
+        System.arraycopy(json, 0, event, prefix.length, json.length);
+        for (var i = 0; i < EVENT_END.length(); i++) {
+            event[prefix.length + json.length + i] = (byte) EVENT_END.charAt(i);
+        }
+
+        return event;
+    }
+
+    @JmxAttribute
+    public int getClients() {
+        return connections.size();
+    }
+
+    @JmxAttribute
+    public long getConflatedEvents() {
+        return conflatedEvents;
+    }
+
+    @JmxAttribute
+    public long getSlowDisconnects() {
+        return slowDisconnects;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.async.service.ReactiveService;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import io.activej.reactor.schedule.ScheduledRunnable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ALL_LIQUIDATION_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.KLINE_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.ORDER_BOOK_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.PUBLIC_TRADE_PREFIX;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TICKERS_PREFIX;
+
+/**
+ * Tracks the last update time of every Bybit topic per source and fires the owner's resubscribe callback when a
+ * topic stays silent for longer than the interval expected for its class (order book, tickers, trades, klines,
+ * liquidations). Spot and linear publish the same topic names, so each source is tracked apart. All state is
+ * confined to the reactor thread.
+ */
+public final class StalenessWatchdog extends AbstractReactive implements ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StalenessWatchdog.class);
+    private final Map<Source, Map<String, TopicState>> sources = new EnumMap<>(Source.class);
+    private final boolean enabled;
+    private final long checkIntervalMs;
+    private final long orderBookStaleMs;
+    private final long tickersStaleMs;
+    private final long tradeStaleMs;
+    private final long klineStaleMs;
+    private final long liquidationStaleMs;
+    private ScheduledRunnable check;
+    private long staleEvents;
+
+    private static final class TopicState {
+        private final Source source;
+        private final String topic;
+        private final long expectedMs;
+        private Runnable onStale;
+        private long lastUpdateMs;
+        private long lastResubscribeMs;
+        private boolean stale;
+
+        private TopicState(final Source source, final String topic, final long expectedMs, final Runnable onStale,
+                           final long nowMs) {
+            this.source = source;
+            this.topic = topic;
+            this.expectedMs = expectedMs;
+            this.onStale = onStale;
+            this.lastUpdateMs = nowMs;
+        }
+    }
+
+    public static StalenessWatchdog create(final NioReactor reactor) {
+        return new StalenessWatchdog(reactor);
+    }
+
+    private StalenessWatchdog(final NioReactor reactor) {
+        super(reactor);
+        this.enabled = BybitStreamConfig.isWatchdogEnabled();
+        this.checkIntervalMs = BybitStreamConfig.getWatchdogCheckIntervalMs();
+        this.orderBookStaleMs = BybitStreamConfig.getWatchdogOrderBookStaleMs();
+        this.tickersStaleMs = BybitStreamConfig.getWatchdogTickersStaleMs();
+        this.tradeStaleMs = BybitStreamConfig.getWatchdogTradeStaleMs();
+        this.klineStaleMs = BybitStreamConfig.getWatchdogKlineStaleMs();
+        this.liquidationStaleMs = BybitStreamConfig.getWatchdogLiquidationStaleMs();
+    }
+
+    @Override
+    public Promise<Void> start() {
+        if (enabled) {
+            scheduleCheck();
+        }
+
+        return Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        if (check != null) {
+            check.cancel();
+            check = null;
+        }
+
+        return Promise.complete();
+    }
+
+    /**
+     * Records an update of the source's topic. The callback of the stream that delivered it is invoked from the
+     * reactor thread whenever the topic goes stale; a stream that takes a topic over, e.g. a restarted runtime
+     * connection, rebinds it.
+     */
+    public void onUpdate(final Source source, final String topic, final Runnable onStale) {
+        onUpdate(source, topic, onStale, reactor.currentTimeMillis());
+    }
+
+    void onUpdate(final Source source, final String topic, final Runnable onStale, final long nowMs) {
+        if (!enabled || source == null || topic == null) {
+            return;
+        }
+
+        final var topics = sources.computeIfAbsent(source, _ -> new HashMap<>());
+        final var state = topics.get(topic);
+        if (state == null) {
+            topics.put(topic, new TopicState(source, topic, getExpectedMs(topic), onStale, nowMs));
+        } else {
+            state.lastUpdateMs = nowMs;
+            state.stale = false;
+            if (onStale != null) {
+                state.onStale = onStale;
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the topics bound to the callback, e.g. once their stream is closed for good.
+     */
+    public void forget(final Runnable onStale) {
+        for (final var topics : sources.values()) {
+            topics.values().removeIf(state -> state.onStale == onStale);
+        }
+    }
+
+    void check(final long nowMs) {
+        for (final var topics : sources.values()) {
+            for (final var state : topics.values()) {
+                // A slow resubscribe is given a full stale period before it is retriggered
+                final var sinceMs = Math.max(state.lastUpdateMs, state.lastResubscribeMs);
+                if (state.expectedMs > 0 && nowMs - sinceMs > state.expectedMs) {
+                    LOGGER.warn("Topic {} {} is stale: no update for {} ms (expected within {} ms), resubscribing",
+                            state.source, state.topic, nowMs - state.lastUpdateMs, state.expectedMs);
+                    state.stale = true;
+                    state.lastResubscribeMs = nowMs;
+                    staleEvents++;
+                    if (state.onStale != null) {
+                        state.onStale.run();
+                    }
+                }
+            }
+        }
+    }
+
+    long getExpectedMs(final String topic) {
+        if (topic.startsWith(ORDER_BOOK_PREFIX)) {
+            return orderBookStaleMs;
+        } else if (topic.startsWith(TICKERS_PREFIX)) {
+            return tickersStaleMs;
+        } else if (topic.startsWith(PUBLIC_TRADE_PREFIX)) {
+            return tradeStaleMs;
+        } else if (topic.startsWith(KLINE_PREFIX)) {
+            return klineStaleMs;
+        } else if (topic.startsWith(ALL_LIQUIDATION_PREFIX)) {
+            return liquidationStaleMs;
+        }
+
+        return 0;
+    }
+
+    public boolean isHealthy() {
+        return getStaleTopicCount() == 0;
+    }
+
+    public String report() {
+        final var nowMs = reactor.currentTimeMillis();
+        final var report = new StringBuilder();
+        for (final var topics : sources.values()) {
+            for (final var state : topics.values()) {
+                report.append(state.source).append(' ').append(state.topic)
+                        .append(" staleness_ms=").append(nowMs - state.lastUpdateMs)
+                        .append(" expected_ms=").append(state.expectedMs)
+                        .append(" stale=").append(state.stale)
+                        .append('\n');
+            }
+        }
+
+        return report.toString();
+    }
+
+    @JmxAttribute
+    public int getTopicCount() {
+        var count = 0;
+        for (final var topics : sources.values()) {
+            count += topics.size();
+        }
+
+        return count;
+    }
+
+    @JmxAttribute
+    public int getStaleTopicCount() {
+        var count = 0;
+        for (final var topics : sources.values()) {
+            for (final var state : topics.values()) {
+                if (state.stale) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @JmxAttribute
+    public long getMaxStalenessMs() {
+        return getMaxStalenessMs(reactor.currentTimeMillis());
+    }
+
+    long getMaxStalenessMs(final long nowMs) {
+        var max = 0L;
+        for (final var topics : sources.values()) {
+            for (final var state : topics.values()) {
+                max = Math.max(max, nowMs - state.lastUpdateMs);
+            }
+        }
+
+        return max;
+    }
+
+    @JmxAttribute
+    public long getStaleEvents() {
+        return staleEvents;
+    }
+
+    private void scheduleCheck() {
+        check = reactor.delayBackground(checkIntervalMs, () -> {
+            check(reactor.currentTimeMillis());
+            scheduleCheck();
+        });
+    }
+}
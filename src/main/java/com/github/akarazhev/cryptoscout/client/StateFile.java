@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.promise.Promise;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.Reactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Small key-value state file kept under the configured state directory. Reads happen on the reactor thread, every
+ * change is written on the executor in order. Writes go to a temporary file that is atomically moved into place, so
+ * a crash never leaves a half-written file behind.
+ */
+final class StateFile extends AbstractReactive {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StateFile.class);
+    private final Executor executor;
+    private final Path path;
+    private final Properties properties = new Properties();
+    private Promise<Void> lastWrite = Promise.complete();
+
+    static StateFile create(final Reactor reactor, final Executor executor, final Path path) {
+        return new StateFile(reactor, executor, path);
+    }
+
+    private StateFile(final Reactor reactor, final Executor executor, final Path path) {
+        super(reactor);
+        this.executor = executor;
+        this.path = path;
+    }
+
+    /**
+     * Loads the file if it exists. A file that cannot be read is logged and the state starts empty.
+     */
+    Promise<Void> load() {
+        return Promise.ofBlocking(executor, () -> load(path))
+                .whenResult(loaded -> {
+                    properties.putAll(loaded);
+                    LOGGER.info("Loaded {} entries from {}", loaded.size(), path);
+                })
+                .whenException(ex -> LOGGER.warn("Failed to load {}, starting empty", path, ex))
+                .then((_, _) -> Promise.complete());
+    }
+
+    String get(final String key) {
+        return properties.getProperty(key);
+    }
+
+    /**
+     * Sets the value and schedules a write of the whole file after the previous one.
+     */
+    void put(final String key, final String value) {
+        properties.setProperty(key, value);
+        final var snapshot = new Properties();
+        snapshot.putAll(properties);
+        lastWrite = lastWrite
+                .then(() -> Promise.ofBlocking(executor, () -> store(path, snapshot)))
+                .whenException(ex -> LOGGER.warn("Failed to persist {}", path, ex))
+                .then((_, _) -> Promise.complete());
+    }
+
+    /**
+     * Completes once every change made so far is written.
+     */
+    Promise<Void> flush() {
+        return lastWrite;
+    }
+
+    private static Properties load(final Path path) throws IOException {
+        final var properties = new Properties();
+        if (Files.exists(path)) {
+            try (final var reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+        }
+
+        return properties;
+    }
+
+    private static void store(final Path path, final Properties properties) throws IOException {
+        final var dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final var tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (final var writer = Files.newBufferedWriter(tmp)) {
+                properties.store(writer, null);
+            }
+
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
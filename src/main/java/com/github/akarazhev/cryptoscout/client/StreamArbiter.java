@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.CROSS_SEQUENCE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.DATA;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.KEY_SEPARATOR;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.SEQUENCE;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.START;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TOPIC;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TRADE_ID;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.TS;
+import static com.github.akarazhev.cryptoscout.client.Constants.Bybit.UPDATE_ID;
+
+/**
+ * Merges a primary and a hot-standby feed of the same subscription. The first copy of every message wins, so a
+ * stalled leg never leaves a gap as long as the other one is alive. When the active leg stays silent longer than the
+ * stall window the other leg is promoted, and the consumer reconnects the demoted one. Not thread-safe: call from
+ * the reactor thread.
+ */
+final class StreamArbiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamArbiter.class);
+
+    enum Feed {
+        PRIMARY,
+        STANDBY
+    }
+
+    private final Map<String, Boolean> recentKeys;
+    private final long stallMs;
+    private Feed active = Feed.PRIMARY;
+    private long lastPrimaryMs;
+    private long lastStandbyMs;
+    private long duplicates;
+    private long promotions;
+
+    static StreamArbiter create(final int dedupWindow, final long stallMs) {
+        return new StreamArbiter(dedupWindow, stallMs);
+    }
+
+    private StreamArbiter(final int dedupWindow, final long stallMs) {
+        if (dedupWindow <= 0) {
+            throw new IllegalStateException("Dedup window must be positive");
+        }
+        this.stallMs = stallMs;
+        this.recentKeys = new LinkedHashMap<>(dedupWindow * 2, 0.75f) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+                return size() > dedupWindow;
+            }
+        };
+    }
+
+    boolean accept(final Feed feed, final Map<String, Object> data, final long nowMs) {
+        if (lastPrimaryMs == 0 && lastStandbyMs == 0) {
+            lastPrimaryMs = nowMs;
+            lastStandbyMs = nowMs;
+        }
+
+        if (Feed.PRIMARY.equals(feed)) {
+            lastPrimaryMs = nowMs;
+        } else {
+            lastStandbyMs = nowMs;
+        }
+
+        final var key = key(data);
+        if (key != null && recentKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            duplicates++;
+            return false;
+        }
+
+        if (!feed.equals(active) && isStalled(active, nowMs)) {
+            LOGGER.warn("Promoting {} feed: {} feed stalled for more than {} ms", feed, active, stallMs);
+            active = feed;
+            promotions++;
+        }
+
+        return true;
+    }
+
+    Feed getActive() {
+        return active;
+    }
+
+    long getDuplicates() {
+        return duplicates;
+    }
+
+    long getPromotions() {
+        return promotions;
+    }
+
+    private boolean isStalled(final Feed feed, final long nowMs) {
+        return nowMs - (Feed.PRIMARY.equals(feed) ? lastPrimaryMs : lastStandbyMs) > stallMs;
+    }
+
+    static String key(final Map<String, Object> data) {
+        if (data == null || !(data.get(TOPIC) instanceof String topic)) {
+            return null;
+        }
+
+        final var key = new StringBuilder(64).append(topic).append(KEY_SEPARATOR).append(data.get(TS));
+        final var body = data.get(DATA);
+        if (body instanceof Map<?, ?> map) {
+            append(key, map.get(UPDATE_ID));
+            append(key, map.get(SEQUENCE));
+        } else if (body instanceof List<?> list && !list.isEmpty() && list.getFirst() instanceof Map<?, ?> first) {
+            append(key, first.get(TRADE_ID));
+            append(key, first.get(START));
+        }
+
+        append(key, data.get(CROSS_SEQUENCE));
+        return key.toString();
+    }
+
+    private static void append(final StringBuilder key, final Object value) {
+        if (value != null) {
+            key.append(KEY_SEPARATOR).append(value);
+        }
+    }
+}
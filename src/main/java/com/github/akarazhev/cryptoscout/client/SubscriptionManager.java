@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.bybit.config.StreamType;
+import com.github.akarazhev.jcryptolib.bybit.config.Topic;
+import com.github.akarazhev.jcryptolib.bybit.stream.BybitConfig;
+import com.github.akarazhev.jcryptolib.bybit.stream.BybitStream;
+import io.activej.async.service.ReactiveService;
+import io.activej.http.IWebSocketClient;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.promise.Promise;
+import io.activej.promise.Promises;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bybit topics subscribed at runtime through the admin API, on connections of their own next to the ones the Bybit
+ * modules configure. Topics added together are subscribed on one new connection, so live connections are never
+ * touched by an addition; removing topics restarts only the connections that carry them with their remaining topics
+ * (one targeted resubscribe each) and closes a connection that is left empty. Topics already subscribed at runtime
+ * on the same market are ignored, topics the Bybit modules carry are rejected; the number of runtime connections is
+ * capped.
+ */
+public final class SubscriptionManager extends AbstractReactive implements ReactiveService, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionManager.class);
+    private final NioReactor nioReactor;
+    private final IWebSocketClient webSocketClient;
+    private final StalenessWatchdog stalenessWatchdog;
+    private final KlineBackfill klineBackfill;
+    private final Sink sink;
+    private final int maxConnections;
+    private final List<Connection> connections = new ArrayList<>();
+    private final Map<StreamType, Set<Topic>> reserved = new EnumMap<>(StreamType.class);
+    private long changes;
+
+    private static final class Connection {
+        private final StreamType streamType;
+        private final Set<Topic> topics;
+        private BybitSubscriptionConsumer consumer;
+
+        private Connection(final StreamType streamType, final Set<Topic> topics) {
+            this.streamType = streamType;
+            this.topics = topics;
+        }
+    }
+
+    public static SubscriptionManager create(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                             final StalenessWatchdog stalenessWatchdog,
+                                             final KlineBackfill klineBackfill, final Sink sink,
+                                             final int maxConnections) {
+        return new SubscriptionManager(reactor, webSocketClient, stalenessWatchdog, klineBackfill, sink,
+                maxConnections);
+    }
+
+    private SubscriptionManager(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                final StalenessWatchdog stalenessWatchdog, final KlineBackfill klineBackfill,
+                                final Sink sink, final int maxConnections) {
+        super(reactor);
+        this.nioReactor = reactor;
+        this.webSocketClient = webSocketClient;
+        this.stalenessWatchdog = stalenessWatchdog;
+        this.klineBackfill = klineBackfill;
+        this.sink = sink;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public Promise<Void> start() {
+        return Promise.complete();
+    }
+
+    @Override
+    public Promise<Void> stop() {
+        final var closing = connections.stream()
+                .filter(connection -> connection.consumer != null)
+                .map(connection -> connection.consumer.close())
+                .toList();
+        connections.clear();
+        return Promises.all(closing);
+    }
+
+    /**
+     * Marks topics as carried by a configured Bybit module, so they cannot be subscribed a second time at runtime.
+     */
+    public void reserve(final StreamType streamType, final Collection<Topic> topics) {
+        reserved.computeIfAbsent(streamType, _ -> new LinkedHashSet<>()).addAll(topics);
+    }
+
+    /**
+     * Subscribes the topics that are not subscribed at runtime yet on a new connection. Topics a Bybit module
+     * already carries are rejected, since a second subscription would publish every payload twice.
+     */
+    public Promise<Void> subscribe(final StreamType streamType, final Collection<Topic> topics) {
+        final var duplicates = topics.stream()
+                .filter(reserved.getOrDefault(streamType, Set.of())::contains)
+                .toList();
+        if (!duplicates.isEmpty()) {
+            return Promise.ofException(new IllegalStateException("Topics " + duplicates + " of " + streamType +
+                    " are subscribed by a Bybit module"));
+        }
+
+        final var added = new LinkedHashSet<>(topics);
+        for (final var connection : connections) {
+            if (connection.streamType == streamType) {
+                added.removeAll(connection.topics);
+            }
+        }
+
+        if (added.isEmpty()) {
+            return Promise.complete();
+        }
+
+        if (connections.size() >= maxConnections) {
+            return Promise.ofException(new IllegalStateException("Runtime subscriptions are limited to " +
+                    maxConnections + " connections"));
+        }
+
+        final var connection = new Connection(streamType, added);
+        connections.add(connection);
+        changes++;
+        LOGGER.info("Subscribing {} {} on a new connection", streamType, added);
+        return open(connection).whenException(_ -> connections.remove(connection));
+    }
+
+    /**
+     * Unsubscribes the topics, restarting only the connections that carry them.
+     */
+    public Promise<Void> unsubscribe(final StreamType streamType, final Collection<Topic> topics) {
+        final var changed = new ArrayList<Promise<Void>>();
+        for (final var connection : List.copyOf(connections)) {
+            if (connection.streamType != streamType || !connection.topics.removeAll(topics)) {
+                continue;
+            }
+
+            changes++;
+            final var consumer = connection.consumer;
+            connection.consumer = null;
+            final var closing = consumer != null ? consumer.close() : Promise.<Void>complete();
+            if (connection.topics.isEmpty()) {
+                LOGGER.info("Closing {} connection, no runtime topics left", streamType);
+                connections.remove(connection);
+                changed.add(closing);
+            } else {
+                LOGGER.info("Resubscribing {} connection with {}", streamType, connection.topics);
+                changed.add(closing.then(() -> open(connection))
+                        .whenException(_ -> connections.remove(connection)));
+            }
+        }
+
+        return Promises.all(changed);
+    }
+
+    /**
+     * Lists the runtime connections, one line per connection, e.g. {@code PMST TICKERS_SOL_USDT,KLINE_1_SOL_USDT}.
+     */
+    public String report() {
+        return connections.stream()
+                .map(connection -> connection.streamType + " " + connection.topics.stream()
+                        .map(Topic::name)
+                        .collect(Collectors.joining(",")))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @JmxAttribute
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    @JmxAttribute
+    public int getTopicCount() {
+        return connections.stream()
+                .mapToInt(connection -> connection.topics.size())
+                .sum();
+    }
+
+    @JmxAttribute
+    public long getChanges() {
+        return changes;
+    }
+
+    private Promise<Void> open(final Connection connection) {
+        final var builder = new BybitConfig.Builder()
+                .streamType(connection.streamType);
+        connection.topics.forEach(builder::topic);
+        final var consumer = BybitSubscriptionConsumer.create(nioReactor,
+                BybitStream.create(nioReactor, webSocketClient, builder.build()), stalenessWatchdog, klineBackfill,
+                sink);
+        connection.consumer = consumer;
+        return consumer.start().whenException(ex -> {
+            LOGGER.error("Failed to subscribe {} {}", connection.streamType, connection.topics, ex);
+            if (connection.consumer == consumer) {
+                connection.consumer = null;
+            }
+
+            consumer.close();
+        });
+    }
+}
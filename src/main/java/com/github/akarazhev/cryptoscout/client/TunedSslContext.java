@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Client {@link SSLContext} tuned for frequent reconnects: a sized, long-lived client session cache so reconnects to
+ * the same host resume the previous session (TLS 1.2 session ids, TLS 1.3 tickets) instead of doing a full
+ * handshake, and engines restricted to the configured protocols with the preferred cipher suites offered first.
+ */
+public final class TunedSslContext extends SSLContext {
+
+    private TunedSslContext(final SSLContext delegate, final SSLParameters parameters) {
+        super(new Spi(delegate, parameters), delegate.getProvider(), delegate.getProtocol());
+    }
+
+    public static TunedSslContext create(final List<String> protocols, final List<String> preferredCipherSuites,
+                                         final int sessionCacheSize, final int sessionTimeoutSeconds)
+            throws NoSuchAlgorithmException, KeyManagementException {
+        final var delegate = SSLContext.getInstance("TLS");
+        delegate.init(null, null, null);
+        final var sessionContext = delegate.getClientSessionContext();
+        sessionContext.setSessionCacheSize(sessionCacheSize);
+        sessionContext.setSessionTimeout(sessionTimeoutSeconds);
+
+        final var defaults = delegate.getDefaultSSLParameters();
+        final var supported = delegate.getSupportedSSLParameters();
+        final var parameters = new SSLParameters();
+        parameters.setProtocols(retain(protocols, supported.getProtocols()).toArray(String[]::new));
+        parameters.setCipherSuites(order(preferredCipherSuites, defaults.getCipherSuites()).toArray(String[]::new));
+        return new TunedSslContext(delegate, parameters);
+    }
+
+    /**
+     * Returns the requested protocols that are supported, in the requested order.
+     */
+    static List<String> retain(final List<String> requested, final String[] supported) {
+        final var supportedList = Arrays.asList(supported);
+        final var retained = new ArrayList<String>(requested.size());
+        for (final var protocol : requested) {
+            if (supportedList.contains(protocol)) {
+                retained.add(protocol);
+            }
+        }
+
+        if (retained.isEmpty()) {
+            throw new IllegalStateException("None of the TLS protocols " + requested + " is supported");
+        }
+
+        return retained;
+    }
+
+    /**
+     * Moves the preferred suites that are enabled by default to the front, keeping the rest in their default order.
+     */
+    static List<String> order(final List<String> preferred, final String[] defaults) {
+        final var defaultList = Arrays.asList(defaults);
+        final var ordered = new ArrayList<String>(defaults.length);
+        for (final var suite : preferred) {
+            if (defaultList.contains(suite) && !ordered.contains(suite)) {
+                ordered.add(suite);
+            }
+        }
+
+        for (final var suite : defaults) {
+            if (!ordered.contains(suite)) {
+                ordered.add(suite);
+            }
+        }
+
+        return ordered;
+    }
+
+    private static final class Spi extends SSLContextSpi {
+        private final SSLContext delegate;
+        private final SSLParameters parameters;
+
+        private Spi(final SSLContext delegate, final SSLParameters parameters) {
+            this.delegate = delegate;
+            this.parameters = parameters;
+        }
+
+        @Override
+        protected void engineInit(final KeyManager[] keyManagers, final TrustManager[] trustManagers,
+                                  final SecureRandom random) throws KeyManagementException {
+            delegate.init(keyManagers, trustManagers, random);
+        }
+
+        @Override
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return delegate.getSocketFactory();
+        }
+
+        @Override
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return delegate.getServerSocketFactory();
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine() {
+            return tune(delegate.createSSLEngine());
+        }
+
+        @Override
+        protected SSLEngine engineCreateSSLEngine(final String host, final int port) {
+            // The peer host and port key the session cache, which is what makes resumption possible
+            return tune(delegate.createSSLEngine(host, port));
+        }
+
+        @Override
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return delegate.getServerSessionContext();
+        }
+
+        @Override
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return delegate.getClientSessionContext();
+        }
+
+        private SSLEngine tune(final SSLEngine engine) {
+            engine.setSSLParameters(parameters);
+            return engine;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.bytebuf.ByteBuf;
+import io.activej.http.IWebSocket;
+import io.activej.jmx.api.attribute.JmxAttribute;
+import io.activej.reactor.AbstractReactive;
+import io.activej.reactor.jmx.ReactiveJmxBean;
+import io.activej.reactor.nio.NioReactor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Re-broadcasts published payloads to local WebSocket subscribers, so internal tools share the client's exchange
+ * connections. Each subscriber receives the payloads matching its {@link PayloadFilter}. A payload is encoded once
+ * and every subscriber gets a slice of the same buffer. A subscriber whose send queue exceeds the limit is
+ * disconnected instead of buffering without bound.
+ */
+public final class WebSocketFanout extends AbstractReactive implements PayloadListener, ReactiveJmxBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketFanout.class);
+    private final int maxSubscribers;
+    private final int maxPending;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long sentMessages;
+    private long slowDisconnects;
+
+    private final class Subscriber {
+        private final IWebSocket webSocket;
+        private final PayloadFilter filter;
+        private final ArrayDeque<ByteBuf> queue = new ArrayDeque<>();
+        private boolean writing;
+        private boolean closed;
+
+        private Subscriber(final IWebSocket webSocket, final PayloadFilter filter) {
+            this.webSocket = webSocket;
+            this.filter = filter;
+        }
+
+        private void send(final ByteBuf buf) {
+            if (queue.size() >= maxPending) {
+                buf.recycle();
+                slowDisconnects++;
+                LOGGER.warn("Disconnecting slow WebSocket subscriber with {} pending messages", queue.size());
+                close();
+                return;
+            }
+
+            queue.add(buf);
+            flush();
+        }
+
+        private void flush() {
+            if (writing || closed) {
+                return;
+            }
+
+            final var buf = queue.poll();
+            if (buf == null) {
+                return;
+            }
+
+            writing = true;
+            webSocket.writeFrame(IWebSocket.Frame.text(buf, true))
+                    .whenResult(() -> {
+                        sentMessages++;
+                        writing = false;
+                        flush();
+                    })
+                    .whenException(_ -> close());
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            subscribers.remove(this);
+            ByteBuf buf;
+            while ((buf = queue.poll()) != null) {
+                buf.recycle();
+            }
+
+            webSocket.close();
+        }
+
+        private void read() {
+            webSocket.readMessage()
+                    .whenResult(message -> {
+                        // Subscribers only listen; anything they send is ignored, end of stream means closed
+                        if (message == null) {
+                            close();
+                        } else {
+                            read();
+                        }
+                    })
+                    .whenException(_ -> close());
+        }
+    }
+
+    public static WebSocketFanout create(final NioReactor reactor, final int maxSubscribers, final int maxPending) {
+        return new WebSocketFanout(reactor, maxSubscribers, maxPending);
+    }
+
+    private WebSocketFanout(final NioReactor reactor, final int maxSubscribers, final int maxPending) {
+        super(reactor);
+        this.maxSubscribers = maxSubscribers;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Registers an accepted WebSocket as a subscriber, or closes it if the subscriber limit is reached.
+     */
+    public void subscribe(final IWebSocket webSocket, final PayloadFilter filter) {
+        if (subscribers.size() >= maxSubscribers) {
+            LOGGER.warn("Rejecting WebSocket subscriber: limit of {} reached", maxSubscribers);
+            webSocket.close();
+            return;
+        }
+
+        final var subscriber = new Subscriber(webSocket, filter);
+        subscribers.add(subscriber);
+        subscriber.read();
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload) {
+        onPayload(payload, JsonUtils.object2Bytes(payload));
+    }
+
+    @Override
+    public void onPayload(final Payload<Map<String, Object>> payload, final byte[] json) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        final var key = PayloadKeys.of(payload);
+        ByteBuf encoded = null;
+        // Iterate over a copy: a slow subscriber removes itself while we send
+        for (final var subscriber : List.copyOf(subscribers)) {
+            if (subscriber.filter.test(key)) {
+                if (encoded == null) {
+                    encoded = ByteBuf.wrapForReading(json);
+                }
+
+                subscriber.send(encoded.slice());
+            }
+        }
+
+        if (encoded != null) {
+            encoded.recycle();
+        }
+    }
+
+    @JmxAttribute
+    public int getSubscribers() {
+        return subscribers.size();
+    }
+
+    @JmxAttribute
+    public long getSentMessages() {
+        return sentMessages;
+    }
+
+    @JmxAttribute
+    public long getSlowDisconnects() {
+        return slowDisconnects;
+    }
+}
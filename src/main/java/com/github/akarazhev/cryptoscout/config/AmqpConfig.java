@@ -27,32 +27,41 @@ package com.github.akarazhev.cryptoscout.config;
 import com.github.akarazhev.jcryptolib.config.AppConfig;
 import com.rabbitmq.stream.Environment;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_BYBIT_STREAM;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_CONFIRM_WINDOW;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_CRYPTO_SCOUT_STREAM;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_ENVIRONMENTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_PREFIX;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_HOST;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_PASSWORD;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_USERNAME;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RECONNECT_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_START_BUFFER;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_STREAM_PORT;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.PRIMARY_ENVIRONMENT;
 
 public final class AmqpConfig {
     private AmqpConfig() {
         throw new UnsupportedOperationException();
     }
 
-    private static String getAmqpRabbitmqHost() {
-        return AppConfig.getAsString(AMQP_RABBITMQ_HOST);
+    private static String getAmqpRabbitmqHost(final String environment) {
+        return AppConfig.getAsString(getEnvironmentKey(environment, AMQP_RABBITMQ_HOST));
     }
 
-    private static String getAmqpRabbitmqUsername() {
-        return AppConfig.getAsString(AMQP_RABBITMQ_USERNAME);
+    private static String getAmqpRabbitmqUsername(final String environment) {
+        return AppConfig.getAsString(getEnvironmentKey(environment, AMQP_RABBITMQ_USERNAME));
     }
 
-    private static String getAmqpRabbitmqPassword() {
-        return AppConfig.getAsString(AMQP_RABBITMQ_PASSWORD);
+    private static String getAmqpRabbitmqPassword(final String environment) {
+        return AppConfig.getAsString(getEnvironmentKey(environment, AMQP_RABBITMQ_PASSWORD));
     }
 
-    private static int getAmqpStreamPort() {
-        return AppConfig.getAsInt(AMQP_STREAM_PORT);
+    private static int getAmqpStreamPort(final String environment) {
+        return AppConfig.getAsInt(getEnvironmentKey(environment, AMQP_STREAM_PORT));
     }
 
     public static String getAmqpBybitStream() {
@@ -63,12 +72,46 @@ public final class AmqpConfig {
         return AppConfig.getAsString(AMQP_CRYPTO_SCOUT_STREAM);
     }
 
-    public static Environment getEnvironment() {
+    public static int getAmqpStartBuffer() {
+        return AppConfig.getAsInt(AMQP_START_BUFFER);
+    }
+
+    public static List<String> getAmqpEnvironments() {
+        final var value = AppConfig.getAsString(AMQP_ENVIRONMENTS);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    public static int getAmqpConfirmWindow(final String environment) {
+        return AppConfig.getAsInt(getEnvironmentKey(environment, AMQP_CONFIRM_WINDOW));
+    }
+
+    public static int getAmqpReconnectIntervalMs() {
+        return AppConfig.getAsInt(AMQP_RECONNECT_INTERVAL_MS);
+    }
+
+    public static Environment getEnvironment(final String environment) {
         return Environment.builder()
-                .host(AmqpConfig.getAmqpRabbitmqHost())
-                .port(AmqpConfig.getAmqpStreamPort())
-                .username(AmqpConfig.getAmqpRabbitmqUsername())
-                .password(AmqpConfig.getAmqpRabbitmqPassword())
+                .host(AmqpConfig.getAmqpRabbitmqHost(environment))
+                .port(AmqpConfig.getAmqpStreamPort(environment))
+                .username(AmqpConfig.getAmqpRabbitmqUsername(environment))
+                .password(AmqpConfig.getAmqpRabbitmqPassword(environment))
                 .build();
     }
+
+    /**
+     * The primary environment uses the {@code amqp.*} keys, any other one {@code amqp.<environment>.*}, e.g.
+     * {@code amqp.analytics.rabbitmq.host}.
+     */
+    static String getEnvironmentKey(final String environment, final String key) {
+        return PRIMARY_ENVIRONMENT.equals(environment) ?
+                key :
+                AMQP_PREFIX + environment + "." + key.substring(AMQP_PREFIX.length());
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.config;
+
+import com.github.akarazhev.jcryptolib.config.AppConfig;
+
+import java.nio.file.Path;
+
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_WINDOW_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_BASIS_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_BASIS_MAX_SKEW_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_FETCH_ATTEMPTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_FETCH_ATTEMPTS_DELAY;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_DEDUP_WINDOW;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_STALL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_BACKFILL_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_DIR;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_QUERY_LIMIT;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_BURST_COUNT;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_BURST_NOTIONAL;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_REST_RATE_LIMIT_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_REST_URL;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_CHECK_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_KLINE_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_LIQUIDATION_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_ORDER_BOOK_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_TICKERS_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_TRADE_STALE_MS;
+
+public final class BybitStreamConfig {
+    private BybitStreamConfig() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static boolean isHotStandbyEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_HOT_STANDBY_ENABLED);
+    }
+
+    public static int getHotStandbyDedupWindow() {
+        return AppConfig.getAsInt(BYBIT_HOT_STANDBY_DEDUP_WINDOW);
+    }
+
+    public static int getHotStandbyStallMs() {
+        return AppConfig.getAsInt(BYBIT_HOT_STANDBY_STALL_MS);
+    }
+
+    public static boolean isWatchdogEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_WATCHDOG_ENABLED);
+    }
+
+    public static int getWatchdogCheckIntervalMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_CHECK_INTERVAL_MS);
+    }
+
+    public static int getWatchdogOrderBookStaleMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_ORDER_BOOK_STALE_MS);
+    }
+
+    public static int getWatchdogTickersStaleMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_TICKERS_STALE_MS);
+    }
+
+    public static int getWatchdogTradeStaleMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_TRADE_STALE_MS);
+    }
+
+    public static int getWatchdogKlineStaleMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_KLINE_STALE_MS);
+    }
+
+    public static int getWatchdogLiquidationStaleMs() {
+        return AppConfig.getAsInt(BYBIT_WATCHDOG_LIQUIDATION_STALE_MS);
+    }
+
+    public static boolean isKlineBackfillEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_KLINE_BACKFILL_ENABLED);
+    }
+
+    public static String getRestUrl() {
+        return AppConfig.getAsString(BYBIT_REST_URL);
+    }
+
+    public static int getRestRateLimitMs() {
+        return AppConfig.getAsInt(BYBIT_REST_RATE_LIMIT_MS);
+    }
+
+    public static int getFetchAttempts() {
+        return AppConfig.getAsInt(BYBIT_FETCH_ATTEMPTS);
+    }
+
+    public static int getFetchAttemptsDelay() {
+        return AppConfig.getAsInt(BYBIT_FETCH_ATTEMPTS_DELAY);
+    }
+
+    public static boolean isAnalyticsEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_ANALYTICS_ENABLED);
+    }
+
+    public static int getAnalyticsWindowS() {
+        return AppConfig.getAsInt(BYBIT_ANALYTICS_WINDOW_S);
+    }
+
+    public static int getAnalyticsIntervalMs() {
+        return AppConfig.getAsInt(BYBIT_ANALYTICS_INTERVAL_MS);
+    }
+
+    public static boolean isBasisEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_BASIS_ENABLED);
+    }
+
+    public static int getBasisMaxSkewMs() {
+        return AppConfig.getAsInt(BYBIT_BASIS_MAX_SKEW_MS);
+    }
+
+    public static boolean isLiquidationEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_LIQUIDATION_ENABLED);
+    }
+
+    public static int getLiquidationIntervalMs() {
+        return AppConfig.getAsInt(BYBIT_LIQUIDATION_INTERVAL_MS);
+    }
+
+    public static int getLiquidationBurstNotional() {
+        return AppConfig.getAsInt(BYBIT_LIQUIDATION_BURST_NOTIONAL);
+    }
+
+    public static int getLiquidationBurstCount() {
+        return AppConfig.getAsInt(BYBIT_LIQUIDATION_BURST_COUNT);
+    }
+
+    public static boolean isKlineStoreEnabled() {
+        return AppConfig.getAsBoolean(BYBIT_KLINE_STORE_ENABLED);
+    }
+
+    public static Path getKlineStoreDir() {
+        return Path.of(AppConfig.getAsString(BYBIT_KLINE_STORE_DIR));
+    }
+
+    public static int getKlineStoreQueryLimit() {
+        return AppConfig.getAsInt(BYBIT_KLINE_STORE_QUERY_LIMIT);
+    }
+}
@@ -26,6 +26,11 @@ package com.github.akarazhev.cryptoscout.config;
 
 import com.github.akarazhev.jcryptolib.config.AppConfig;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
 public final class CmcApiConfig {
     private CmcApiConfig() {
         throw new UnsupportedOperationException();
@@ -34,4 +39,59 @@ public final class CmcApiConfig {
     public static String getCmcApiKey() {
         return AppConfig.getAsString(Constants.CmcConfig.CMC_API_KEY);
     }
-}
\ No newline at end of file
+
+    public static boolean isCmcDedupEnabled() {
+        return AppConfig.getAsBoolean(Constants.CmcConfig.CMC_DEDUP_ENABLED);
+    }
+
+    public static boolean isCmcCursorEnabled() {
+        return AppConfig.getAsBoolean(Constants.CmcConfig.CMC_CURSOR_ENABLED);
+    }
+
+    public static Path getCmcStateDir() {
+        return Path.of(AppConfig.getAsString(Constants.CmcConfig.CMC_STATE_DIR));
+    }
+
+    public static String getCmcApiUrl() {
+        return AppConfig.getAsString(Constants.CmcConfig.CMC_API_URL);
+    }
+
+    public static int getCmcRateLimitMs() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_RATE_LIMIT_MS);
+    }
+
+    public static int getCmcFetchAttempts() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_FETCH_ATTEMPTS);
+    }
+
+    public static int getCmcFetchAttemptsDelay() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_FETCH_ATTEMPTS_DELAY);
+    }
+
+    public static long getCmcFetchStartAtMs() {
+        return LocalTime.parse(AppConfig.getAsString(Constants.CmcConfig.CMC_FETCH_START_AT)).toSecondOfDay() * 1000L;
+    }
+
+    public static long getCmcFetchIntervalMs() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_FETCH_INTERVAL_MIN) * 60_000L;
+    }
+
+    public static boolean isCmcBackfillEnabled() {
+        return AppConfig.getAsBoolean(Constants.CmcConfig.CMC_BACKFILL_ENABLED);
+    }
+
+    public static long getCmcBackfillFromMs() {
+        return LocalDate.parse(AppConfig.getAsString(Constants.CmcConfig.CMC_BACKFILL_FROM))
+                .atStartOfDay(ZoneOffset.UTC)
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    public static int getCmcBackfillChunkDays() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_BACKFILL_CHUNK_DAYS);
+    }
+
+    public static int getCmcBackfillParallelism() {
+        return AppConfig.getAsInt(Constants.CmcConfig.CMC_BACKFILL_PARALLELISM);
+    }
+}
@@ -28,24 +28,176 @@ import com.github.akarazhev.jcryptolib.config.AppConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_BYBIT_STREAM;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_CONFIRM_WINDOW;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_CRYPTO_SCOUT_STREAM;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_ENVIRONMENTS;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_HOST;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_PASSWORD;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RABBITMQ_USERNAME;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_RECONNECT_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_START_BUFFER;
 import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.AMQP_STREAM_PORT;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.CONFIRM_WINDOW_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.CONFIRM_WINDOW_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.ENVIRONMENT_NAME_PATTERN;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.RECONNECT_INTERVAL_MS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.RECONNECT_INTERVAL_MS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.START_BUFFER_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.AmqpConfig.START_BUFFER_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.ANALYTICS_INTERVAL_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.ANALYTICS_INTERVAL_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.ANALYTICS_WINDOW_MAX_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.ANALYTICS_WINDOW_MIN_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_ANALYTICS_WINDOW_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_BASIS_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_BASIS_MAX_SKEW_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_FETCH_ATTEMPTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_FETCH_ATTEMPTS_DELAY;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_DEDUP_WINDOW;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_HOT_STANDBY_STALL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_BACKFILL_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_DIR;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_KLINE_STORE_QUERY_LIMIT;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.QUERY_LIMIT_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.QUERY_LIMIT_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_BURST_COUNT;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_BURST_NOTIONAL;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_LIQUIDATION_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_REST_RATE_LIMIT_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_REST_URL;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_CHECK_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_KLINE_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_LIQUIDATION_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_ORDER_BOOK_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_TICKERS_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BYBIT_WATCHDOG_TRADE_STALE_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BURST_COUNT_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BURST_COUNT_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BURST_NOTIONAL_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.BURST_NOTIONAL_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.CHECK_INTERVAL_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.CHECK_INTERVAL_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.DEDUP_WINDOW_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.FETCH_ATTEMPTS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.FETCH_ATTEMPTS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.FETCH_DELAY_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.FETCH_DELAY_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.RATE_LIMIT_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.RATE_LIMIT_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.DEDUP_WINDOW_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.SKEW_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.SKEW_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.STALL_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.STALL_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.STALE_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.BybitConfig.STALE_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CHUNK_DAYS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CHUNK_DAYS_MIN;
 import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_API_KEY;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_API_URL;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_BACKFILL_CHUNK_DAYS;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_BACKFILL_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_BACKFILL_FROM;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_BACKFILL_PARALLELISM;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_CURSOR_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_FETCH_ATTEMPTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_FETCH_ATTEMPTS_DELAY;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_FETCH_INTERVAL_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_FETCH_START_AT;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_RATE_LIMIT_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.CMC_STATE_DIR;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.FETCH_INTERVAL_MINUTES_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.FETCH_INTERVAL_MINUTES_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.PARALLELISM_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.CmcConfig.PARALLELISM_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.PipelineConfig.PIPELINE_RULES;
+import static com.github.akarazhev.cryptoscout.config.Constants.PipelineConfig.RULE_PATTERN;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.AMQP_SINK;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.LOG_SINK;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.MAX_SEGMENTS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.MAX_SEGMENTS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SEGMENT_MB_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SEGMENT_MB_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SINK_BYBIT;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SINK_CMC;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SINK_LOG_DIR;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SINK_LOG_MAX_SEGMENTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.SinkConfig.SINK_LOG_SEGMENT_MB;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.CONNECTIONS_PER_HOST_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.CONNECTIONS_PER_HOST_MIN;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_ADDRESS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_MAX_TTL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_NEGATIVE_TTL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_PREFETCH_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_CACHE_STALE_MS;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_TIMEOUT_MS;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_TIMEOUT_MIN_MS;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.DNS_TIMEOUT_MAX_MS;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.HOSTNAME_PATTERN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.HTTP_KEEP_ALIVE_TIMEOUT_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.HTTP_MAX_CONNECTIONS_PER_HOST;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.HTTP_MAX_KEEP_ALIVE_REQUESTS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.KEEP_ALIVE_REQUESTS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.KEEP_ALIVE_REQUESTS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.KEEP_ALIVE_TIMEOUT_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.KEEP_ALIVE_TIMEOUT_MIN_MS;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.PORT_MAX;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.PORT_MIN;
 import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SERVER_PORT;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SESSION_CACHE_SIZE_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SESSION_CACHE_SIZE_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SESSION_TIMEOUT_MAX_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SESSION_TIMEOUT_MIN_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.TLS_PROTOCOLS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.TLS_SESSION_CACHE_SIZE;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.TLS_SESSION_TIMEOUT_S;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.WS_FANOUT_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.WS_FANOUT_MAX_PENDING;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.WS_FANOUT_MAX_SUBSCRIBERS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.FANOUT_PENDING_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.FANOUT_PENDING_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.FANOUT_SUBSCRIBERS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.FANOUT_SUBSCRIBERS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.ADMIN_API_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.ADMIN_API_TOKEN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.ADMIN_CONNECTIONS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.ADMIN_CONNECTIONS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.ADMIN_MAX_CONNECTIONS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_INTERVAL_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_INTERVAL_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_MONITOR_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_MONITOR_INTERVAL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_MONITOR_SAMPLES;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_MONITOR_STALL_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_MONITOR_WINDOW_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_SAMPLES_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_SAMPLES_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_STALL_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_STALL_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_WINDOW_MAX_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.LOOP_WINDOW_MIN_MS;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_BUFFERED_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_BUFFERED_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_CLIENTS_MAX;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_CLIENTS_MIN;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_ENABLED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_MAX_BUFFERED;
+import static com.github.akarazhev.cryptoscout.config.Constants.WebConfig.SSE_MAX_CLIENTS;
 
 public final class ConfigValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigValidator.class);
@@ -54,16 +206,30 @@ public final class ConfigValidator {
         throw new UnsupportedOperationException();
     }
 
-    public static void validate(final boolean cmcModuleEnabled) throws IllegalStateException {
+    public static void validate(final boolean cmcModuleEnabled, final boolean bybitModuleEnabled)
+            throws IllegalStateException {
         final var missing = new ArrayList<String>();
 
-        validateAmqpConfig(missing);
+        validateSinkConfig(missing);
+        if (SinkConfig.isAmqpSinkUsed()) {
+            validateAmqpConfig(missing);
+        }
+
         validateWebConfig(missing);
+        validatePipelineConfig(missing);
 
         if (cmcModuleEnabled) {
             validateCmcConfig(missing);
         }
 
+        if (bybitModuleEnabled) {
+            validateBybitConfig(missing);
+        }
+
+        if (AppConfig.getAsBoolean(CMC_BACKFILL_ENABLED)) {
+            validateCmcBackfillConfig(missing);
+        }
+
         if (!missing.isEmpty()) {
             final var message = "Missing required configuration properties: " + missing;
             LOGGER.error(message);
@@ -73,14 +239,48 @@ public final class ConfigValidator {
         LOGGER.info("Configuration validation passed");
     }
 
+    private static void validateSinkConfig(final List<String> missing) {
+        validateOneOf(SINK_BYBIT, missing, AMQP_SINK, LOG_SINK);
+        validateOneOf(SINK_CMC, missing, AMQP_SINK, LOG_SINK);
+        if (SinkConfig.isBybitSinkLog() || SinkConfig.isCmcSinkLog()) {
+            validateRequired(SINK_LOG_DIR, missing);
+            validateRequiredIntRange(SINK_LOG_SEGMENT_MB, missing, SEGMENT_MB_MIN, SEGMENT_MB_MAX);
+            validateRequiredIntRange(SINK_LOG_MAX_SEGMENTS, missing, MAX_SEGMENTS_MIN, MAX_SEGMENTS_MAX);
+        }
+    }
+
+    private static void validatePipelineConfig(final List<String> missing) {
+        for (final var rule : PipelineConfig.getPipelineRules()) {
+            if (!rule.matches(RULE_PATTERN)) {
+                missing.add(PIPELINE_RULES + " (invalid rule: " + rule + ")");
+            }
+        }
+    }
+
     private static void validateAmqpConfig(final List<String> missing) {
-        validateRequired(AMQP_RABBITMQ_HOST, missing);
-        validateHostname(AMQP_RABBITMQ_HOST, missing);
-        validateRequired(AMQP_RABBITMQ_USERNAME, missing);
-        validateRequired(AMQP_RABBITMQ_PASSWORD, missing);
-        validateRequiredIntRange(AMQP_STREAM_PORT, missing, PORT_MIN, PORT_MAX);
+        final var environments = AmqpConfig.getAmqpEnvironments();
+        if (environments.isEmpty() || environments.size() != environments.stream().distinct().count() ||
+                !environments.stream().allMatch(environment -> environment.matches(ENVIRONMENT_NAME_PATTERN))) {
+            missing.add(AMQP_ENVIRONMENTS + " (must be distinct names matching " + ENVIRONMENT_NAME_PATTERN + ")");
+        }
+
+        for (final var environment : environments) {
+            final var host = AmqpConfig.getEnvironmentKey(environment, AMQP_RABBITMQ_HOST);
+            validateRequired(host, missing);
+            validateHostname(host, missing);
+            validateRequired(AmqpConfig.getEnvironmentKey(environment, AMQP_RABBITMQ_USERNAME), missing);
+            validateRequired(AmqpConfig.getEnvironmentKey(environment, AMQP_RABBITMQ_PASSWORD), missing);
+            validateRequiredIntRange(AmqpConfig.getEnvironmentKey(environment, AMQP_STREAM_PORT), missing, PORT_MIN,
+                    PORT_MAX);
+            validateRequiredIntRange(AmqpConfig.getEnvironmentKey(environment, AMQP_CONFIRM_WINDOW), missing,
+                    CONFIRM_WINDOW_MIN, CONFIRM_WINDOW_MAX);
+        }
+
         validateRequired(AMQP_BYBIT_STREAM, missing);
         validateRequired(AMQP_CRYPTO_SCOUT_STREAM, missing);
+        validateRequiredIntRange(AMQP_START_BUFFER, missing, START_BUFFER_MIN, START_BUFFER_MAX);
+        validateRequiredIntRange(AMQP_RECONNECT_INTERVAL_MS, missing, RECONNECT_INTERVAL_MS_MIN,
+                RECONNECT_INTERVAL_MS_MAX);
     }
 
     private static void validateWebConfig(final List<String> missing) {
@@ -88,10 +288,114 @@ public final class ConfigValidator {
         validateRequired(DNS_ADDRESS, missing);
         validateHostname(DNS_ADDRESS, missing);
         validateRequiredIntRange(DNS_TIMEOUT_MS, missing, DNS_TIMEOUT_MIN_MS, DNS_TIMEOUT_MAX_MS);
+        if (AppConfig.getAsBoolean(DNS_CACHE_ENABLED)) {
+            validateRequiredIntRange(DNS_CACHE_MAX_TTL_MS, missing, DNS_CACHE_MIN_MS, DNS_CACHE_MAX_MS);
+            validateRequiredIntRange(DNS_CACHE_NEGATIVE_TTL_MS, missing, DNS_CACHE_MIN_MS, DNS_CACHE_MAX_MS);
+            validateRequiredIntRange(DNS_CACHE_PREFETCH_MS, missing, DNS_CACHE_MIN_MS, DNS_CACHE_MAX_MS);
+            validateRequiredIntRange(DNS_CACHE_STALE_MS, missing, DNS_CACHE_MIN_MS, DNS_CACHE_MAX_MS);
+        }
+
+        validateRequired(TLS_PROTOCOLS, missing);
+        validateRequiredIntRange(TLS_SESSION_CACHE_SIZE, missing, SESSION_CACHE_SIZE_MIN, SESSION_CACHE_SIZE_MAX);
+        validateRequiredIntRange(TLS_SESSION_TIMEOUT_S, missing, SESSION_TIMEOUT_MIN_S, SESSION_TIMEOUT_MAX_S);
+        validateRequiredIntRange(HTTP_KEEP_ALIVE_TIMEOUT_MS, missing, KEEP_ALIVE_TIMEOUT_MIN_MS,
+                KEEP_ALIVE_TIMEOUT_MAX_MS);
+        validateRequiredIntRange(HTTP_MAX_KEEP_ALIVE_REQUESTS, missing, KEEP_ALIVE_REQUESTS_MIN,
+                KEEP_ALIVE_REQUESTS_MAX);
+        validateRequiredIntRange(HTTP_MAX_CONNECTIONS_PER_HOST, missing, CONNECTIONS_PER_HOST_MIN,
+                CONNECTIONS_PER_HOST_MAX);
+        if (AppConfig.getAsBoolean(WS_FANOUT_ENABLED)) {
+            validateRequiredIntRange(WS_FANOUT_MAX_SUBSCRIBERS, missing, FANOUT_SUBSCRIBERS_MIN,
+                    FANOUT_SUBSCRIBERS_MAX);
+            validateRequiredIntRange(WS_FANOUT_MAX_PENDING, missing, FANOUT_PENDING_MIN, FANOUT_PENDING_MAX);
+        }
+
+        if (AppConfig.getAsBoolean(SSE_ENABLED)) {
+            validateRequiredIntRange(SSE_MAX_CLIENTS, missing, SSE_CLIENTS_MIN, SSE_CLIENTS_MAX);
+            validateRequiredIntRange(SSE_MAX_BUFFERED, missing, SSE_BUFFERED_MIN, SSE_BUFFERED_MAX);
+        }
+
+        if (AppConfig.getAsBoolean(LOOP_MONITOR_ENABLED)) {
+            validateRequiredIntRange(LOOP_MONITOR_INTERVAL_MS, missing, LOOP_INTERVAL_MIN_MS, LOOP_INTERVAL_MAX_MS);
+            validateRequiredIntRange(LOOP_MONITOR_STALL_MS, missing, LOOP_STALL_MIN_MS, LOOP_STALL_MAX_MS);
+            validateRequiredIntRange(LOOP_MONITOR_SAMPLES, missing, LOOP_SAMPLES_MIN, LOOP_SAMPLES_MAX);
+            validateRequiredIntRange(LOOP_MONITOR_WINDOW_MS, missing, LOOP_WINDOW_MIN_MS, LOOP_WINDOW_MAX_MS);
+        }
+
+        if (AppConfig.getAsBoolean(ADMIN_API_ENABLED)) {
+            validateRequired(ADMIN_API_TOKEN, missing);
+            validateRequiredIntRange(ADMIN_MAX_CONNECTIONS, missing, ADMIN_CONNECTIONS_MIN, ADMIN_CONNECTIONS_MAX);
+        }
     }
 
     private static void validateCmcConfig(final List<String> missing) {
         validateRequired(CMC_API_KEY, missing);
+        validateRequired(CMC_STATE_DIR, missing);
+        if (AppConfig.getAsBoolean(CMC_CURSOR_ENABLED)) {
+            validateRequired(CMC_API_URL, missing);
+            validateTime(CMC_FETCH_START_AT, missing);
+            validateRequiredIntRange(CMC_FETCH_INTERVAL_MIN, missing, FETCH_INTERVAL_MINUTES_MIN,
+                    FETCH_INTERVAL_MINUTES_MAX);
+        }
+    }
+
+    private static void validateCmcBackfillConfig(final List<String> missing) {
+        validateRequired(CMC_API_KEY, missing);
+        validateRequired(CMC_API_URL, missing);
+        validateRequired(CMC_STATE_DIR, missing);
+        validateDate(CMC_BACKFILL_FROM, missing);
+        validateRequiredIntRange(CMC_BACKFILL_CHUNK_DAYS, missing, CHUNK_DAYS_MIN, CHUNK_DAYS_MAX);
+        validateRequiredIntRange(CMC_BACKFILL_PARALLELISM, missing, PARALLELISM_MIN, PARALLELISM_MAX);
+        validateRequiredIntRange(CMC_RATE_LIMIT_MS, missing, RATE_LIMIT_MIN_MS, RATE_LIMIT_MAX_MS);
+        validateRequiredIntRange(CMC_FETCH_ATTEMPTS, missing, FETCH_ATTEMPTS_MIN, FETCH_ATTEMPTS_MAX);
+        validateRequiredIntRange(CMC_FETCH_ATTEMPTS_DELAY, missing, FETCH_DELAY_MIN, FETCH_DELAY_MAX);
+    }
+
+    private static void validateBybitConfig(final List<String> missing) {
+        if (AppConfig.getAsBoolean(BYBIT_HOT_STANDBY_ENABLED)) {
+            validateRequiredIntRange(BYBIT_HOT_STANDBY_DEDUP_WINDOW, missing, DEDUP_WINDOW_MIN, DEDUP_WINDOW_MAX);
+            validateRequiredIntRange(BYBIT_HOT_STANDBY_STALL_MS, missing, STALL_MIN_MS, STALL_MAX_MS);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_WATCHDOG_ENABLED)) {
+            validateRequiredIntRange(BYBIT_WATCHDOG_CHECK_INTERVAL_MS, missing, CHECK_INTERVAL_MIN_MS,
+                    CHECK_INTERVAL_MAX_MS);
+            validateRequiredIntRange(BYBIT_WATCHDOG_ORDER_BOOK_STALE_MS, missing, STALE_MIN_MS, STALE_MAX_MS);
+            validateRequiredIntRange(BYBIT_WATCHDOG_TICKERS_STALE_MS, missing, STALE_MIN_MS, STALE_MAX_MS);
+            validateRequiredIntRange(BYBIT_WATCHDOG_TRADE_STALE_MS, missing, STALE_MIN_MS, STALE_MAX_MS);
+            validateRequiredIntRange(BYBIT_WATCHDOG_KLINE_STALE_MS, missing, STALE_MIN_MS, STALE_MAX_MS);
+            validateRequiredIntRange(BYBIT_WATCHDOG_LIQUIDATION_STALE_MS, missing, STALE_MIN_MS, STALE_MAX_MS);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_KLINE_BACKFILL_ENABLED)) {
+            validateRequired(BYBIT_REST_URL, missing);
+            validateRequiredIntRange(BYBIT_REST_RATE_LIMIT_MS, missing, RATE_LIMIT_MIN_MS, RATE_LIMIT_MAX_MS);
+            validateRequiredIntRange(BYBIT_FETCH_ATTEMPTS, missing, FETCH_ATTEMPTS_MIN, FETCH_ATTEMPTS_MAX);
+            validateRequiredIntRange(BYBIT_FETCH_ATTEMPTS_DELAY, missing, FETCH_DELAY_MIN, FETCH_DELAY_MAX);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_ANALYTICS_ENABLED)) {
+            validateRequiredIntRange(BYBIT_ANALYTICS_WINDOW_S, missing, ANALYTICS_WINDOW_MIN_S, ANALYTICS_WINDOW_MAX_S);
+            validateRequiredIntRange(BYBIT_ANALYTICS_INTERVAL_MS, missing, ANALYTICS_INTERVAL_MIN_MS,
+                    ANALYTICS_INTERVAL_MAX_MS);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_BASIS_ENABLED)) {
+            validateRequiredIntRange(BYBIT_BASIS_MAX_SKEW_MS, missing, SKEW_MIN_MS, SKEW_MAX_MS);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_LIQUIDATION_ENABLED)) {
+            validateRequiredIntRange(BYBIT_LIQUIDATION_INTERVAL_MS, missing, ANALYTICS_INTERVAL_MIN_MS,
+                    ANALYTICS_INTERVAL_MAX_MS);
+            validateRequiredIntRange(BYBIT_LIQUIDATION_BURST_NOTIONAL, missing, BURST_NOTIONAL_MIN,
+                    BURST_NOTIONAL_MAX);
+            validateRequiredIntRange(BYBIT_LIQUIDATION_BURST_COUNT, missing, BURST_COUNT_MIN, BURST_COUNT_MAX);
+        }
+
+        if (AppConfig.getAsBoolean(BYBIT_KLINE_STORE_ENABLED)) {
+            validateRequired(BYBIT_KLINE_STORE_DIR, missing);
+            validateRequiredIntRange(BYBIT_KLINE_STORE_QUERY_LIMIT, missing, QUERY_LIMIT_MIN, QUERY_LIMIT_MAX);
+        }
     }
 
     private static void validateRequired(final String key, final List<String> missing) {
@@ -113,6 +417,29 @@ public final class ConfigValidator {
         }
     }
 
+    private static void validateOneOf(final String key, final List<String> missing, final String... values) {
+        final var value = AppConfig.getAsString(key);
+        if (value == null || !List.of(values).contains(value)) {
+            missing.add(key + " (must be one of " + String.join(", ", values) + ")");
+        }
+    }
+
+    private static void validateDate(final String key, final List<String> missing) {
+        try {
+            LocalDate.parse(AppConfig.getAsString(key));
+        } catch (final Exception e) {
+            missing.add(key + " (must be an ISO date, e.g. 2013-04-28)");
+        }
+    }
+
+    private static void validateTime(final String key, final List<String> missing) {
+        try {
+            LocalTime.parse(AppConfig.getAsString(key));
+        } catch (final Exception e) {
+            missing.add(key + " (must be an ISO time, e.g. 04:00)");
+        }
+    }
+
     private static void validateHostname(final String key, final List<String> missing) {
         final var value = AppConfig.getAsString(key);
         if (value != null && !value.isBlank()) {
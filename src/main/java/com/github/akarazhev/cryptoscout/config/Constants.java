@@ -40,6 +40,53 @@ final class Constants {
         static final String AMQP_STREAM_PORT = "amqp.stream.port";
         static final String AMQP_BYBIT_STREAM = "amqp.bybit.stream";
         static final String AMQP_CRYPTO_SCOUT_STREAM = "amqp.crypto.scout.stream";
+        static final String AMQP_START_BUFFER = "amqp.start.buffer";
+        static final String AMQP_ENVIRONMENTS = "amqp.environments";
+        static final String AMQP_CONFIRM_WINDOW = "amqp.confirm.window";
+        static final String AMQP_RECONNECT_INTERVAL_MS = "amqp.reconnect.interval.ms";
+        static final String AMQP_PREFIX = "amqp.";
+        static final String PRIMARY_ENVIRONMENT = "primary";
+        static final String ENVIRONMENT_NAME_PATTERN = "[a-z][a-z0-9]*";
+        static final int START_BUFFER_MIN = 0;
+        static final int START_BUFFER_MAX = 1_000_000;
+        static final int CONFIRM_WINDOW_MIN = 1;
+        static final int CONFIRM_WINDOW_MAX = 1_000_000;
+        static final int RECONNECT_INTERVAL_MS_MIN = 1_000;
+        static final int RECONNECT_INTERVAL_MS_MAX = 3_600_000;
+    }
+
+    final static class SinkConfig {
+        private SinkConfig() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String SINK_BYBIT = "sink.bybit";
+        static final String SINK_CMC = "sink.cmc";
+        static final String SINK_LOG_DIR = "sink.log.dir";
+        static final String SINK_LOG_SEGMENT_MB = "sink.log.segment.mb";
+        static final String SINK_LOG_MAX_SEGMENTS = "sink.log.max.segments";
+        static final String AMQP_SINK = "amqp";
+        static final String LOG_SINK = "log";
+        static final int MB = 1024 * 1024;
+        static final int SEGMENT_MB_MIN = 1;
+        static final int SEGMENT_MB_MAX = 1024;
+        static final int MAX_SEGMENTS_MIN = 0;
+        static final int MAX_SEGMENTS_MAX = 1_000_000;
+    }
+
+    final static class PipelineConfig {
+        private PipelineConfig() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String PIPELINE_RULES = "pipeline.rules";
+        static final String RULE_SEPARATOR = ";";
+        static final String STAGE_PATTERN = "(filter\\(\\w+=[^()|;]+\\)|map\\((latestQuote|drop=\\w+)\\)|" +
+                "conflate\\(\\d+\\)|aggregate\\(\\d+\\))";
+        static final String ROUTE_PATTERN = "route\\((local|bybit|cmc)\\)";
+        static final String RULE_PATTERN = "(\\*|bybit|cmc)/(\\*|[A-Z0-9_]+)/(\\*|[\\w.]+)\\s*->\\s*(" +
+                STAGE_PATTERN + "(\\s*\\|\\s*" + STAGE_PATTERN + ")*(\\s*\\|\\s*" + ROUTE_PATTERN + ")?|" +
+                ROUTE_PATTERN + ")";
     }
 
     final static class WebConfig {
@@ -50,10 +97,67 @@ final class Constants {
         static final String SERVER_PORT = "server.port";
         static final String DNS_ADDRESS = "dns.address";
         static final String DNS_TIMEOUT_MS = "dns.timeout.ms";
+        static final String DNS_CACHE_ENABLED = "dns.cache.enabled";
+        static final String DNS_CACHE_MAX_TTL_MS = "dns.cache.max.ttl.ms";
+        static final String DNS_CACHE_NEGATIVE_TTL_MS = "dns.cache.negative.ttl.ms";
+        static final String DNS_CACHE_PREFETCH_MS = "dns.cache.prefetch.ms";
+        static final String DNS_CACHE_STALE_MS = "dns.cache.stale.ms";
+        static final String SNAPSHOT_CACHE_ENABLED = "snapshot.cache.enabled";
+        static final String WS_FANOUT_ENABLED = "ws.fanout.enabled";
+        static final String WS_FANOUT_MAX_SUBSCRIBERS = "ws.fanout.max.subscribers";
+        static final String WS_FANOUT_MAX_PENDING = "ws.fanout.max.pending";
+        static final String SSE_ENABLED = "sse.enabled";
+        static final String SSE_MAX_CLIENTS = "sse.max.clients";
+        static final String SSE_MAX_BUFFERED = "sse.max.buffered";
+        static final String LOOP_MONITOR_ENABLED = "loop.monitor.enabled";
+        static final String LOOP_MONITOR_INTERVAL_MS = "loop.monitor.interval.ms";
+        static final String LOOP_MONITOR_STALL_MS = "loop.monitor.stall.ms";
+        static final String LOOP_MONITOR_SAMPLES = "loop.monitor.samples";
+        static final String LOOP_MONITOR_WINDOW_MS = "loop.monitor.window.ms";
+        static final String ADMIN_API_ENABLED = "admin.api.enabled";
+        static final String ADMIN_API_TOKEN = "admin.api.token";
+        static final String ADMIN_MAX_CONNECTIONS = "admin.max.connections";
+        static final String TLS_PROTOCOLS = "tls.protocols";
+        static final String TLS_CIPHER_SUITES = "tls.cipher.suites";
+        static final String TLS_SESSION_CACHE_SIZE = "tls.session.cache.size";
+        static final String TLS_SESSION_TIMEOUT_S = "tls.session.timeout.s";
+        static final String HTTP_KEEP_ALIVE_TIMEOUT_MS = "http.keep.alive.timeout.ms";
+        static final String HTTP_MAX_KEEP_ALIVE_REQUESTS = "http.max.keep.alive.requests";
+        static final String HTTP_MAX_CONNECTIONS_PER_HOST = "http.max.connections.per.host";
         static final int PORT_MIN = 1;
         static final int PORT_MAX = 65535;
         static final int DNS_TIMEOUT_MIN_MS = 100;
         static final int DNS_TIMEOUT_MAX_MS = 60000;
+        static final int DNS_CACHE_MIN_MS = 0;
+        static final int DNS_CACHE_MAX_MS = 86_400_000;
+        static final int SESSION_CACHE_SIZE_MIN = 0;
+        static final int SESSION_CACHE_SIZE_MAX = 1_000_000;
+        static final int SESSION_TIMEOUT_MIN_S = 0;
+        static final int SESSION_TIMEOUT_MAX_S = 604_800;
+        static final int KEEP_ALIVE_TIMEOUT_MIN_MS = 0;
+        static final int KEEP_ALIVE_TIMEOUT_MAX_MS = 600000;
+        static final int KEEP_ALIVE_REQUESTS_MIN = 0;
+        static final int KEEP_ALIVE_REQUESTS_MAX = 1_000_000;
+        static final int CONNECTIONS_PER_HOST_MIN = 1;
+        static final int CONNECTIONS_PER_HOST_MAX = 256;
+        static final int FANOUT_SUBSCRIBERS_MIN = 1;
+        static final int FANOUT_SUBSCRIBERS_MAX = 10_000;
+        static final int FANOUT_PENDING_MIN = 1;
+        static final int FANOUT_PENDING_MAX = 1_000_000;
+        static final int SSE_CLIENTS_MIN = 1;
+        static final int SSE_CLIENTS_MAX = 10_000;
+        static final int SSE_BUFFERED_MIN = 1;
+        static final int SSE_BUFFERED_MAX = 100_000;
+        static final int LOOP_INTERVAL_MIN_MS = 10;
+        static final int LOOP_INTERVAL_MAX_MS = 60000;
+        static final int LOOP_STALL_MIN_MS = 10;
+        static final int LOOP_STALL_MAX_MS = 600000;
+        static final int LOOP_SAMPLES_MIN = 1;
+        static final int LOOP_SAMPLES_MAX = 1024;
+        static final int LOOP_WINDOW_MIN_MS = 1000;
+        static final int LOOP_WINDOW_MAX_MS = 3600000;
+        static final int ADMIN_CONNECTIONS_MIN = 1;
+        static final int ADMIN_CONNECTIONS_MAX = 256;
         static final String HOSTNAME_PATTERN = "^(([0-9]{1,3}\\.){3}[0-9]{1,3})|([a-zA-Z0-9.-]+)$";
     }
 
@@ -63,6 +167,25 @@ final class Constants {
         }
 
         static final String CMC_API_KEY = "cmc.api.key";
+        static final String CMC_DEDUP_ENABLED = "cmc.dedup.enabled";
+        static final String CMC_STATE_DIR = "cmc.state.dir";
+        static final String CMC_CURSOR_ENABLED = "cmc.cursor.enabled";
+        static final String CMC_API_URL = "cmc.api.url";
+        static final String CMC_RATE_LIMIT_MS = "cmc.rate.limit.ms";
+        static final String CMC_FETCH_ATTEMPTS = "cmc.fetch.attempts";
+        static final String CMC_FETCH_ATTEMPTS_DELAY = "cmc.fetch.attempts.delay";
+        static final String CMC_FETCH_START_AT = "cmc.fetch.start.at";
+        static final String CMC_FETCH_INTERVAL_MIN = "cmc.fetch.interval.min";
+        static final String CMC_BACKFILL_ENABLED = "cmc.backfill.enabled";
+        static final String CMC_BACKFILL_FROM = "cmc.backfill.from";
+        static final String CMC_BACKFILL_CHUNK_DAYS = "cmc.backfill.chunk.days";
+        static final String CMC_BACKFILL_PARALLELISM = "cmc.backfill.parallelism";
+        static final int CHUNK_DAYS_MIN = 1;
+        static final int CHUNK_DAYS_MAX = 500;
+        static final int PARALLELISM_MIN = 1;
+        static final int PARALLELISM_MAX = 64;
+        static final int FETCH_INTERVAL_MINUTES_MIN = 1;
+        static final int FETCH_INTERVAL_MINUTES_MAX = 10_080;
     }
 
     final static class BybitConfig {
@@ -72,5 +195,58 @@ final class Constants {
 
         static final String BYBIT_API_KEY = "bybit.api.key";
         static final String BYBIT_API_SECRET = "bybit.api.secret";
+        static final String BYBIT_HOT_STANDBY_ENABLED = "bybit.hot.standby.enabled";
+        static final String BYBIT_HOT_STANDBY_DEDUP_WINDOW = "bybit.hot.standby.dedup.window";
+        static final String BYBIT_HOT_STANDBY_STALL_MS = "bybit.hot.standby.stall.ms";
+        static final String BYBIT_WATCHDOG_ENABLED = "bybit.watchdog.enabled";
+        static final String BYBIT_WATCHDOG_CHECK_INTERVAL_MS = "bybit.watchdog.check.interval.ms";
+        static final String BYBIT_WATCHDOG_ORDER_BOOK_STALE_MS = "bybit.watchdog.orderbook.stale.ms";
+        static final String BYBIT_WATCHDOG_TICKERS_STALE_MS = "bybit.watchdog.tickers.stale.ms";
+        static final String BYBIT_WATCHDOG_TRADE_STALE_MS = "bybit.watchdog.trade.stale.ms";
+        static final String BYBIT_WATCHDOG_KLINE_STALE_MS = "bybit.watchdog.kline.stale.ms";
+        static final String BYBIT_WATCHDOG_LIQUIDATION_STALE_MS = "bybit.watchdog.liquidation.stale.ms";
+        static final String BYBIT_KLINE_BACKFILL_ENABLED = "bybit.kline.backfill.enabled";
+        static final String BYBIT_REST_URL = "bybit.rest.url";
+        static final String BYBIT_REST_RATE_LIMIT_MS = "bybit.rest.rate.limit.ms";
+        static final String BYBIT_FETCH_ATTEMPTS = "bybit.fetch.attempts";
+        static final String BYBIT_FETCH_ATTEMPTS_DELAY = "bybit.fetch.attempts.delay";
+        static final String BYBIT_ANALYTICS_ENABLED = "bybit.analytics.enabled";
+        static final String BYBIT_ANALYTICS_WINDOW_S = "bybit.analytics.window.s";
+        static final String BYBIT_ANALYTICS_INTERVAL_MS = "bybit.analytics.interval.ms";
+        static final String BYBIT_BASIS_ENABLED = "bybit.basis.enabled";
+        static final String BYBIT_BASIS_MAX_SKEW_MS = "bybit.basis.max.skew.ms";
+        static final String BYBIT_LIQUIDATION_ENABLED = "bybit.liquidation.enabled";
+        static final String BYBIT_LIQUIDATION_INTERVAL_MS = "bybit.liquidation.interval.ms";
+        static final String BYBIT_LIQUIDATION_BURST_NOTIONAL = "bybit.liquidation.burst.notional";
+        static final String BYBIT_LIQUIDATION_BURST_COUNT = "bybit.liquidation.burst.count";
+        static final String BYBIT_KLINE_STORE_ENABLED = "bybit.kline.store.enabled";
+        static final String BYBIT_KLINE_STORE_DIR = "bybit.kline.store.dir";
+        static final String BYBIT_KLINE_STORE_QUERY_LIMIT = "bybit.kline.store.query.limit";
+        static final int DEDUP_WINDOW_MIN = 64;
+        static final int DEDUP_WINDOW_MAX = 1_048_576;
+        static final int STALL_MIN_MS = 100;
+        static final int STALL_MAX_MS = 60000;
+        static final int CHECK_INTERVAL_MIN_MS = 100;
+        static final int CHECK_INTERVAL_MAX_MS = 60000;
+        static final int STALE_MIN_MS = 0;
+        static final int STALE_MAX_MS = 86_400_000;
+        static final int RATE_LIMIT_MIN_MS = 0;
+        static final int RATE_LIMIT_MAX_MS = 60000;
+        static final int FETCH_ATTEMPTS_MIN = 1;
+        static final int FETCH_ATTEMPTS_MAX = 100;
+        static final int FETCH_DELAY_MIN = 0;
+        static final int FETCH_DELAY_MAX = 3600;
+        static final int ANALYTICS_WINDOW_MIN_S = 1;
+        static final int ANALYTICS_WINDOW_MAX_S = 86_400;
+        static final int ANALYTICS_INTERVAL_MIN_MS = 100;
+        static final int ANALYTICS_INTERVAL_MAX_MS = 3_600_000;
+        static final int SKEW_MIN_MS = 0;
+        static final int SKEW_MAX_MS = 60000;
+        static final int BURST_NOTIONAL_MIN = 1;
+        static final int BURST_NOTIONAL_MAX = Integer.MAX_VALUE;
+        static final int BURST_COUNT_MIN = 1;
+        static final int BURST_COUNT_MAX = 1_000_000;
+        static final int QUERY_LIMIT_MIN = 1;
+        static final int QUERY_LIMIT_MAX = 100_000;
     }
 }
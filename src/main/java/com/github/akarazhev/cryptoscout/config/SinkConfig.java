@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.config;
+
+import com.github.akarazhev.jcryptolib.config.AppConfig;
+
+import java.nio.file.Path;
+
+public final class SinkConfig {
+    private SinkConfig() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static boolean isBybitSinkLog() {
+        return Constants.SinkConfig.LOG_SINK.equals(AppConfig.getAsString(Constants.SinkConfig.SINK_BYBIT));
+    }
+
+    public static boolean isCmcSinkLog() {
+        return Constants.SinkConfig.LOG_SINK.equals(AppConfig.getAsString(Constants.SinkConfig.SINK_CMC));
+    }
+
+    public static boolean isAmqpSinkUsed() {
+        return !isBybitSinkLog() || !isCmcSinkLog();
+    }
+
+    public static Path getSinkLogDir() {
+        return Path.of(AppConfig.getAsString(Constants.SinkConfig.SINK_LOG_DIR));
+    }
+
+    public static int getSinkLogSegmentBytes() {
+        return AppConfig.getAsInt(Constants.SinkConfig.SINK_LOG_SEGMENT_MB) * Constants.SinkConfig.MB;
+    }
+
+    public static int getSinkLogMaxSegments() {
+        return AppConfig.getAsInt(Constants.SinkConfig.SINK_LOG_MAX_SEGMENTS);
+    }
+}
@@ -26,6 +26,9 @@ package com.github.akarazhev.cryptoscout.config;
 
 import com.github.akarazhev.jcryptolib.config.AppConfig;
 
+import java.util.Arrays;
+import java.util.List;
+
 public final class WebConfig {
     private WebConfig() {
         throw new UnsupportedOperationException();
@@ -42,4 +45,124 @@ public final class WebConfig {
     public static int getDnsTimeoutMs() {
         return AppConfig.getAsInt(Constants.WebConfig.DNS_TIMEOUT_MS);
     }
-}
\ No newline at end of file
+
+    public static boolean isDnsCacheEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.DNS_CACHE_ENABLED);
+    }
+
+    public static int getDnsCacheMaxTtlMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.DNS_CACHE_MAX_TTL_MS);
+    }
+
+    public static int getDnsCacheNegativeTtlMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.DNS_CACHE_NEGATIVE_TTL_MS);
+    }
+
+    public static int getDnsCachePrefetchMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.DNS_CACHE_PREFETCH_MS);
+    }
+
+    public static int getDnsCacheStaleMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.DNS_CACHE_STALE_MS);
+    }
+
+    public static boolean isSnapshotCacheEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.SNAPSHOT_CACHE_ENABLED);
+    }
+
+    public static boolean isWsFanoutEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.WS_FANOUT_ENABLED);
+    }
+
+    public static int getWsFanoutMaxSubscribers() {
+        return AppConfig.getAsInt(Constants.WebConfig.WS_FANOUT_MAX_SUBSCRIBERS);
+    }
+
+    public static int getWsFanoutMaxPending() {
+        return AppConfig.getAsInt(Constants.WebConfig.WS_FANOUT_MAX_PENDING);
+    }
+
+    public static boolean isSseEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.SSE_ENABLED);
+    }
+
+    public static int getSseMaxClients() {
+        return AppConfig.getAsInt(Constants.WebConfig.SSE_MAX_CLIENTS);
+    }
+
+    public static int getSseMaxBuffered() {
+        return AppConfig.getAsInt(Constants.WebConfig.SSE_MAX_BUFFERED);
+    }
+
+    public static boolean isLoopMonitorEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.LOOP_MONITOR_ENABLED);
+    }
+
+    public static int getLoopMonitorIntervalMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.LOOP_MONITOR_INTERVAL_MS);
+    }
+
+    public static int getLoopMonitorStallMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.LOOP_MONITOR_STALL_MS);
+    }
+
+    public static int getLoopMonitorSamples() {
+        return AppConfig.getAsInt(Constants.WebConfig.LOOP_MONITOR_SAMPLES);
+    }
+
+    public static int getLoopMonitorWindowMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.LOOP_MONITOR_WINDOW_MS);
+    }
+
+    public static boolean isAdminApiEnabled() {
+        return AppConfig.getAsBoolean(Constants.WebConfig.ADMIN_API_ENABLED);
+    }
+
+    public static String getAdminApiToken() {
+        return AppConfig.getAsString(Constants.WebConfig.ADMIN_API_TOKEN);
+    }
+
+    public static int getAdminMaxConnections() {
+        return AppConfig.getAsInt(Constants.WebConfig.ADMIN_MAX_CONNECTIONS);
+    }
+
+    public static List<String> getTlsProtocols() {
+        return getAsList(Constants.WebConfig.TLS_PROTOCOLS);
+    }
+
+    public static List<String> getTlsCipherSuites() {
+        return getAsList(Constants.WebConfig.TLS_CIPHER_SUITES);
+    }
+
+    public static int getTlsSessionCacheSize() {
+        return AppConfig.getAsInt(Constants.WebConfig.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public static int getTlsSessionTimeoutS() {
+        return AppConfig.getAsInt(Constants.WebConfig.TLS_SESSION_TIMEOUT_S);
+    }
+
+    public static int getHttpKeepAliveTimeoutMs() {
+        return AppConfig.getAsInt(Constants.WebConfig.HTTP_KEEP_ALIVE_TIMEOUT_MS);
+    }
+
+    public static int getHttpMaxKeepAliveRequests() {
+        return AppConfig.getAsInt(Constants.WebConfig.HTTP_MAX_KEEP_ALIVE_REQUESTS);
+    }
+
+    public static int getHttpMaxConnectionsPerHost() {
+        return AppConfig.getAsInt(Constants.WebConfig.HTTP_MAX_CONNECTIONS_PER_HOST);
+    }
+
+    private static List<String> getAsList(final String key) {
+        final var value = AppConfig.getAsString(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -24,9 +24,13 @@
 
 package com.github.akarazhev.cryptoscout.module;
 
-import com.github.akarazhev.cryptoscout.client.AmqpPublisher;
 import com.github.akarazhev.cryptoscout.client.BybitLinearBtcUsdtConsumer;
 import com.github.akarazhev.cryptoscout.client.BybitLinearEthUsdtConsumer;
+import com.github.akarazhev.cryptoscout.client.KlineBackfill;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.client.StalenessWatchdog;
+import com.github.akarazhev.cryptoscout.client.SubscriptionManager;
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
 import com.github.akarazhev.jcryptolib.bybit.config.StreamType;
 import com.github.akarazhev.jcryptolib.bybit.config.Topic;
 import com.github.akarazhev.jcryptolib.bybit.stream.BybitStream;
@@ -40,11 +44,39 @@ import io.activej.reactor.nio.NioReactor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
+import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_LINEAR_BTC_USDT_CONFIG;
+import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_LINEAR_ETH_USDT_CONFIG;
 import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_LINEAR_BTC_USDT_STREAM;
 import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_LINEAR_ETH_USDT_STREAM;
 
 public final class BybitLinearModule extends AbstractModule {
     private static final Logger LOGGER = LoggerFactory.getLogger(BybitLinearModule.class);
+    private static final List<Topic> BTC_USDT_TOPICS = List.of(
+            Topic.KLINE_15_BTC_USDT, // kline.15.BTCUSDT
+            Topic.KLINE_60_BTC_USDT, // kline.60.BTCUSDT
+            Topic.KLINE_240_BTC_USDT, // kline.240.BTCUSDT
+            Topic.KLINE_D_BTC_USDT, // kline.D.BTCUSDT
+            Topic.TICKERS_BTC_USDT, // tickers.BTCUSDT
+            Topic.PUBLIC_TRADE_BTC_USDT, // publicTrade.BTCUSDT
+            Topic.ORDER_BOOK_50_BTC_USDT, // orderbook.50.BTCUSDT
+            Topic.ORDER_BOOK_200_BTC_USDT, // orderbook.200.BTCUSDT
+            Topic.ORDER_BOOK_1000_BTC_USDT, // orderbook.1000.BTCUSDT
+            Topic.ALL_LIQUIDATION_BTC_USDT // allLiquidation.BTCUSDT
+    );
+    private static final List<Topic> ETH_USDT_TOPICS = List.of(
+            Topic.KLINE_15_ETH_USDT, // kline.15.ETHUSDT
+            Topic.KLINE_60_ETH_USDT, // kline.60.ETHUSDT
+            Topic.KLINE_240_ETH_USDT, // kline.240.ETHUSDT
+            Topic.KLINE_D_ETH_USDT, // kline.D.ETHUSDT
+            Topic.TICKERS_ETH_USDT, // tickers.ETHUSDT
+            Topic.PUBLIC_TRADE_ETH_USDT, // publicTrade.ETHUSDT
+            Topic.ORDER_BOOK_50_ETH_USDT, // orderbook.50.ETHUSDT
+            Topic.ORDER_BOOK_200_ETH_USDT, // orderbook.200.ETHUSDT
+            Topic.ORDER_BOOK_1000_ETH_USDT, // orderbook.1000.ETHUSDT
+            Topic.ALL_LIQUIDATION_ETH_USDT // allLiquidation.ETHUSDT
+    );
 
     private BybitLinearModule() {
     }
@@ -54,58 +86,71 @@ public final class BybitLinearModule extends AbstractModule {
     }
 
     @Provides
-    @Named(BYBIT_LINEAR_BTC_USDT_STREAM)
-    private BybitStream bybitLinearBtcUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient) {
-        final var config = new BybitConfig.Builder()
-                .streamType(StreamType.PML) // Public Mainnet Linear
-                .topic(Topic.KLINE_15_BTC_USDT) // kline.15.BTCUSDT
-                .topic(Topic.KLINE_60_BTC_USDT) // kline.60.BTCUSDT
-                .topic(Topic.KLINE_240_BTC_USDT) // kline.240.BTCUSDT
-                .topic(Topic.KLINE_D_BTC_USDT) // kline.D.BTCUSDT
-                .topic(Topic.TICKERS_BTC_USDT) // tickers.BTCUSDT
-                .topic(Topic.PUBLIC_TRADE_BTC_USDT) // publicTrade.BTCUSDT
-                .topic(Topic.ORDER_BOOK_50_BTC_USDT) // orderbook.50.BTCUSDT
-                .topic(Topic.ORDER_BOOK_200_BTC_USDT) // orderbook.200.BTCUSDT
-                .topic(Topic.ORDER_BOOK_1000_BTC_USDT) // orderbook.1000.BTCUSDT
-                .topic(Topic.ALL_LIQUIDATION_BTC_USDT) // allLiquidation.BTCUSDT
-                .build();
+    @Named(BYBIT_LINEAR_BTC_USDT_CONFIG)
+    private BybitConfig bybitLinearBtcUsdtConfig(final SubscriptionManager subscriptionManager) {
+        subscriptionManager.reserve(StreamType.PML, BTC_USDT_TOPICS);
+        final var builder = new BybitConfig.Builder()
+                .streamType(StreamType.PML); // Public Mainnet Linear
+        BTC_USDT_TOPICS.forEach(builder::topic);
+        final var config = builder.build();
         LOGGER.info(config.print());
+        return config;
+    }
+
+    @Provides
+    @Named(BYBIT_LINEAR_ETH_USDT_CONFIG)
+    private BybitConfig bybitLinearEthUsdtConfig(final SubscriptionManager subscriptionManager) {
+        subscriptionManager.reserve(StreamType.PML, ETH_USDT_TOPICS);
+        final var builder = new BybitConfig.Builder()
+                .streamType(StreamType.PML); // Public Mainnet Linear
+        ETH_USDT_TOPICS.forEach(builder::topic);
+        final var config = builder.build();
+        LOGGER.info(config.print());
+        return config;
+    }
+
+    @Provides
+    @Named(BYBIT_LINEAR_BTC_USDT_STREAM)
+    private BybitStream bybitLinearBtcUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                                 @Named(BYBIT_LINEAR_BTC_USDT_CONFIG) final BybitConfig config) {
         return BybitStream.create(reactor, webSocketClient, config);
     }
 
     @Provides
     @Named(BYBIT_LINEAR_ETH_USDT_STREAM)
-    private BybitStream bybitLinearEthUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient) {
-        final var config = new BybitConfig.Builder()
-                .streamType(StreamType.PML) // Public Mainnet Linear
-                .topic(Topic.KLINE_15_ETH_USDT) // kline.15.ETHUSDT
-                .topic(Topic.KLINE_60_ETH_USDT) // kline.60.ETHUSDT
-                .topic(Topic.KLINE_240_ETH_USDT) // kline.240.ETHUSDT
-                .topic(Topic.KLINE_D_ETH_USDT) // kline.D.ETHUSDT
-                .topic(Topic.TICKERS_ETH_USDT) // tickers.ETHUSDT
-                .topic(Topic.PUBLIC_TRADE_ETH_USDT) // publicTrade.ETHUSDT
-                .topic(Topic.ORDER_BOOK_50_ETH_USDT) // orderbook.50.ETHUSDT
-                .topic(Topic.ORDER_BOOK_200_ETH_USDT) // orderbook.200.ETHUSDT
-                .topic(Topic.ORDER_BOOK_1000_ETH_USDT) // orderbook.1000.ETHUSDT
-                .topic(Topic.ALL_LIQUIDATION_ETH_USDT) // allLiquidation.ETHUSDT
-                .build();
-        LOGGER.info(config.print());
+    private BybitStream bybitLinearEthUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                                 @Named(BYBIT_LINEAR_ETH_USDT_CONFIG) final BybitConfig config) {
         return BybitStream.create(reactor, webSocketClient, config);
     }
 
     @Eager
     @Provides
     private BybitLinearBtcUsdtConsumer bybitLinearBtcUsdtConsumer(final NioReactor reactor,
+                                                                  final IWebSocketClient webSocketClient,
+                                                                  @Named(BYBIT_LINEAR_BTC_USDT_CONFIG) final BybitConfig config,
                                                                   @Named(BYBIT_LINEAR_BTC_USDT_STREAM) final BybitStream bybitStream,
-                                                                  final AmqpPublisher amqpPublisher) {
-        return BybitLinearBtcUsdtConsumer.create(reactor, bybitStream, amqpPublisher);
+                                                                  final StalenessWatchdog stalenessWatchdog,
+                                                                  final KlineBackfill klineBackfill,
+                                                                  final Sink sink) {
+        return BybitLinearBtcUsdtConsumer.create(reactor, bybitStream, standbyStream(reactor, webSocketClient, config),
+                stalenessWatchdog, klineBackfill, sink);
     }
 
     @Eager
     @Provides
     private BybitLinearEthUsdtConsumer bybitLinearEthUsdtConsumer(final NioReactor reactor,
+                                                                  final IWebSocketClient webSocketClient,
+                                                                  @Named(BYBIT_LINEAR_ETH_USDT_CONFIG) final BybitConfig config,
                                                                   @Named(BYBIT_LINEAR_ETH_USDT_STREAM) final BybitStream bybitStream,
-                                                                  final AmqpPublisher amqpPublisher) {
-        return BybitLinearEthUsdtConsumer.create(reactor, bybitStream, amqpPublisher);
+                                                                  final StalenessWatchdog stalenessWatchdog,
+                                                                  final KlineBackfill klineBackfill,
+                                                                  final Sink sink) {
+        return BybitLinearEthUsdtConsumer.create(reactor, bybitStream, standbyStream(reactor, webSocketClient, config),
+                stalenessWatchdog, klineBackfill, sink);
+    }
+
+    private static BybitStream standbyStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                             final BybitConfig config) {
+        return BybitStreamConfig.isHotStandbyEnabled() ? BybitStream.create(reactor, webSocketClient, config) : null;
     }
 }
@@ -24,9 +24,13 @@
 
 package com.github.akarazhev.cryptoscout.module;
 
-import com.github.akarazhev.cryptoscout.client.AmqpPublisher;
 import com.github.akarazhev.cryptoscout.client.BybitSpotBtcUsdtConsumer;
 import com.github.akarazhev.cryptoscout.client.BybitSpotEthUsdtConsumer;
+import com.github.akarazhev.cryptoscout.client.KlineBackfill;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.client.StalenessWatchdog;
+import com.github.akarazhev.cryptoscout.client.SubscriptionManager;
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
 import com.github.akarazhev.jcryptolib.bybit.config.StreamType;
 import com.github.akarazhev.jcryptolib.bybit.config.Topic;
 import com.github.akarazhev.jcryptolib.bybit.stream.BybitStream;
@@ -40,11 +44,37 @@ import io.activej.reactor.nio.NioReactor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
+import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_SPOT_BTC_USDT_CONFIG;
+import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_SPOT_ETH_USDT_CONFIG;
 import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_SPOT_BTC_USDT_STREAM;
 import static com.github.akarazhev.cryptoscout.module.Constants.Config.BYBIT_SPOT_ETH_USDT_STREAM;
 
 public final class BybitSpotModule extends AbstractModule {
     private static final Logger LOGGER = LoggerFactory.getLogger(BybitSpotModule.class);
+    private static final List<Topic> BTC_USDT_TOPICS = List.of(
+            Topic.KLINE_15_BTC_USDT, // kline.15.BTCUSDT
+            Topic.KLINE_60_BTC_USDT, // kline.60.BTCUSDT
+            Topic.KLINE_240_BTC_USDT, // kline.240.BTCUSDT
+            Topic.KLINE_D_BTC_USDT, // kline.D.BTCUSDT
+            Topic.TICKERS_BTC_USDT, // tickers.BTCUSDT
+            Topic.PUBLIC_TRADE_BTC_USDT, // publicTrade.BTCUSDT
+            Topic.ORDER_BOOK_50_BTC_USDT, // orderbook.50.BTCUSDT
+            Topic.ORDER_BOOK_200_BTC_USDT, // orderbook.200.BTCUSDT
+            Topic.ORDER_BOOK_1000_BTC_USDT // orderbook.1000.BTCUSDT
+    );
+    private static final List<Topic> ETH_USDT_TOPICS = List.of(
+            Topic.KLINE_15_ETH_USDT, // kline.15.ETHUSDT
+            Topic.KLINE_60_ETH_USDT, // kline.60.ETHUSDT
+            Topic.KLINE_240_ETH_USDT, // kline.240.ETHUSDT
+            Topic.KLINE_D_ETH_USDT, // kline.D.ETHUSDT
+            Topic.TICKERS_ETH_USDT, // tickers.ETHUSDT
+            Topic.PUBLIC_TRADE_ETH_USDT, // publicTrade.ETHUSDT
+            Topic.ORDER_BOOK_50_ETH_USDT, // orderbook.50.ETHUSDT
+            Topic.ORDER_BOOK_200_ETH_USDT, // orderbook.200.ETHUSDT
+            Topic.ORDER_BOOK_1000_ETH_USDT // orderbook.1000.ETHUSDT
+    );
 
     private BybitSpotModule() {
     }
@@ -54,56 +84,71 @@ public final class BybitSpotModule extends AbstractModule {
     }
 
     @Provides
-    @Named(BYBIT_SPOT_BTC_USDT_STREAM)
-    private BybitStream bybitSpotBtcUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient) {
-        final var config = new BybitConfig.Builder()
-                .streamType(StreamType.PMST) // Public Mainnet Spot
-                .topic(Topic.KLINE_15_BTC_USDT) // kline.15.BTCUSDT
-                .topic(Topic.KLINE_60_BTC_USDT) // kline.60.BTCUSDT
-                .topic(Topic.KLINE_240_BTC_USDT) // kline.240.BTCUSDT
-                .topic(Topic.KLINE_D_BTC_USDT) // kline.D.BTCUSDT
-                .topic(Topic.TICKERS_BTC_USDT) // tickers.BTCUSDT
-                .topic(Topic.PUBLIC_TRADE_BTC_USDT) // publicTrade.BTCUSDT
-                .topic(Topic.ORDER_BOOK_50_BTC_USDT) // orderbook.50.BTCUSDT
-                .topic(Topic.ORDER_BOOK_200_BTC_USDT) // orderbook.200.BTCUSDT
-                .topic(Topic.ORDER_BOOK_1000_BTC_USDT) // orderbook.1000.BTCUSDT
-                .build();
+    @Named(BYBIT_SPOT_BTC_USDT_CONFIG)
+    private BybitConfig bybitSpotBtcUsdtConfig(final SubscriptionManager subscriptionManager) {
+        subscriptionManager.reserve(StreamType.PMST, BTC_USDT_TOPICS);
+        final var builder = new BybitConfig.Builder()
+                .streamType(StreamType.PMST); // Public Mainnet Spot
+        BTC_USDT_TOPICS.forEach(builder::topic);
+        final var config = builder.build();
         LOGGER.info(config.print());
+        return config;
+    }
+
+    @Provides
+    @Named(BYBIT_SPOT_ETH_USDT_CONFIG)
+    private BybitConfig bybitSpotEthUsdtConfig(final SubscriptionManager subscriptionManager) {
+        subscriptionManager.reserve(StreamType.PMST, ETH_USDT_TOPICS);
+        final var builder = new BybitConfig.Builder()
+                .streamType(StreamType.PMST); // Public Mainnet Spot
+        ETH_USDT_TOPICS.forEach(builder::topic);
+        final var config = builder.build();
+        LOGGER.info(config.print());
+        return config;
+    }
+
+    @Provides
+    @Named(BYBIT_SPOT_BTC_USDT_STREAM)
+    private BybitStream bybitSpotBtcUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                               @Named(BYBIT_SPOT_BTC_USDT_CONFIG) final BybitConfig config) {
         return BybitStream.create(reactor, webSocketClient, config);
     }
 
     @Provides
     @Named(BYBIT_SPOT_ETH_USDT_STREAM)
-    private BybitStream bybitSpotEthUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient) {
-        final var config = new BybitConfig.Builder()
-                .streamType(StreamType.PMST) // Public Mainnet Spot
-                .topic(Topic.KLINE_15_ETH_USDT) // kline.15.ETHUSDT
-                .topic(Topic.KLINE_60_ETH_USDT) // kline.60.ETHUSDT
-                .topic(Topic.KLINE_240_ETH_USDT) // kline.240.ETHUSDT
-                .topic(Topic.KLINE_D_ETH_USDT) // kline.D.ETHUSDT
-                .topic(Topic.TICKERS_ETH_USDT) // tickers.ETHUSDT
-                .topic(Topic.PUBLIC_TRADE_ETH_USDT) // publicTrade.ETHUSDT
-                .topic(Topic.ORDER_BOOK_50_ETH_USDT) // orderbook.50.ETHUSDT
-                .topic(Topic.ORDER_BOOK_200_ETH_USDT) // orderbook.200.ETHUSDT
-                .topic(Topic.ORDER_BOOK_1000_ETH_USDT) // orderbook.1000.ETHUSDT
-                .build();
-        LOGGER.info(config.print());
+    private BybitStream bybitSpotEthUsdtStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                               @Named(BYBIT_SPOT_ETH_USDT_CONFIG) final BybitConfig config) {
         return BybitStream.create(reactor, webSocketClient, config);
     }
 
     @Eager
     @Provides
     private BybitSpotBtcUsdtConsumer bybitSpotBtcUsdtConsumer(final NioReactor reactor,
+                                                              final IWebSocketClient webSocketClient,
+                                                              @Named(BYBIT_SPOT_BTC_USDT_CONFIG) final BybitConfig config,
                                                               @Named(BYBIT_SPOT_BTC_USDT_STREAM) final BybitStream bybitStream,
-                                                              final AmqpPublisher amqpPublisher) {
-        return BybitSpotBtcUsdtConsumer.create(reactor, bybitStream, amqpPublisher);
+                                                              final StalenessWatchdog stalenessWatchdog,
+                                                              final KlineBackfill klineBackfill,
+                                                              final Sink sink) {
+        return BybitSpotBtcUsdtConsumer.create(reactor, bybitStream, standbyStream(reactor, webSocketClient, config),
+                stalenessWatchdog, klineBackfill, sink);
     }
 
     @Eager
     @Provides
     private BybitSpotEthUsdtConsumer bybitSpotEthUsdtConsumer(final NioReactor reactor,
+                                                              final IWebSocketClient webSocketClient,
+                                                              @Named(BYBIT_SPOT_ETH_USDT_CONFIG) final BybitConfig config,
                                                               @Named(BYBIT_SPOT_ETH_USDT_STREAM) final BybitStream bybitStream,
-                                                              final AmqpPublisher amqpPublisher) {
-        return BybitSpotEthUsdtConsumer.create(reactor, bybitStream, amqpPublisher);
+                                                              final StalenessWatchdog stalenessWatchdog,
+                                                              final KlineBackfill klineBackfill,
+                                                              final Sink sink) {
+        return BybitSpotEthUsdtConsumer.create(reactor, bybitStream, standbyStream(reactor, webSocketClient, config),
+                stalenessWatchdog, klineBackfill, sink);
+    }
+
+    private static BybitStream standbyStream(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                             final BybitConfig config) {
+        return BybitStreamConfig.isHotStandbyEnabled() ? BybitStream.create(reactor, webSocketClient, config) : null;
     }
 }
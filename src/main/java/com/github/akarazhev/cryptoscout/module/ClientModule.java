@@ -25,6 +25,14 @@
 package com.github.akarazhev.cryptoscout.module;
 
 import com.github.akarazhev.cryptoscout.client.AmqpPublisher;
+import com.github.akarazhev.cryptoscout.client.PayloadFanout;
+import com.github.akarazhev.cryptoscout.client.SegmentLogSink;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.client.SinkRouter;
+import com.github.akarazhev.cryptoscout.config.AmqpConfig;
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
+import com.github.akarazhev.cryptoscout.config.PipelineConfig;
+import com.github.akarazhev.cryptoscout.config.SinkConfig;
 import io.activej.inject.annotation.Eager;
 import io.activej.inject.annotation.Provides;
 import io.activej.inject.module.AbstractModule;
@@ -32,6 +40,9 @@ import io.activej.reactor.nio.NioReactor;
 
 import java.util.concurrent.Executor;
 
+import static com.github.akarazhev.cryptoscout.module.Constants.Sink.BYBIT_ROUTE;
+import static com.github.akarazhev.cryptoscout.module.Constants.Sink.CMC_ROUTE;
+
 public final class ClientModule extends AbstractModule {
 
     private ClientModule() {
@@ -41,9 +52,37 @@ public final class ClientModule extends AbstractModule {
         return new ClientModule();
     }
 
+    /**
+     * Routes the Bybit and CMC streams to RabbitMQ or to a local segment log each ({@code sink.bybit},
+     * {@code sink.cmc}). The router starts only the sinks in use, so the broker is not needed when both routes log,
+     * and runs the {@code pipeline.rules} stages first.
+     */
     @Provides
     @Eager
-    private AmqpPublisher amqpPublisher(final NioReactor reactor, final Executor executor) {
-        return AmqpPublisher.create(reactor, executor);
+    private Sink sink(final NioReactor reactor, final Executor executor, final PayloadFanout payloadFanout) {
+        // The one-shot backfill publishes as fast as it fetches, so it waits for the connection instead of buffering
+        final var amqpPublisher = SinkConfig.isAmqpSinkUsed() ?
+                AmqpPublisher.create(reactor, executor,
+                        CmcApiConfig.isCmcBackfillEnabled() ? 0 : AmqpConfig.getAmqpStartBuffer()) :
+                null;
+        return SinkRouter.create(reactor, payloadFanout,
+                SinkConfig.isBybitSinkLog() ? segmentLogSink(reactor, executor, BYBIT_ROUTE) : amqpPublisher,
+                SinkConfig.isCmcSinkLog() ? segmentLogSink(reactor, executor, CMC_ROUTE) : amqpPublisher,
+                PipelineConfig.getPipelineRules());
+    }
+
+    private static SegmentLogSink segmentLogSink(final NioReactor reactor, final Executor executor,
+                                                 final String route) {
+        return SegmentLogSink.create(reactor, executor, SinkConfig.getSinkLogDir().resolve(route),
+                SinkConfig.getSinkLogSegmentBytes(), SinkConfig.getSinkLogMaxSegments());
+    }
+
+    /**
+     * Listeners subscribe in {@link StreamModule}, so the one-shot backfill publishes to an empty fan-out and never
+     * creates the snapshot cache, push endpoints or the kline store.
+     */
+    @Provides
+    private PayloadFanout payloadFanout() {
+        return PayloadFanout.create();
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.module;
+
+import com.github.akarazhev.cryptoscout.client.CmcBackfill;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
+import io.activej.http.IHttpClient;
+import io.activej.inject.annotation.Provides;
+import io.activej.inject.module.AbstractModule;
+import io.activej.reactor.nio.NioReactor;
+
+import java.util.concurrent.Executor;
+
+public final class CmcBackfillModule extends AbstractModule {
+
+    private CmcBackfillModule() {
+    }
+
+    public static CmcBackfillModule create() {
+        return new CmcBackfillModule();
+    }
+
+    @Provides
+    private CmcBackfill cmcBackfill(final NioReactor reactor, final Executor executor, final IHttpClient httpClient,
+                                    final Sink sink) {
+        return CmcBackfill.create(reactor, executor, httpClient, sink, CmcApiConfig.getCmcStateDir());
+    }
+}
@@ -24,8 +24,11 @@
 
 package com.github.akarazhev.cryptoscout.module;
 
-import com.github.akarazhev.cryptoscout.client.AmqpPublisher;
 import com.github.akarazhev.cryptoscout.client.CmcParserConsumer;
+import com.github.akarazhev.cryptoscout.client.CmcQuoteFetcher;
+import com.github.akarazhev.cryptoscout.client.ContentHashCache;
+import com.github.akarazhev.cryptoscout.client.QuoteCursor;
+import com.github.akarazhev.cryptoscout.client.Sink;
 import com.github.akarazhev.cryptoscout.config.CmcApiConfig;
 import com.github.akarazhev.jcryptolib.cmc.config.Type;
 import com.github.akarazhev.jcryptolib.cmc.parser.CmcConfig;
@@ -38,6 +41,8 @@ import io.activej.reactor.nio.NioReactor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Executor;
+
 public final class CmcParserModule extends AbstractModule {
     private static final Logger LOGGER = LoggerFactory.getLogger(CmcParserModule.class);
 
@@ -50,20 +55,43 @@ public final class CmcParserModule extends AbstractModule {
 
     @Provides
     private CmcParser cmcParser(final NioReactor reactor, final IHttpClient httpClient) {
-        final var config = new CmcConfig.Builder()
-                .type(Type.FGI_API_PRO_L)
-                .type(Type.BTC_USD_1D)
-                .type(Type.BTC_USD_1W)
-                .apiKey(CmcApiConfig.getCmcApiKey())
-                .build();
+        final var builder = new CmcConfig.Builder().type(Type.FGI_API_PRO_L);
+        if (!CmcApiConfig.isCmcCursorEnabled()) {
+            // With the cursor the BTC/USD quotes are fetched by CmcQuoteFetcher with ranged requests
+            builder.type(Type.BTC_USD_1D).type(Type.BTC_USD_1W);
+        }
+
+        final var config = builder.apiKey(CmcApiConfig.getCmcApiKey()).build();
         LOGGER.info(config.print());
         return CmcParser.create(reactor, httpClient, config);
     }
 
+    @Provides
+    private ContentHashCache contentHashCache(final NioReactor reactor, final Executor executor) {
+        return ContentHashCache.create(reactor, executor, CmcApiConfig.getCmcStateDir());
+    }
+
+    @Provides
+    private QuoteCursor quoteCursor(final NioReactor reactor, final Executor executor) {
+        return QuoteCursor.create(reactor, executor, CmcApiConfig.getCmcStateDir());
+    }
+
+    @Provides
+    private CmcQuoteFetcher cmcQuoteFetcher(final NioReactor reactor, final Executor executor,
+                                            final IHttpClient httpClient) {
+        return CmcQuoteFetcher.create(reactor, executor, httpClient);
+    }
+
     @Eager
     @Provides
     private CmcParserConsumer cmcParserConsumer(final NioReactor reactor, final CmcParser cmcParser,
-                                                final AmqpPublisher amqpPublisher) {
-        return CmcParserConsumer.create(reactor, cmcParser, amqpPublisher);
+                                                final ContentHashCache contentHashCache,
+                                                final QuoteCursor quoteCursor,
+                                                final CmcQuoteFetcher quoteFetcher,
+                                                final Sink sink) {
+        final var dedup = CmcApiConfig.isCmcDedupEnabled() ? contentHashCache : null;
+        return CmcApiConfig.isCmcCursorEnabled() ?
+                CmcParserConsumer.create(reactor, cmcParser, dedup, quoteCursor, quoteFetcher, sink) :
+                CmcParserConsumer.create(reactor, cmcParser, dedup, sink);
     }
 }
@@ -34,6 +34,10 @@ final class Constants {
             throw new UnsupportedOperationException();
         }
 
+        static final String BYBIT_SPOT_BTC_USDT_CONFIG = "bybitSpotBtcUsdtConfig";
+        static final String BYBIT_SPOT_ETH_USDT_CONFIG = "bybitSpotEthUsdtConfig";
+        static final String BYBIT_LINEAR_BTC_USDT_CONFIG = "bybitLinearBtcUsdtConfig";
+        static final String BYBIT_LINEAR_ETH_USDT_CONFIG = "bybitLinearEthUsdtConfig";
         static final String BYBIT_SPOT_BTC_USDT_STREAM = "bybitSpotBtcUsdtStream";
         static final String BYBIT_SPOT_ETH_USDT_STREAM = "bybitSpotEthUsdtStream";
         static final String BYBIT_LINEAR_BTC_USDT_STREAM = "bybitLinearBtcUsdtStream";
@@ -47,7 +51,34 @@ final class Constants {
 
         static final String OK_RESPONSE = "ok";
         static final String HEALTH_API = "/health";
+        static final String TOPICS_HEALTH_API = "/health/topics";
+        static final String LOOP_HEALTH_API = "/health/loop";
         static final String NOT_READY_RESPONSE = "not-ready";
+        static final String SNAPSHOT_API = "/snapshot/:market/:symbol/:topic";
+        static final String MARKET_PARAM = "market";
+        static final String SYMBOL_PARAM = "symbol";
+        static final String TOPIC_PARAM = "topic";
+        static final String NOT_FOUND_RESPONSE = "not-found";
+        static final String STREAM_WS_API = "/stream";
+        static final String EVENTS_API = "/events";
+        static final String EVENT_STREAM = "text/event-stream";
+        static final String NO_CACHE = "no-cache";
+        static final String TOO_MANY_CLIENTS_RESPONSE = "too-many-clients";
+        static final String KLINES_API = "/klines/:market/:symbol/:interval";
+        static final String INTERVAL_PARAM = "interval";
+        static final String FROM_PARAM = "from";
+        static final String TO_PARAM = "to";
+        static final String LIMIT_PARAM = "limit";
+        static final String BAD_REQUEST_RESPONSE = "bad-request";
+        static final String ADMIN_SUBSCRIPTIONS_API = "/admin/subscriptions";
+        static final String ADMIN_MARKET_SUBSCRIPTIONS_API = "/admin/subscriptions/:market";
+        static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+        static final String TOPICS_PARAM = "topics";
+        static final String TOPIC_SEPARATOR = ",";
+        static final String SPOT_MARKET = "spot";
+        static final String LINEAR_MARKET = "linear";
+        static final String FORBIDDEN_RESPONSE = "forbidden";
+        static final String CONFLICT_RESPONSE = "conflict";
     }
 
     final static class HttpCode {
@@ -55,6 +86,19 @@ final class Constants {
             throw new UnsupportedOperationException();
         }
 
+        static final int BAD_REQUEST = 400;
+        static final int FORBIDDEN = 403;
+        static final int NOT_FOUND = 404;
+        static final int CONFLICT = 409;
         static final int NOT_READY = 503;
     }
+
+    final static class Sink {
+        private Sink() {
+            throw new UnsupportedOperationException();
+        }
+
+        static final String BYBIT_ROUTE = "bybit";
+        static final String CMC_ROUTE = "cmc";
+    }
 }
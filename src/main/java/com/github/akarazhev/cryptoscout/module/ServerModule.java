@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.module;
+
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
+import com.github.akarazhev.cryptoscout.config.WebConfig;
+import com.github.akarazhev.cryptoscout.client.EventLoopMonitor;
+import com.github.akarazhev.cryptoscout.client.KlineStore;
+import com.github.akarazhev.cryptoscout.client.LastValueCache;
+import com.github.akarazhev.cryptoscout.client.PayloadFilter;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.client.SseBroadcaster;
+import com.github.akarazhev.cryptoscout.client.StalenessWatchdog;
+import com.github.akarazhev.cryptoscout.client.SubscriptionManager;
+import com.github.akarazhev.cryptoscout.client.WebSocketFanout;
+import com.github.akarazhev.jcryptolib.bybit.config.StreamType;
+import com.github.akarazhev.jcryptolib.bybit.config.Topic;
+import io.activej.http.AsyncServlet;
+import io.activej.http.ContentType;
+import io.activej.http.HttpHeader;
+import io.activej.http.HttpHeaderValue;
+import io.activej.http.HttpHeaders;
+import io.activej.http.HttpMethod;
+import io.activej.http.HttpRequest;
+import io.activej.http.HttpResponse;
+import io.activej.http.HttpServer;
+import io.activej.http.MediaTypes;
+import io.activej.http.RoutingServlet;
+import io.activej.inject.annotation.Eager;
+import io.activej.inject.annotation.Provides;
+import io.activej.inject.module.AbstractModule;
+import io.activej.promise.Promise;
+import io.activej.reactor.Reactor;
+import io.activej.reactor.nio.NioReactor;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.github.akarazhev.cryptoscout.module.Constants.API.ADMIN_MARKET_SUBSCRIPTIONS_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.ADMIN_SUBSCRIPTIONS_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.ADMIN_TOKEN_HEADER;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.BAD_REQUEST_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.CONFLICT_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.EVENTS_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.EVENT_STREAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.FORBIDDEN_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.FROM_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.HEALTH_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.LOOP_HEALTH_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.INTERVAL_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.KLINES_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.LIMIT_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.LINEAR_MARKET;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.MARKET_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.NOT_FOUND_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.NO_CACHE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.OK_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.NOT_READY_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.SNAPSHOT_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.SPOT_MARKET;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.STREAM_WS_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.SYMBOL_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TOPICS_HEALTH_API;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TOPICS_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TOPIC_SEPARATOR;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TOO_MANY_CLIENTS_RESPONSE;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TO_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.API.TOPIC_PARAM;
+import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.BAD_REQUEST;
+import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.CONFLICT;
+import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.FORBIDDEN;
+import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.NOT_FOUND;
+import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.NOT_READY;
+import static io.activej.http.HttpHeaders.CACHE_CONTROL;
+import static io.activej.http.HttpHeaders.CONTENT_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Server module. HTTP server and routing of the live mode: health, snapshots, local streams, kline history and the
+ * admin API. Fully async (Promise-based).
+ */
+public final class ServerModule extends AbstractModule {
+    private static final HttpHeaderValue JSON_CONTENT_TYPE =
+            HttpHeaderValue.ofContentType(ContentType.of(MediaTypes.JSON, UTF_8));
+    private static final HttpHeaderValue EVENT_STREAM_CONTENT_TYPE = HttpHeaderValue.of(EVENT_STREAM);
+    private static final HttpHeaderValue NO_CACHE_VALUE = HttpHeaderValue.of(NO_CACHE);
+    private static final HttpHeader ADMIN_TOKEN = HttpHeaders.of(ADMIN_TOKEN_HEADER);
+
+    private ServerModule() {
+    }
+
+    public static ServerModule create() {
+        return new ServerModule();
+    }
+
+    @Provides
+    private AsyncServlet servlet(final Reactor reactor, final Sink sink,
+                                 final StalenessWatchdog stalenessWatchdog, final LastValueCache lastValueCache,
+                                 final WebSocketFanout webSocketFanout, final SseBroadcaster sseBroadcaster,
+                                 final KlineStore klineStore, final EventLoopMonitor eventLoopMonitor,
+                                 final SubscriptionManager subscriptionManager) {
+        final var builder = RoutingServlet.builder(reactor)
+                .with(HttpMethod.GET, HEALTH_API, (_) ->
+                        (sink.isReady()
+                                ? HttpResponse.ok200().withPlainText(OK_RESPONSE)
+                                : HttpResponse.ofCode(NOT_READY).withPlainText(NOT_READY_RESPONSE))
+                                .toPromise())
+                .with(HttpMethod.GET, TOPICS_HEALTH_API, (_) ->
+                        (stalenessWatchdog.isHealthy()
+                                ? HttpResponse.ok200().withPlainText(stalenessWatchdog.report())
+                                : HttpResponse.ofCode(NOT_READY).withPlainText(stalenessWatchdog.report()))
+                                .toPromise())
+                .with(HttpMethod.GET, LOOP_HEALTH_API, (_) ->
+                        HttpResponse.ok200().withPlainText(eventLoopMonitor.report()).toPromise())
+                .with(HttpMethod.GET, SNAPSHOT_API, request -> {
+                    final var snapshot = lastValueCache.get(request.getPathParameter(MARKET_PARAM),
+                            request.getPathParameter(SYMBOL_PARAM), request.getPathParameter(TOPIC_PARAM));
+                    // Copy the cached bytes: the body buffer is recycled once written
+                    return (snapshot != null
+                            ? HttpResponse.ok200()
+                                    .withHeader(CONTENT_TYPE, JSON_CONTENT_TYPE)
+                                    .withBody(snapshot.clone())
+                            : HttpResponse.ofCode(NOT_FOUND).withPlainText(NOT_FOUND_RESPONSE))
+                            .toPromise();
+                });
+        if (WebConfig.isWsFanoutEnabled()) {
+            builder.withWebSocket(STREAM_WS_API, webSocket -> {
+                final var request = webSocket.getRequest();
+                webSocketFanout.subscribe(webSocket, PayloadFilter.of(request.getQueryParameter(MARKET_PARAM),
+                        request.getQueryParameter(SYMBOL_PARAM), request.getQueryParameter(TOPIC_PARAM)));
+            });
+        }
+
+        if (WebConfig.isSseEnabled()) {
+            builder.with(HttpMethod.GET, EVENTS_API, request -> {
+                final var events = sseBroadcaster.subscribe(PayloadFilter.of(request.getQueryParameter(MARKET_PARAM),
+                        request.getQueryParameter(SYMBOL_PARAM), request.getQueryParameter(TOPIC_PARAM)));
+                return (events != null
+                        ? HttpResponse.ok200()
+                                .withHeader(CONTENT_TYPE, EVENT_STREAM_CONTENT_TYPE)
+                                .withHeader(CACHE_CONTROL, NO_CACHE_VALUE)
+                                .withBodyStream(events)
+                        : HttpResponse.ofCode(NOT_READY).withPlainText(TOO_MANY_CLIENTS_RESPONSE))
+                        .toPromise();
+            });
+        }
+
+        if (BybitStreamConfig.isKlineStoreEnabled()) {
+            final var maxLimit = BybitStreamConfig.getKlineStoreQueryLimit();
+            builder.with(HttpMethod.GET, KLINES_API, request -> {
+                final long from;
+                final long to;
+                final int limit;
+                try {
+                    from = parseLong(request.getQueryParameter(FROM_PARAM), Long.MIN_VALUE);
+                    to = parseLong(request.getQueryParameter(TO_PARAM), Long.MAX_VALUE);
+                    limit = (int) Math.min(parseLong(request.getQueryParameter(LIMIT_PARAM), maxLimit), maxLimit);
+                } catch (final NumberFormatException ex) {
+                    return HttpResponse.ofCode(BAD_REQUEST).withPlainText(BAD_REQUEST_RESPONSE).toPromise();
+                }
+
+                if (limit < 1 || from > to) {
+                    return HttpResponse.ofCode(BAD_REQUEST).withPlainText(BAD_REQUEST_RESPONSE).toPromise();
+                }
+
+                final var klines = klineStore.query(request.getPathParameter(MARKET_PARAM),
+                        request.getPathParameter(SYMBOL_PARAM), request.getPathParameter(INTERVAL_PARAM), from, to,
+                        limit);
+                return (klines != null
+                        ? HttpResponse.ok200().withHeader(CONTENT_TYPE, JSON_CONTENT_TYPE).withBody(klines)
+                        : HttpResponse.ofCode(NOT_FOUND).withPlainText(NOT_FOUND_RESPONSE))
+                        .toPromise();
+            });
+        }
+
+        if (WebConfig.isAdminApiEnabled()) {
+            final var token = WebConfig.getAdminApiToken().getBytes(UTF_8);
+            builder.with(HttpMethod.GET, ADMIN_SUBSCRIPTIONS_API, request ->
+                            (isAuthorized(request, token)
+                                    ? HttpResponse.ok200().withPlainText(subscriptionManager.report())
+                                    : HttpResponse.ofCode(FORBIDDEN).withPlainText(FORBIDDEN_RESPONSE))
+                                    .toPromise())
+                    .with(HttpMethod.POST, ADMIN_MARKET_SUBSCRIPTIONS_API, request ->
+                            changeSubscriptions(request, token, subscriptionManager, subscriptionManager::subscribe))
+                    .with(HttpMethod.DELETE, ADMIN_MARKET_SUBSCRIPTIONS_API, request ->
+                            changeSubscriptions(request, token, subscriptionManager, subscriptionManager::unsubscribe));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Applies one subscribe or unsubscribe call for {@code /admin/subscriptions/:market?topics=A,B}. An unknown
+     * market or topic is a bad request; a change the manager rejects, e.g. over the connection limit or of a topic a
+     * Bybit module carries, is a conflict.
+     */
+    private static Promise<HttpResponse> changeSubscriptions(final HttpRequest request, final byte[] token,
+                                                             final SubscriptionManager subscriptionManager,
+                                                             final BiFunction<StreamType, Collection<Topic>,
+                                                                     Promise<Void>> change) {
+        if (!isAuthorized(request, token)) {
+            return HttpResponse.ofCode(FORBIDDEN).withPlainText(FORBIDDEN_RESPONSE).toPromise();
+        }
+
+        final var streamType = switch (request.getPathParameter(MARKET_PARAM)) {
+            case SPOT_MARKET -> StreamType.PMST;
+            case LINEAR_MARKET -> StreamType.PML;
+            default -> null;
+        };
+        final var topics = parseTopics(request.getQueryParameter(TOPICS_PARAM));
+        if (streamType == null || topics == null) {
+            return HttpResponse.ofCode(BAD_REQUEST).withPlainText(BAD_REQUEST_RESPONSE).toPromise();
+        }
+
+        return change.apply(streamType, topics).map((_, ex) -> (ex == null
+                ? HttpResponse.ok200().withPlainText(subscriptionManager.report())
+                : HttpResponse.ofCode(CONFLICT).withPlainText(CONFLICT_RESPONSE))
+                .build());
+    }
+
+    private static boolean isAuthorized(final HttpRequest request, final byte[] token) {
+        final var value = request.getHeader(ADMIN_TOKEN);
+        // Constant-time comparison, so the response time does not leak the token prefix
+        return value != null && MessageDigest.isEqual(value.getBytes(UTF_8), token);
+    }
+
+    private static List<Topic> parseTopics(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Arrays.stream(value.split(TOPIC_SEPARATOR)).map(String::strip).map(Topic::valueOf).toList();
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static long parseLong(final String value, final long defaultValue) {
+        return value == null || value.isEmpty() ? defaultValue : Long.parseLong(value);
+    }
+
+    @Provides
+    @Eager
+    private HttpServer server(final NioReactor reactor, final AsyncServlet servlet) {
+        return HttpServer.builder(reactor, servlet)
+                .withListenPort(WebConfig.getServerPort())
+                .build();
+    }
+}
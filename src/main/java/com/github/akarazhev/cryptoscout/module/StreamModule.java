@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.module;
+
+import com.github.akarazhev.cryptoscout.client.BasisJoin;
+import com.github.akarazhev.cryptoscout.client.EventLoopMonitor;
+import com.github.akarazhev.cryptoscout.client.KlineBackfill;
+import com.github.akarazhev.cryptoscout.client.KlineStore;
+import com.github.akarazhev.cryptoscout.client.LastValueCache;
+import com.github.akarazhev.cryptoscout.client.LiquidationAggregator;
+import com.github.akarazhev.cryptoscout.client.MarketAnalytics;
+import com.github.akarazhev.cryptoscout.client.OrderBooks;
+import com.github.akarazhev.cryptoscout.client.PayloadFanout;
+import com.github.akarazhev.cryptoscout.client.Sink;
+import com.github.akarazhev.cryptoscout.client.SseBroadcaster;
+import com.github.akarazhev.cryptoscout.client.StalenessWatchdog;
+import com.github.akarazhev.cryptoscout.client.SubscriptionManager;
+import com.github.akarazhev.cryptoscout.client.WebSocketFanout;
+import com.github.akarazhev.cryptoscout.config.BybitStreamConfig;
+import com.github.akarazhev.cryptoscout.config.WebConfig;
+import io.activej.http.IHttpClient;
+import io.activej.http.IWebSocketClient;
+import io.activej.inject.annotation.Eager;
+import io.activej.inject.annotation.Provides;
+import io.activej.inject.module.AbstractModule;
+import io.activej.reactor.nio.NioReactor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Stream module. Long-running services of the live mode on top of the sinks: the fan-out listeners (snapshot cache,
+ * push endpoints, kline store, derived market events), topic staleness, reactor monitoring and runtime
+ * subscriptions. Left out of the one-shot CMC backfill.
+ */
+public final class StreamModule extends AbstractModule {
+
+    private StreamModule() {
+    }
+
+    public static StreamModule create() {
+        return new StreamModule();
+    }
+
+    /**
+     * One order book per (market, symbol, topic), shared by the snapshot cache and the basis join.
+     */
+    @Provides
+    private OrderBooks orderBooks() {
+        return OrderBooks.create();
+    }
+
+    @Provides
+    @Eager
+    private LastValueCache lastValueCache(final NioReactor reactor, final PayloadFanout payloadFanout,
+                                          final OrderBooks orderBooks) {
+        final var lastValueCache = LastValueCache.create(reactor, orderBooks);
+        if (WebConfig.isSnapshotCacheEnabled()) {
+            payloadFanout.subscribe(lastValueCache);
+        }
+
+        return lastValueCache;
+    }
+
+    @Provides
+    @Eager
+    private WebSocketFanout webSocketFanout(final NioReactor reactor, final PayloadFanout payloadFanout) {
+        final var webSocketFanout = WebSocketFanout.create(reactor, WebConfig.getWsFanoutMaxSubscribers(),
+                WebConfig.getWsFanoutMaxPending());
+        if (WebConfig.isWsFanoutEnabled()) {
+            payloadFanout.subscribe(webSocketFanout);
+        }
+
+        return webSocketFanout;
+    }
+
+    @Provides
+    @Eager
+    private SseBroadcaster sseBroadcaster(final NioReactor reactor, final PayloadFanout payloadFanout) {
+        final var sseBroadcaster = SseBroadcaster.create(reactor, WebConfig.getSseMaxClients(),
+                WebConfig.getSseMaxBuffered());
+        if (WebConfig.isSseEnabled()) {
+            payloadFanout.subscribe(sseBroadcaster);
+        }
+
+        return sseBroadcaster;
+    }
+
+    @Provides
+    @Eager
+    private KlineStore klineStore(final NioReactor reactor, final Executor executor,
+                                  final PayloadFanout payloadFanout) {
+        final var klineStore = KlineStore.create(reactor, executor, BybitStreamConfig.getKlineStoreDir());
+        if (BybitStreamConfig.isKlineStoreEnabled()) {
+            payloadFanout.subscribe(klineStore);
+        }
+
+        return klineStore;
+    }
+
+    @Provides
+    @Eager
+    private MarketAnalytics marketAnalytics(final NioReactor reactor, final PayloadFanout payloadFanout,
+                                            final Sink sink) {
+        final var marketAnalytics = MarketAnalytics.create(reactor, sink,
+                BybitStreamConfig.getAnalyticsWindowS(), BybitStreamConfig.getAnalyticsIntervalMs());
+        if (BybitStreamConfig.isAnalyticsEnabled()) {
+            payloadFanout.subscribe(marketAnalytics);
+        }
+
+        return marketAnalytics;
+    }
+
+    @Provides
+    @Eager
+    private BasisJoin basisJoin(final NioReactor reactor, final PayloadFanout payloadFanout,
+                                final Sink sink, final OrderBooks orderBooks) {
+        final var basisJoin = BasisJoin.create(reactor, sink, orderBooks, BybitStreamConfig.getBasisMaxSkewMs());
+        if (BybitStreamConfig.isBasisEnabled()) {
+            payloadFanout.subscribe(basisJoin);
+        }
+
+        return basisJoin;
+    }
+
+    @Provides
+    @Eager
+    private LiquidationAggregator liquidationAggregator(final NioReactor reactor, final PayloadFanout payloadFanout,
+                                                        final Sink sink) {
+        final var liquidationAggregator = LiquidationAggregator.create(reactor, sink,
+                BybitStreamConfig.getLiquidationIntervalMs(), BybitStreamConfig.getLiquidationBurstNotional(),
+                BybitStreamConfig.getLiquidationBurstCount());
+        if (BybitStreamConfig.isLiquidationEnabled()) {
+            payloadFanout.subscribe(liquidationAggregator);
+        }
+
+        return liquidationAggregator;
+    }
+
+    @Provides
+    @Eager
+    private StalenessWatchdog stalenessWatchdog(final NioReactor reactor) {
+        return StalenessWatchdog.create(reactor);
+    }
+
+    @Provides
+    @Eager
+    private EventLoopMonitor eventLoopMonitor(final NioReactor reactor) {
+        return EventLoopMonitor.create(reactor, WebConfig.isLoopMonitorEnabled(), WebConfig.getLoopMonitorIntervalMs(),
+                WebConfig.getLoopMonitorStallMs(), WebConfig.getLoopMonitorSamples(),
+                WebConfig.getLoopMonitorWindowMs());
+    }
+
+    @Provides
+    @Eager
+    private SubscriptionManager subscriptionManager(final NioReactor reactor, final IWebSocketClient webSocketClient,
+                                                    final StalenessWatchdog stalenessWatchdog,
+                                                    final KlineBackfill klineBackfill, final Sink sink) {
+        return SubscriptionManager.create(reactor, webSocketClient, stalenessWatchdog, klineBackfill, sink,
+                WebConfig.getAdminMaxConnections());
+    }
+
+    @Provides
+    private KlineBackfill klineBackfill(final NioReactor reactor, final IHttpClient httpClient) {
+        return KlineBackfill.create(reactor, httpClient);
+    }
+}
@@ -25,37 +25,29 @@
 package com.github.akarazhev.cryptoscout.module;
 
 import com.github.akarazhev.cryptoscout.config.WebConfig;
-import com.github.akarazhev.cryptoscout.client.AmqpPublisher;
+import com.github.akarazhev.cryptoscout.client.CachingDnsClient;
+import com.github.akarazhev.cryptoscout.client.HostLimitedHttpClient;
+import com.github.akarazhev.cryptoscout.client.TunedSslContext;
 import com.github.akarazhev.jcryptolib.bybit.config.Config;
 import io.activej.dns.DnsClient;
 import io.activej.dns.IDnsClient;
-import io.activej.http.AsyncServlet;
 import io.activej.http.HttpClient;
-import io.activej.http.HttpMethod;
-import io.activej.http.HttpResponse;
-import io.activej.http.HttpServer;
 import io.activej.http.IHttpClient;
 import io.activej.http.IWebSocketClient;
-import io.activej.http.RoutingServlet;
-import io.activej.inject.annotation.Eager;
 import io.activej.inject.annotation.Provides;
 import io.activej.inject.module.AbstractModule;
-import io.activej.reactor.Reactor;
 import io.activej.reactor.nio.NioReactor;
 
 import javax.net.ssl.SSLContext;
+import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.concurrent.Executor;
 
-import static com.github.akarazhev.cryptoscout.module.Constants.API.HEALTH_API;
-import static com.github.akarazhev.cryptoscout.module.Constants.API.OK_RESPONSE;
-import static com.github.akarazhev.cryptoscout.module.Constants.API.NOT_READY_RESPONSE;
-import static com.github.akarazhev.cryptoscout.module.Constants.HttpCode.NOT_READY;
 import static io.activej.http.HttpUtils.inetAddress;
 
 /**
- * Http module. Http server + routing. Fully async (Promise-based).
+ * Http module. DNS, TLS and the shared HTTP/WebSocket client. Fully async (Promise-based).
  */
 public final class WebModule extends AbstractModule {
 
@@ -68,45 +60,44 @@ public final class WebModule extends AbstractModule {
 
     @Provides
     private IDnsClient dnsClient(final NioReactor reactor) {
-        return DnsClient.builder(reactor, inetAddress(WebConfig.getDnsAddress()))
+        final var dnsClient = DnsClient.builder(reactor, inetAddress(WebConfig.getDnsAddress()))
                 .withTimeout(Duration.ofMillis(WebConfig.getDnsTimeoutMs()))
                 .build();
+        return WebConfig.isDnsCacheEnabled() ?
+                CachingDnsClient.create(reactor, dnsClient, WebConfig.getDnsCacheMaxTtlMs(),
+                        WebConfig.getDnsCacheNegativeTtlMs(), WebConfig.getDnsCachePrefetchMs(),
+                        WebConfig.getDnsCacheStaleMs()) :
+                dnsClient;
     }
 
     @Provides
-    private IWebSocketClient webSocketClient(final NioReactor reactor, final IDnsClient dnsClient, final Executor executor)
-            throws NoSuchAlgorithmException {
-        return HttpClient.builder(reactor, dnsClient)
-                .withConnectTimeout(Duration.ofMillis(Config.getConnectTimeoutMs()))
-                .withSslEnabled(SSLContext.getDefault(), executor)
-                .build();
+    private SSLContext sslContext() throws NoSuchAlgorithmException, KeyManagementException {
+        return TunedSslContext.create(WebConfig.getTlsProtocols(), WebConfig.getTlsCipherSuites(),
+                WebConfig.getTlsSessionCacheSize(), WebConfig.getTlsSessionTimeoutS());
     }
 
+    /**
+     * One client for WebSocket, CMC and REST traffic, so all of them share the keep-alive pool and the TLS session
+     * cache of a single {@link SSLContext}. Handshake tasks run on the executor, not on the reactor thread.
+     */
     @Provides
-    private IHttpClient httpClient(final NioReactor reactor, final IDnsClient dnsClient, final Executor executor)
-            throws NoSuchAlgorithmException {
+    private HttpClient sharedHttpClient(final NioReactor reactor, final IDnsClient dnsClient,
+                                        final SSLContext sslContext, final Executor executor) {
         return HttpClient.builder(reactor, dnsClient)
                 .withConnectTimeout(Duration.ofMillis(Config.getConnectTimeoutMs()))
-                .withSslEnabled(SSLContext.getDefault(), executor)
+                .withKeepAliveTimeout(Duration.ofMillis(WebConfig.getHttpKeepAliveTimeoutMs()))
+                .withMaxKeepAliveRequests(WebConfig.getHttpMaxKeepAliveRequests())
+                .withSslEnabled(sslContext, executor)
                 .build();
     }
 
     @Provides
-    private AsyncServlet servlet(final Reactor reactor, final AmqpPublisher amqpPublisher) {
-        return RoutingServlet.builder(reactor)
-                .with(HttpMethod.GET, HEALTH_API, (_) ->
-                        (amqpPublisher.isReady()
-                                ? HttpResponse.ok200().withPlainText(OK_RESPONSE)
-                                : HttpResponse.ofCode(NOT_READY).withPlainText(NOT_READY_RESPONSE))
-                                .toPromise())
-                .build();
+    private IWebSocketClient webSocketClient(final HttpClient sharedHttpClient) {
+        return sharedHttpClient;
     }
 
     @Provides
-    @Eager
-    private HttpServer server(final NioReactor reactor, final AsyncServlet servlet) {
-        return HttpServer.builder(reactor, servlet)
-                .withListenPort(WebConfig.getServerPort())
-                .build();
+    private IHttpClient httpClient(final NioReactor reactor, final HttpClient sharedHttpClient) {
+        return HostLimitedHttpClient.create(reactor, sharedHttpClient, WebConfig.getHttpMaxConnectionsPerHost());
     }
 }
@@ -39,8 +39,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("AmqpPublisher Tests")
 final class AmqpPublisherTest {
@@ -56,7 +58,7 @@ final class AmqpPublisherTest {
         reactor = Eventloop.builder()
                 .withCurrentThread()
                 .build();
-        amqpPublisher = AmqpPublisher.create(reactor, publisherExecutor);
+        amqpPublisher = AmqpPublisher.create(reactor, publisherExecutor, 0);
     }
 
     @AfterEach
@@ -125,4 +127,17 @@ final class AmqpPublisherTest {
         final var promise = amqpPublisher.publish(payload);
         assertNotNull(promise, "Promise should not be null");
     }
+
+    @Test
+    @DisplayName("publish to an unconnected primary environment fails")
+    void shouldFailWhilePrimaryIsNotConnected() {
+        final Payload<Map<String, Object>> payload = new Payload<>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PML);
+        payload.setData(new HashMap<>());
+
+        assertTrue(amqpPublisher.publish(payload).isException());
+        assertEquals(0, amqpPublisher.getDropped());
+        assertTrue(amqpPublisher.getEnvironments().startsWith("primary ready=false"));
+    }
 }
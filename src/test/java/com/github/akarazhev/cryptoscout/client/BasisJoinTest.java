@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import io.activej.promise.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BasisJoin Tests")
+final class BasisJoinTest {
+    private final List<Payload<Map<String, Object>>> emitted = new ArrayList<>();
+    private BasisJoin basisJoin;
+
+    @BeforeEach
+    void setUp() {
+        final var reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        final var sink = new Sink() {
+            @Override
+            public Promise<Void> publish(final Payload<Map<String, Object>> payload) {
+                emitted.add(payload);
+                return Promise.complete();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+        };
+        basisJoin = BasisJoin.create(reactor, sink, 500);
+    }
+
+    @Test
+    @DisplayName("spot and perp books join into a basis event with the perp ticker fields")
+    @SuppressWarnings("unchecked")
+    void shouldEmitBasisWhenBothLegsQuote() {
+        basisJoin.onPayload(book(Source.PMST, 1_000, "100", "101"));
+        basisJoin.onPayload(ticker(Source.PML, 1_100, Map.of("markPrice", "110.5", "indexPrice", "100.5",
+                "fundingRate", "0.0001")));
+        assertTrue(emitted.isEmpty());
+
+        basisJoin.onPayload(book(Source.PML, 1_200, "110", "111"));
+        assertEquals(1, emitted.size());
+        final var event = emitted.getFirst();
+        assertEquals("basis.BTCUSDT", event.getData().get("topic"));
+        final var basis = (Map<String, Object>) event.getData().get("data");
+        assertEquals(10.0, (double) basis.get("basis"), 1e-9);
+        assertEquals(10.0 / 100.5 * 10_000, (double) basis.get("basisBps"), 1e-9);
+        assertEquals(200L, basis.get("skewMs"));
+    }
+
+    @Test
+    @DisplayName("perp ticker bid and ask do not quote the perp leg")
+    void shouldQuotePerpFromBookOnly() {
+        basisJoin.onPayload(book(Source.PMST, 1_000, "100", "101"));
+        basisJoin.onPayload(ticker(Source.PML, 1_000, Map.of("bid1Price", "110", "ask1Price", "111")));
+        assertTrue(emitted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("unchanged mids and skewed quotes emit nothing")
+    void shouldSkipUnchangedAndSkewedUpdates() {
+        basisJoin.onPayload(book(Source.PMST, 1_000, "100", "101"));
+        basisJoin.onPayload(book(Source.PML, 1_000, "110", "111"));
+        basisJoin.onPayload(ticker(Source.PML, 1_100, Map.of("lastPrice", "110.5")));
+        assertEquals(1, emitted.size());
+
+        basisJoin.onPayload(book(Source.PML, 5_000, "112", "113"));
+        assertEquals(1, emitted.size());
+        assertEquals(1, basisJoin.getSkewedUpdates());
+    }
+
+    private static Payload<Map<String, Object>> book(final Source source, final long ts, final String bid,
+                                                     final String ask) {
+        return payload(source, "orderbook.50.BTCUSDT", ts, Map.of("s", "BTCUSDT",
+                "b", List.of(List.of(bid, "1")), "a", List.of(List.of(ask, "1")), "u", 1L));
+    }
+
+    private static Payload<Map<String, Object>> ticker(final Source source, final long ts,
+                                                       final Map<String, Object> fields) {
+        return payload(source, "tickers.BTCUSDT", ts, fields);
+    }
+
+    private static Payload<Map<String, Object>> payload(final Source source, final String topic, final long ts,
+                                                        final Map<String, Object> body) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("type", "snapshot");
+        data.put("ts", ts);
+        data.put("data", body);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+}
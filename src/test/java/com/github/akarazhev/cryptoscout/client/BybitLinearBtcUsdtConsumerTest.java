@@ -59,7 +59,7 @@ final class BybitLinearBtcUsdtConsumerTest {
     @DisplayName("create factory method exists and is accessible")
     void createFactoryMethodExists() throws NoSuchMethodException {
         final var method = BybitLinearBtcUsdtConsumer.class.getMethod("create", NioReactor.class,
-                BybitStream.class, AmqpPublisher.class);
+                BybitStream.class, Sink.class);
         assertNotNull(method, "Factory method should exist");
     }
 
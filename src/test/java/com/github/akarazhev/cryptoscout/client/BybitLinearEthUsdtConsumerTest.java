@@ -59,7 +59,7 @@ final class BybitLinearEthUsdtConsumerTest {
     @DisplayName("create factory method exists and is accessible")
     void createFactoryMethodExists() throws NoSuchMethodException {
         final var method = BybitLinearEthUsdtConsumer.class.getMethod("create", NioReactor.class, BybitStream.class,
-                AmqpPublisher.class);
+                Sink.class);
         assertNotNull(method, "Factory method should exist");
     }
 
@@ -58,7 +58,7 @@ final class BybitSpotBtcUsdtConsumerTest {
     @DisplayName("create factory method exists and is accessible")
     void createFactoryMethodExists() throws NoSuchMethodException {
         final var method = BybitSpotBtcUsdtConsumer.class.getMethod("create", NioReactor.class, BybitStream.class,
-                AmqpPublisher.class);
+                Sink.class);
         assertNotNull(method, "Factory method should exist");
     }
 
@@ -58,7 +58,7 @@ final class BybitSpotEthUsdtConsumerTest {
     @DisplayName("create factory method exists and is accessible")
     void createFactoryMethodExists() throws NoSuchMethodException {
         final var method = BybitSpotEthUsdtConsumer.class.getMethod("create", NioReactor.class, BybitStream.class,
-                AmqpPublisher.class);
+                Sink.class);
         assertNotNull(method, "Factory method should exist");
     }
 
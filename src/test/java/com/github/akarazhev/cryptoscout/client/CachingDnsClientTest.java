@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.dns.protocol.DnsQuery;
+import io.activej.dns.protocol.DnsResourceRecord;
+import io.activej.dns.protocol.DnsResponse;
+import io.activej.dns.protocol.DnsTransaction;
+import io.activej.eventloop.Eventloop;
+import io.activej.promise.SettablePromise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("CachingDnsClient Tests")
+final class CachingDnsClientTest {
+    private static final DnsQuery QUERY = DnsQuery.ipv4("stream.bybit.com");
+    private static final long MAX_TTL_MS = 300_000L;
+    private static final long PREFETCH_MS = 10_000L;
+    private static final long STALE_MS = 3_600_000L;
+    private final List<SettablePromise<DnsResponse>> upstream = new ArrayList<>();
+    private Eventloop reactor;
+    private CachingDnsClient client;
+
+    @BeforeEach
+    void setUp() {
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        client = CachingDnsClient.create(reactor, query -> {
+            final var promise = new SettablePromise<DnsResponse>();
+            upstream.add(promise);
+            return promise;
+        }, MAX_TTL_MS, 5_000L, PREFETCH_MS, STALE_MS);
+    }
+
+    @Test
+    @DisplayName("answers are cached for their TTL")
+    void shouldCacheAnswersForTtl() throws Exception {
+        client.resolve(QUERY, 0);
+        final var response = response(60);
+        upstream.getFirst().set(response);
+
+        assertSame(response, client.resolve(QUERY, 30_000L).getResult());
+        assertEquals(1, upstream.size());
+        assertEquals(1, client.getHits());
+    }
+
+    @Test
+    @DisplayName("concurrent misses share one upstream query")
+    void shouldCoalesceConcurrentMisses() {
+        client.resolve(QUERY, 0);
+        client.resolve(QUERY, 0);
+        assertEquals(1, upstream.size());
+    }
+
+    @Test
+    @DisplayName("hot names are refreshed before they expire")
+    void shouldPrefetchHotNames() throws Exception {
+        client.resolve(QUERY, 0);
+        upstream.getFirst().set(response(60));
+        client.resolve(QUERY, 1_000L);
+
+        client.resolve(QUERY, 55_000L);
+        assertEquals(2, upstream.size());
+        assertEquals(1, client.getPrefetches());
+    }
+
+    @Test
+    @DisplayName("expired answers are served while the resolver is unreachable")
+    void shouldServeStaleWhileResolverUnreachable() throws Exception {
+        client.resolve(QUERY, 0);
+        final var response = response(60);
+        upstream.getFirst().set(response);
+
+        final var stale = client.resolve(QUERY, 120_000L);
+        assertSame(response, stale.getResult());
+        upstream.get(1).setException(new IllegalStateException("timeout"));
+        assertSame(response, client.resolve(QUERY, 130_000L).getResult());
+        assertEquals(2, client.getStaleHits());
+    }
+
+    @Test
+    @DisplayName("failed lookups are cached for the negative TTL")
+    void shouldCacheFailedLookups() {
+        final var timeout = new IllegalStateException("timeout");
+        client.resolve(QUERY, 0);
+        upstream.getFirst().setException(timeout);
+
+        assertSame(timeout, client.resolve(QUERY, 4_000L).getException());
+        assertEquals(1, upstream.size());
+        assertEquals(1, client.getHits());
+
+        client.resolve(QUERY, 5_000L);
+        assertEquals(2, upstream.size());
+    }
+
+    private static DnsResponse response(final int ttlSeconds) throws Exception {
+        return DnsResponse.of(DnsTransaction.of((short) 1, QUERY),
+                DnsResourceRecord.of(new InetAddress[]{InetAddress.getByName("127.0.0.1")}, ttlSeconds));
+    }
+}
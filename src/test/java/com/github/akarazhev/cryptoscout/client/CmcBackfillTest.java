@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CmcBackfill Tests")
+final class CmcBackfillTest {
+    private static final long DAY_MS = 86_400_000L;
+    private static final long[] JANUARY = {
+            Instant.parse("2024-01-01T00:00:00Z").toEpochMilli(),
+            Instant.parse("2024-02-01T00:00:00Z").toEpochMilli()
+    };
+
+    @Test
+    @DisplayName("range is split into consecutive chunks")
+    void shouldSplitRangeIntoConsecutiveChunks() {
+        final var chunks = CmcBackfill.chunks(0, 25 * DAY_MS, 10 * DAY_MS);
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new long[]{0, 10 * DAY_MS}, chunks.get(0));
+        assertArrayEquals(new long[]{10 * DAY_MS, 20 * DAY_MS}, chunks.get(1));
+        assertArrayEquals(new long[]{20 * DAY_MS, 25 * DAY_MS}, chunks.get(2));
+        assertTrue(CmcBackfill.chunks(DAY_MS, DAY_MS, DAY_MS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("BTC/USD quotes are filtered to the chunk and sorted")
+    void shouldFilterBtcUsdQuotesToChunk() {
+        final var body = """
+                {"status":{"error_code":0},"data":{"id":1,"quotes":[
+                {"time_close":"2024-01-02T23:59:59.999Z","quote":{"USD":{"close":44943.1}}},
+                {"time_close":"2024-02-01T23:59:59.999Z","quote":{"USD":{"close":43082.9}}},
+                {"time_close":"2024-01-01T23:59:59.999Z","quote":{"USD":{"close":44167.3}}}]}}""";
+        final var data = CmcBackfill.parse(Source.BTC_USD_1D, body.getBytes(UTF_8), JANUARY);
+        @SuppressWarnings("unchecked") final var quotes = (List<Map<String, Object>>) data.get("quotes");
+        assertEquals(2, quotes.size());
+        assertEquals("2024-01-01T23:59:59.999Z", quotes.get(0).get("time_close"));
+        assertEquals("2024-01-02T23:59:59.999Z", quotes.get(1).get("time_close"));
+    }
+
+    @Test
+    @DisplayName("Fear & Greed entries are filtered to the chunk and sorted oldest first")
+    void shouldFilterFearAndGreedEntriesToChunk() {
+        final var body = """
+                {"status":{"error_code":"0"},"data":[
+                {"timestamp":"1706745600","value":63},
+                {"timestamp":"1704153600","value":71},
+                {"timestamp":"1704067200","value":65}]}""";
+        final var data = CmcBackfill.parse(Source.FGI_API_PRO_L, body.getBytes(UTF_8), JANUARY);
+        @SuppressWarnings("unchecked") final var entries = (List<Map<String, Object>>) data.get("data");
+        assertEquals(2, entries.size());
+        assertEquals(65L, ((Number) entries.get(0).get("value")).longValue());
+        assertEquals(71L, ((Number) entries.get(1).get("value")).longValue());
+    }
+
+    @Test
+    @DisplayName("OHLCV request covers the given range only")
+    void shouldBuildRangedOhlcvUrl() {
+        assertEquals("https://pro-api.coinmarketcap.com/v2/cryptocurrency/ohlcv/historical?id=1&convert=USD" +
+                        "&time_period=weekly&time_start=2024-01-01T00:00:00Z&time_end=2024-02-01T00:00:00Z",
+                CmcBackfill.getOhlcvUrl("https://pro-api.coinmarketcap.com", Source.BTC_USD_1W, JANUARY));
+    }
+
+    @Test
+    @DisplayName("error status fails the chunk")
+    void shouldFailOnErrorStatus() {
+        assertThrows(IllegalStateException.class, () -> CmcBackfill.parse(Source.BTC_USD_1D,
+                "{\"status\":{\"error_code\":1002,\"error_message\":\"API key missing.\"}}".getBytes(UTF_8),
+                JANUARY));
+    }
+}
@@ -31,8 +31,20 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTE;
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.QUOTES;
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.TIMESTAMP;
+import static com.github.akarazhev.jcryptolib.cmc.Constants.Response.TIME_CLOSE;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("CmcParserConsumer Tests")
@@ -60,7 +72,31 @@ final class CmcParserConsumerTest {
         final var method = CmcParserConsumer.class.getMethod("create",
                 NioReactor.class,
                 CmcParser.class,
-                AmqpPublisher.class);
+                Sink.class);
+        assertNotNull(method, "Factory method should exist");
+    }
+
+    @Test
+    @DisplayName("create with content hash cache factory method exists and is accessible")
+    void createWithContentHashCacheFactoryMethodExists() throws NoSuchMethodException {
+        final var method = CmcParserConsumer.class.getMethod("create",
+                NioReactor.class,
+                CmcParser.class,
+                ContentHashCache.class,
+                Sink.class);
+        assertNotNull(method, "Factory method should exist");
+    }
+
+    @Test
+    @DisplayName("create with quote cursor factory method exists and is accessible")
+    void createWithQuoteCursorFactoryMethodExists() throws NoSuchMethodException {
+        final var method = CmcParserConsumer.class.getMethod("create",
+                NioReactor.class,
+                CmcParser.class,
+                ContentHashCache.class,
+                QuoteCursor.class,
+                CmcQuoteFetcher.class,
+                Sink.class);
         assertNotNull(method, "Factory method should exist");
     }
 
@@ -70,4 +106,93 @@ final class CmcParserConsumerTest {
         assertThrows(IllegalStateException.class, () ->
                 CmcParserConsumer.create(null, null, null));
     }
+
+    @Test
+    @DisplayName("getTimestamp prefers quote.timestamp over time_close")
+    void shouldGetTimestampPreferQuoteTimestamp() {
+        assertEquals(Instant.parse("2024-01-02T23:59:59.999Z").toEpochMilli(),
+                CmcParserConsumer.getTimestamp(quote("2024-01-02T23:59:59.999Z", "2024-01-03T00:00:00Z")));
+        assertEquals(Instant.parse("2024-01-03T00:00:00Z").toEpochMilli(),
+                CmcParserConsumer.getTimestamp(quote(null, "2024-01-03T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("toEpochMillis matches Instant.parse")
+    void shouldToEpochMillisMatchInstantParse() {
+        for (final var text : List.of("2024-01-01T00:00:00.000Z", "1970-01-01T00:00:00Z",
+                "2024-02-29T23:59:59.999Z", "2025-10-19T10:11:12.123456Z", "1969-12-31T23:59:59.5Z")) {
+            assertEquals(Instant.parse(text).toEpochMilli(), CmcParserConsumer.toEpochMillis(text), text);
+        }
+    }
+
+    @Test
+    @DisplayName("toEpochMillis rejects malformed timestamps")
+    void shouldToEpochMillisRejectMalformedTimestamps() {
+        assertEquals(Long.MIN_VALUE, CmcParserConsumer.toEpochMillis("not-a-timestamp"));
+        assertEquals(Long.MIN_VALUE, CmcParserConsumer.toEpochMillis("2024-13-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("selectLatestQuote keeps only the most recent quote")
+    void shouldSelectLatestQuoteKeepOnlyMostRecentQuote() {
+        final var older = quote("2024-01-01T23:59:59.999Z", null);
+        final var latest = quote(null, "2024-01-03T23:59:59.999Z");
+        final var middle = quote("2024-01-02T23:59:59.999Z", null);
+        final var data = new HashMap<String, Object>();
+        data.put(QUOTES, new ArrayList<>(List.of(older, latest, middle)));
+
+        final var selected = CmcParserConsumer.selectLatestQuote(data);
+        assertSame(data, selected);
+        @SuppressWarnings("unchecked") final var quotes = (List<Map<String, Object>>) selected.get(QUOTES);
+        assertEquals(1, quotes.size());
+        assertSame(latest, quotes.getFirst());
+    }
+
+    @Test
+    @DisplayName("retainNewerQuotes keeps quotes newer than the cursor, oldest first")
+    void shouldRetainNewerQuotesKeepQuotesNewerThanCursor() {
+        final var day1 = quote("2024-01-01T23:59:59.999Z", null);
+        final var day2 = quote("2024-01-02T23:59:59.999Z", null);
+        final var day3 = quote("2024-01-03T23:59:59.999Z", null);
+        final var data = new HashMap<String, Object>();
+        data.put(QUOTES, new ArrayList<>(List.of(day3, day1, day2)));
+
+        final var cursor = Instant.parse("2024-01-01T23:59:59.999Z").toEpochMilli();
+        final var newest = CmcParserConsumer.retainNewerQuotes(data, cursor);
+        assertEquals(Instant.parse("2024-01-03T23:59:59.999Z").toEpochMilli(), newest);
+        assertEquals(List.of(day2, day3), data.get(QUOTES));
+        assertEquals(Long.MIN_VALUE, CmcParserConsumer.retainNewerQuotes(data, newest));
+    }
+
+    @Test
+    @DisplayName("retainNewerQuotes keeps only the latest quote without a cursor")
+    void shouldRetainNewerQuotesKeepOnlyLatestWithoutCursor() {
+        final var day1 = quote("2024-01-01T23:59:59.999Z", null);
+        final var day2 = quote("2024-01-02T23:59:59.999Z", null);
+        final var data = new HashMap<String, Object>();
+        data.put(QUOTES, new ArrayList<>(List.of(day2, day1)));
+
+        CmcParserConsumer.retainNewerQuotes(data, Long.MIN_VALUE);
+        assertEquals(List.of(day2), data.get(QUOTES));
+    }
+
+    @Test
+    @DisplayName("next poll is the daily start time plus whole intervals")
+    void shouldNextPollFollowDailyStartAndInterval() {
+        final var day = Instant.parse("2024-01-02T00:00:00Z").toEpochMilli();
+        final var startAt = 4 * 3_600_000L;
+        final var hour = 3_600_000L;
+        assertEquals(day + startAt, CmcParserConsumer.nextPollAtMs(day + hour, startAt, 24 * hour));
+        assertEquals(day + 28 * hour, CmcParserConsumer.nextPollAtMs(day + startAt, startAt, 24 * hour));
+        assertEquals(day + 10 * hour, CmcParserConsumer.nextPollAtMs(day + 9 * hour, startAt, 6 * hour));
+    }
+
+    private static Map<String, Object> quote(final String timestamp, final String timeClose) {
+        final var q = new HashMap<String, Object>();
+        q.put(TIMESTAMP, timestamp);
+        final var quote = new HashMap<String, Object>();
+        quote.put(QUOTE, q);
+        quote.put(TIME_CLOSE, timeClose);
+        return quote;
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@DisplayName("CmcQuoteFetcher Tests")
+final class CmcQuoteFetcherTest {
+    private static final long DAY_MS = 86_400_000L;
+    private static final long NOW_MS = Instant.parse("2024-01-10T05:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("range starts at the cursor")
+    void shouldRangeStartAtCursor() {
+        final var cursor = Instant.parse("2024-01-08T23:59:59.999Z").toEpochMilli();
+        assertArrayEquals(new long[]{cursor, NOW_MS}, CmcQuoteFetcher.getRange(Source.BTC_USD_1D, cursor, NOW_MS));
+    }
+
+    @Test
+    @DisplayName("without a cursor the last two periods are requested")
+    void shouldRangeCoverLastPeriodsWithoutCursor() {
+        assertArrayEquals(new long[]{NOW_MS - 2 * DAY_MS, NOW_MS},
+                CmcQuoteFetcher.getRange(Source.BTC_USD_1D, Long.MIN_VALUE, NOW_MS));
+        assertArrayEquals(new long[]{NOW_MS - 14 * DAY_MS, NOW_MS},
+                CmcQuoteFetcher.getRange(Source.BTC_USD_1W, Long.MIN_VALUE, NOW_MS));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ContentHashCache Tests")
+final class ContentHashCacheTest {
+    private static final byte[] FGI = "{\"value\":42}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FGI_CHANGED = "{\"value\":43}".getBytes(StandardCharsets.UTF_8);
+    private static final String FGI_HASH = ContentHashCache.hash(FGI);
+    private static final String FGI_CHANGED_HASH = ContentHashCache.hash(FGI_CHANGED);
+
+    @TempDir
+    private Path stateDir;
+    private ExecutorService executor;
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("identical content is suppressed per source")
+    void shouldSuppressIdenticalContentPerSource() {
+        final var cache = ContentHashCache.create(reactor, executor, stateDir);
+        assertTrue(cache.isChanged(Source.FGI_API_PRO_L, FGI_HASH));
+        cache.record(Source.FGI_API_PRO_L, FGI_HASH);
+        assertFalse(cache.isChanged(Source.FGI_API_PRO_L, FGI_HASH));
+        assertTrue(cache.isChanged(Source.BTC_USD_1D, FGI_HASH));
+        assertTrue(cache.isChanged(Source.FGI_API_PRO_L, FGI_CHANGED_HASH));
+        assertEquals(1, cache.getSuppressed());
+        reactor.run();
+    }
+
+    @Test
+    @DisplayName("unrecorded content is not suppressed")
+    void shouldNotSuppressUnrecordedContent() {
+        final var cache = ContentHashCache.create(reactor, executor, stateDir);
+        assertTrue(cache.isChanged(Source.FGI_API_PRO_L, FGI_HASH));
+        assertTrue(cache.isChanged(Source.FGI_API_PRO_L, FGI_HASH));
+        assertEquals(0, cache.getSuppressed());
+        reactor.run();
+        assertFalse(Files.exists(stateDir.resolve("cmc-content-hashes.properties")));
+    }
+
+    @Test
+    @DisplayName("hashes survive a restart")
+    void shouldHashesSurviveRestart() {
+        final var cache = ContentHashCache.create(reactor, executor, stateDir);
+        cache.record(Source.FGI_API_PRO_L, FGI_HASH);
+        reactor.post(() -> cache.stop().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+        assertTrue(Files.exists(stateDir.resolve("cmc-content-hashes.properties")));
+
+        final var restarted = ContentHashCache.create(reactor, executor, stateDir);
+        reactor.post(() -> restarted.start().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+        assertFalse(restarted.isChanged(Source.FGI_API_PRO_L, FGI_HASH));
+        reactor.run();
+    }
+
+    @Test
+    @DisplayName("hash is stable and content sensitive")
+    void shouldHashBeStableAndContentSensitive() {
+        assertEquals(ContentHashCache.hash(FGI), ContentHashCache.hash(FGI.clone()));
+        assertNotEquals(ContentHashCache.hash(FGI), ContentHashCache.hash(FGI_CHANGED));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EventLoopMonitor Tests")
+final class EventLoopMonitorTest {
+
+    @Test
+    @DisplayName("histogram percentiles are bucket upper bounds capped by the maximum")
+    void shouldReportPercentiles() {
+        final var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        for (var i = 0; i < 98; i++) {
+            histogram.record(1);
+        }
+
+        histogram.record(5);
+        histogram.record(300);
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(99));
+        assertEquals(300, histogram.getPercentile(100));
+        assertEquals(300, histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("merged histograms hold the values of both")
+    void shouldMergeHistograms() {
+        final var first = new LatencyHistogram();
+        final var second = new LatencyHistogram();
+        first.record(1);
+        second.record(300);
+
+        final var merged = LatencyHistogram.merge(first, second);
+        assertEquals(2, merged.getCount());
+        assertEquals(1, merged.getPercentile(50));
+        assertEquals(300, merged.getMax());
+        assertEquals(1, first.getCount());
+    }
+
+    @Test
+    @DisplayName("lag of a stall leaves the histograms two windows later")
+    void shouldRotateWindows() {
+        final var eventloop = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        final var monitor = EventLoopMonitor.create(eventloop, true, 20, 100, 4, 200);
+        eventloop.post(monitor::start);
+        final var lagMaxMs = new long[1];
+        eventloop.delay(50, EventLoopMonitorTest::block);
+        eventloop.delay(500, () -> lagMaxMs[0] = monitor.getLagMaxMs());
+        eventloop.delay(1_500, monitor::stop);
+        eventloop.run();
+
+        assertTrue(lagMaxMs[0] >= 100);
+        assertTrue(monitor.getLagMaxMs() < 100);
+        assertEquals(1, monitor.getStalls());
+    }
+
+    @Test
+    @DisplayName("a blocking task is reported as a stall with a stack sample of the task")
+    void shouldSampleStalledTask() {
+        final var eventloop = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        final var monitor = EventLoopMonitor.create(eventloop, true, 20, 100, 4, 60_000);
+        eventloop.post(monitor::start);
+        eventloop.delay(50, EventLoopMonitorTest::block);
+        eventloop.delay(600, monitor::stop);
+        eventloop.run();
+
+        assertEquals(1, monitor.getStalls());
+        assertTrue(monitor.getLagMaxMs() >= 100);
+        assertTrue(monitor.getStallSamples().contains("EventLoopMonitorTest.block"));
+        assertTrue(monitor.report().contains("stalls count=1"));
+    }
+
+    private static void block() {
+        try {
+            Thread.sleep(400);
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.eventloop.Eventloop;
+import io.activej.http.HttpRequest;
+import io.activej.http.HttpResponse;
+import io.activej.promise.SettablePromise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("HostLimitedHttpClient Tests")
+final class HostLimitedHttpClientTest {
+    private final List<SettablePromise<HttpResponse>> inFlight = new ArrayList<>();
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @Test
+    @DisplayName("requests beyond the per-host cap wait for a free slot")
+    void shouldQueueRequestsBeyondPerHostCap() {
+        final var client = HostLimitedHttpClient.create(reactor, _ -> {
+            final var promise = new SettablePromise<HttpResponse>();
+            inFlight.add(promise);
+            return promise;
+        }, 2);
+
+        client.request(HttpRequest.get("https://api.bybit.com/v5/market/kline").build());
+        client.request(HttpRequest.get("https://api.bybit.com/v5/market/kline").build());
+        client.request(HttpRequest.get("https://api.bybit.com/v5/market/kline").build());
+        client.request(HttpRequest.get("https://pro-api.coinmarketcap.com/v3/fear-and-greed/historical").build());
+        assertEquals(3, inFlight.size());
+        assertEquals(1, client.getWaitingRequests());
+
+        inFlight.getFirst().set(HttpResponse.ok200().build());
+        assertEquals(4, inFlight.size());
+        assertEquals(0, client.getWaitingRequests());
+        assertEquals(1, client.getQueuedRequests());
+    }
+
+    @Test
+    @DisplayName("host key is the URL authority")
+    void shouldUseUrlAuthorityAsHostKey() {
+        assertEquals("api.bybit.com", HostLimitedHttpClient.getHost("https://api.bybit.com/v5/market/kline?x=1"));
+        assertEquals("localhost:8081", HostLimitedHttpClient.getHost("http://localhost:8081/health"));
+    }
+
+    @Test
+    @DisplayName("malformed URL fails the request instead of throwing")
+    void shouldFailRequestWithMalformedUrl() {
+        final var client = HostLimitedHttpClient.create(reactor, _ -> {
+            final var promise = new SettablePromise<HttpResponse>();
+            inFlight.add(promise);
+            return promise;
+        }, 1);
+
+        final var response = client.request(HttpRequest.get("https://api.bybit.com/v5/market/kline?symbol=a|b")
+                .build());
+        assertTrue(response.isException());
+        assertInstanceOf(IllegalStateException.class, response.getException());
+        assertEquals(0, inFlight.size());
+    }
+
+    @Test
+    @DisplayName("non-positive cap is rejected")
+    void shouldRejectNonPositiveCap() {
+        assertThrows(IllegalStateException.class, () -> HostLimitedHttpClient.create(reactor, _ -> null, 0));
+    }
+}
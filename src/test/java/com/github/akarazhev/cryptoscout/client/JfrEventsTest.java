@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.CONFIRM_RECEIVED;
+import static com.github.akarazhev.cryptoscout.client.Constants.Jfr.PAYLOAD_ENCODED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JfrEvents Tests")
+final class JfrEventsTest {
+
+    @Test
+    @DisplayName("payload events carry market, symbol, topic and size")
+    void shouldRecordPayloadFields(@TempDir final Path dir) throws Exception {
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PMST);
+        payload.setData(Map.of("topic", "orderbook.50.BTCUSDT"));
+        final var file = dir.resolve("events.jfr");
+        try (final var recording = new Recording()) {
+            recording.enable(PAYLOAD_ENCODED).withThreshold(Duration.ZERO);
+            recording.start();
+            final var event = new JfrEvents.PayloadEncoded();
+            event.begin();
+            event.end();
+            assertTrue(event.shouldCommit());
+            event.describe(payload, 128);
+            event.commit();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final var events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        assertEquals("spot", events.getFirst().getString("market"));
+        assertEquals("BTCUSDT", events.getFirst().getString("symbol"));
+        assertEquals("orderbook.50", events.getFirst().getString("topic"));
+        assertEquals(128, events.getFirst().getLong("size"));
+    }
+
+    @Test
+    @DisplayName("disabled events are not started")
+    void shouldSkipDisabledEvents() {
+        assertFalse(new JfrEvents.PayloadReceived().isEnabled());
+        assertNull(JfrEvents.ConfirmReceived.start(new Payload<>(), 0));
+        try (final var recording = new Recording()) {
+            recording.enable(CONFIRM_RECEIVED);
+            recording.start();
+            final var payload = new Payload<Map<String, Object>>();
+            payload.setProvider(Provider.CMC);
+            payload.setSource(Source.FGI_API_PRO_L);
+            assertNotNull(JfrEvents.ConfirmReceived.start(payload, 0));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import io.activej.http.HttpResponse;
+import io.activej.promise.Promise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("KlineBackfill Tests")
+final class KlineBackfillTest {
+    private static final String TOPIC = "kline.15.BTCUSDT";
+    private static final long INTERVAL_MS = 15 * 60_000L;
+
+    private static Payload<Map<String, Object>> kline(final long start, final boolean confirm) {
+        final Payload<Map<String, Object>> payload = new Payload<>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PML);
+        payload.setData(Map.of("topic", TOPIC, "type", "snapshot",
+                "data", List.of(Map.of("start", start, "confirm", confirm))));
+        return payload;
+    }
+
+    @Test
+    @DisplayName("interval is derived from topic")
+    void shouldDeriveIntervalFromTopic() {
+        assertEquals(15 * 60_000L, KlineBackfill.getIntervalMs("kline.15.BTCUSDT"));
+        assertEquals(240 * 60_000L, KlineBackfill.getIntervalMs("kline.240.ETHUSDT"));
+        assertEquals(86_400_000L, KlineBackfill.getIntervalMs("kline.D.BTCUSDT"));
+        assertEquals(-1, KlineBackfill.getIntervalMs("kline.W"));
+    }
+
+    @Test
+    @DisplayName("category is derived from source")
+    void shouldDeriveCategoryFromSource() {
+        assertEquals("spot", KlineBackfill.getCategory(Source.PMST));
+        assertEquals("linear", KlineBackfill.getCategory(Source.PML));
+        assertNull(KlineBackfill.getCategory(Source.BTC_USD_1D));
+    }
+
+    @Test
+    @DisplayName("kline response rows are parsed")
+    void shouldParseKlineResponse() {
+        final var body = "{\"retCode\":0,\"retMsg\":\"OK\",\"result\":{\"category\":\"linear\",\"symbol\":\"BTCUSDT\"," +
+                "\"list\":[[\"1670608800000\",\"17071\",\"17073\",\"17027\",\"17055.5\",\"268611\",\"15.74\"]," +
+                "[\"1670607900000\",\"17000\",\"17080\",\"16990\",\"17071\",\"1000\",\"1.5\"]]},\"time\":1672025956592}";
+        final var klines = KlineBackfill.parseKlines(body.getBytes(UTF_8));
+        assertEquals(2, klines.size());
+        assertArrayEquals(new String[]{"1670608800000", "17071", "17073", "17027", "17055.5", "268611", "15.74"},
+                klines.get(0));
+        assertEquals("1670607900000", klines.get(1)[0]);
+    }
+
+    @Test
+    @DisplayName("failed kline response throws IllegalStateException")
+    void shouldFailedResponseThrow() {
+        assertThrows(IllegalStateException.class, () ->
+                KlineBackfill.parseKlines("{\"retCode\":10001,\"retMsg\":\"params error\"}".getBytes(UTF_8)));
+    }
+
+    @Test
+    @DisplayName("consecutive klines pass through without backfill")
+    void shouldPassConsecutiveKlinesThrough() {
+        final var reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        final var backfill = KlineBackfill.create(reactor, null);
+        final var sink = new ArrayList<Payload<Map<String, Object>>>();
+        final var first = kline(1_000 * INTERVAL_MS, false);
+        final var confirmed = kline(1_000 * INTERVAL_MS, true);
+        final var next = kline(1_001 * INTERVAL_MS, false);
+        backfill.onKline(first, TOPIC, sink::add);
+        backfill.onKline(confirmed, TOPIC, sink::add);
+        backfill.onKline(next, TOPIC, sink::add);
+        assertEquals(3, sink.size());
+        assertSame(next, sink.get(2));
+        assertEquals(0, backfill.getBackfilledCandles());
+    }
+
+    @Test
+    @DisplayName("gap longer than one page is fetched page by page")
+    void shouldFetchLongGapInPages() {
+        final var reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        final var urls = new ArrayList<String>();
+        final var backfill = KlineBackfill.create(reactor, request -> {
+            urls.add(request.getUrl().toString());
+            return Promise.of(HttpResponse.ok200()
+                    .withBody("{\"retCode\":0,\"result\":{\"list\":[]}}".getBytes(UTF_8))
+                    .build());
+        });
+        final var sink = new ArrayList<Payload<Map<String, Object>>>();
+        backfill.onKline(kline(1_000 * INTERVAL_MS, true), TOPIC, sink::add);
+        backfill.onKline(kline(2_501 * INTERVAL_MS, false), TOPIC, sink::add);
+        reactor.run();
+
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).contains("&start=" + 1_001 * INTERVAL_MS + "&end=" + 2_000 * INTERVAL_MS +
+                "&limit=1000"));
+        assertTrue(urls.get(1).contains("&start=" + 2_001 * INTERVAL_MS + "&end=" + 2_500 * INTERVAL_MS +
+                "&limit=500"));
+        assertEquals(2, sink.size());
+        assertEquals(0, backfill.getFailedBackfills());
+    }
+}
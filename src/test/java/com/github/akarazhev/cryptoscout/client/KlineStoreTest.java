@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("KlineStore Tests")
+final class KlineStoreTest {
+    private static final long HOUR_MS = 3_600_000L;
+    @TempDir
+    private Path dir;
+    private ExecutorService executor;
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("only confirmed, newer klines are appended")
+    void shouldAppendConfirmedNewerKlines() {
+        final var store = KlineStore.create(reactor, executor, dir);
+        store.onPayload(kline(HOUR_MS, "1", false));
+        store.onPayload(kline(HOUR_MS, "2", true));
+        store.onPayload(kline(HOUR_MS, "3", true));
+        store.onPayload(kline(0, "4", true));
+        // The series is opened on the executor, not on the reactor thread
+        assertNull(store.query("spot", "BTCUSDT", "60", Long.MIN_VALUE, Long.MAX_VALUE, 10));
+        reactor.run();
+
+        assertEquals("[[3600000,2.0,3.0,1.0,2.5,10.0,20.0]]", query(store, Long.MIN_VALUE, Long.MAX_VALUE, 10));
+        assertEquals(1, store.getAppendedRows());
+        assertNull(store.query("spot", "ETHUSDT", "60", Long.MIN_VALUE, Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    @DisplayName("range queries return the newest rows within the limit")
+    void shouldQueryRangeWithLimit() {
+        final var store = KlineStore.create(reactor, executor, dir);
+        for (var i = 0; i < 2_000; i++) {
+            store.onPayload(kline(i * HOUR_MS, "1", true));
+        }
+
+        reactor.run();
+        assertEquals(2_000, rows(query(store, Long.MIN_VALUE, Long.MAX_VALUE, 5_000)));
+        assertEquals(11, rows(query(store, 100 * HOUR_MS, 110 * HOUR_MS, 1_000)));
+        assertEquals(11, rows(query(store, 100 * HOUR_MS - 1, 110 * HOUR_MS + 1, 1_000)));
+        final var newest = query(store, Long.MIN_VALUE, Long.MAX_VALUE, 2);
+        assertEquals("[[" + 1_998 * HOUR_MS + ",", newest.substring(0, newest.indexOf(',') + 1));
+        assertEquals(2, rows(newest));
+        assertEquals("[]", query(store, 3_000 * HOUR_MS, Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    @DisplayName("klines survive a restart")
+    void shouldKlinesSurviveRestart() {
+        final var store = KlineStore.create(reactor, executor, dir);
+        store.onPayload(kline(HOUR_MS, "1", true));
+        store.onPayload(kline(2 * HOUR_MS, "1", true));
+        reactor.post(() -> store.stop().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+
+        final var restarted = KlineStore.create(reactor, executor, dir);
+        reactor.post(() -> restarted.start().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+        assertEquals(1, restarted.getSeries());
+        assertEquals(2, rows(query(restarted, Long.MIN_VALUE, Long.MAX_VALUE, 10)));
+        restarted.onPayload(kline(2 * HOUR_MS, "1", true));
+        assertEquals(0, restarted.getAppendedRows());
+    }
+
+    private static String query(final KlineStore store, final long from, final long to, final int limit) {
+        return new String(store.query("spot", "BTCUSDT", "60", from, to, limit), UTF_8);
+    }
+
+    private static int rows(final String json) {
+        return json.split("],\\[").length;
+    }
+
+    private static Payload<Map<String, Object>> kline(final long start, final String open, final boolean confirm) {
+        final var candle = new LinkedHashMap<String, Object>();
+        candle.put("start", start);
+        candle.put("open", open);
+        candle.put("high", "3");
+        candle.put("low", "1");
+        candle.put("close", "2.5");
+        candle.put("volume", "10");
+        candle.put("turnover", "20");
+        candle.put("confirm", confirm);
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", "kline.60.BTCUSDT");
+        data.put("type", "snapshot");
+        data.put("data", List.of(candle));
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PMST);
+        payload.setData(data);
+        return payload;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import com.github.akarazhev.jcryptolib.util.JsonUtils;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("LastValueCache Tests")
+final class LastValueCacheTest {
+    private LastValueCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = LastValueCache.create(Eventloop.builder()
+                .withCurrentThread()
+                .build());
+    }
+
+    @Test
+    @DisplayName("latest payload is encoded once per update")
+    void shouldEncodeLatestPayloadOncePerUpdate() {
+        cache.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "snapshot", Map.of("lastPrice", "1")));
+        cache.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "snapshot", Map.of("lastPrice", "2")));
+
+        final var first = cache.get("spot", "BTCUSDT", "tickers");
+        assertNotNull(first);
+        assertSame(first, cache.get("spot", "BTCUSDT", "tickers"));
+        assertEquals(1, cache.getEncodes());
+        assertEquals("2", data(first).get("lastPrice"));
+        assertNull(cache.get("linear", "BTCUSDT", "tickers"));
+    }
+
+    @Test
+    @DisplayName("order book keeps the best bid and ask across deltas")
+    void shouldKeepTopOfBookAcrossDeltas() {
+        cache.onPayload(bybit(Source.PML, "orderbook.50.BTCUSDT", "snapshot", Map.of("s", "BTCUSDT",
+                "b", List.of(List.of("100.0", "1"), List.of("99.5", "2")),
+                "a", List.of(List.of("100.5", "1"), List.of("101.0", "3")), "u", 1L)));
+        cache.onPayload(bybit(Source.PML, "orderbook.50.BTCUSDT", "delta", Map.of("s", "BTCUSDT",
+                "b", List.of(List.of("100.0", "0")), "a", List.of(List.of("100.2", "4")), "u", 2L)));
+
+        final var book = data(cache.get("linear", "BTCUSDT", "orderbook.50"));
+        assertEquals(List.of(List.of("99.5", "2")), book.get("b"));
+        assertEquals(List.of(List.of("100.2", "4")), book.get("a"));
+        assertEquals(2L, book.get("u"));
+    }
+
+    @Test
+    @DisplayName("order book is unavailable after a gap until the next snapshot")
+    void shouldHideOrderBookAfterGap() {
+        cache.onPayload(bybit(Source.PML, "orderbook.50.BTCUSDT", "snapshot", Map.of("s", "BTCUSDT",
+                "b", List.of(List.of("100.0", "1")), "a", List.of(List.of("100.5", "1")), "u", 1L)));
+        cache.onPayload(bybit(Source.PML, "orderbook.50.BTCUSDT", "gap", Map.of("expected", 2L, "received", 5L)));
+        assertNull(cache.get("linear", "BTCUSDT", "orderbook.50"));
+    }
+
+    @Test
+    @DisplayName("CMC sources are addressed under the cmc market")
+    void shouldAddressCmcSources() {
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.CMC);
+        payload.setSource(Source.FGI_API_PRO_L);
+        payload.setData(Map.of("value", 42L));
+        cache.onPayload(payload);
+        assertNotNull(cache.get("cmc", "FGI", "latest"));
+    }
+
+    private static Payload<Map<String, Object>> bybit(final Source source, final String topic, final String type,
+                                                      final Map<String, Object> body) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("type", type);
+        data.put("ts", 1L);
+        data.put("data", body);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> data(final byte[] encoded) {
+        final var payload = (Map<String, Object>) JsonUtils.bytes2Object(encoded, Map.class);
+        return (Map<String, Object>) ((Map<String, Object>) payload.get("data")).get("data");
+    }
+}
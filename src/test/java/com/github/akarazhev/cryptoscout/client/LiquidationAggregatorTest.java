@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LiquidationAggregator Tests")
+final class LiquidationAggregatorTest {
+    private LiquidationAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = LiquidationAggregator.create(Eventloop.builder()
+                .withCurrentThread()
+                .build(), null, 1000, 100_000, 3);
+    }
+
+    @Test
+    @DisplayName("windows slide and keep notional by side, counts and the largest liquidation")
+    @SuppressWarnings("unchecked")
+    void shouldSummarizeSlidingWindows() {
+        assertNull(aggregator.onLiquidations("BTCUSDT", List.of(liquidation("Buy", "100", "10")), 0));
+        assertNull(aggregator.onLiquidations("BTCUSDT", List.of(liquidation("Sell", "100", "5")), 5_000));
+
+        final var events = aggregator.snapshot(5_500);
+        assertEquals(1, events.size());
+        assertEquals("liquidations.BTCUSDT", events.getFirst().getData().get("topic"));
+        final var summary = (Map<String, Object>) events.getFirst().getData().get("data");
+        final var oneSecond = (Map<String, Object>) summary.get("1s");
+        final var tenSeconds = (Map<String, Object>) summary.get("10s");
+        assertEquals(500.0, oneSecond.get("sellNotional"));
+        assertEquals(0.0, oneSecond.get("buyNotional"));
+        assertEquals(2, tenSeconds.get("count"));
+        assertEquals(1_000.0, tenSeconds.get("largest"));
+        assertEquals(false, summary.get("burst"));
+
+        assertEquals(0, ((Map<String, Object>) ((Map<String, Object>) aggregator.snapshot(14_000).getFirst()
+                .getData().get("data")).get("10s")).get("count"));
+        assertTrue(aggregator.snapshot(70_000).isEmpty());
+    }
+
+    @Test
+    @DisplayName("crossing a threshold publishes the burst immediately, once")
+    @SuppressWarnings("unchecked")
+    void shouldFlagBurst() {
+        final var burst = aggregator.onLiquidations("ETHUSDT", List.of(liquidation("Buy", "2000", "60")), 0);
+        assertNotNull(burst);
+        assertEquals(true, ((Map<String, Object>) burst.getData().get("data")).get("burst"));
+        assertNull(aggregator.onLiquidations("ETHUSDT", List.of(liquidation("Buy", "2000", "1")), 100));
+        assertEquals(1, aggregator.getBursts());
+    }
+
+    private static Map<String, Object> liquidation(final String side, final String price, final String size) {
+        return Map.of("T", 1L, "s", "BTCUSDT", "S", side, "p", price, "v", size);
+    }
+}
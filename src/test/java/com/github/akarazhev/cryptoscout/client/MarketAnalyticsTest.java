@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MarketAnalytics Tests")
+final class MarketAnalyticsTest {
+
+    @Test
+    @DisplayName("trades and tickers produce one analytics event per stream and symbol")
+    @SuppressWarnings("unchecked")
+    void shouldBuildAnalyticsEvents() {
+        final var analytics = MarketAnalytics.create(Eventloop.builder()
+                .withCurrentThread()
+                .build(), null, 60, 1000);
+        analytics.onTrades(payload(Source.PMST, "publicTrade.BTCUSDT", List.of(
+                Map.of("p", "100", "v", "1", "S", "Buy"),
+                Map.of("p", "110", "v", "3", "S", "Sell"))), "BTCUSDT", 0);
+        analytics.onTicker(payload(Source.PML, "tickers.BTCUSDT", Map.of("lastPrice", "101")), "BTCUSDT", 0);
+        analytics.onTicker(payload(Source.PML, "tickers.ETHUSDT", Map.of("markPrice", "1")), "ETHUSDT", 0);
+
+        final var events = analytics.snapshot(1_000);
+        assertEquals(2, events.size());
+        final var spot = events.getFirst();
+        assertEquals(Source.PMST, spot.getSource());
+        assertEquals("analytics.BTCUSDT", spot.getData().get("topic"));
+        final var stats = (Map<String, Object>) spot.getData().get("data");
+        assertEquals(107.5, (double) stats.get("vwap"), 1e-9);
+        assertEquals(-0.5, (double) stats.get("imbalance"), 1e-9);
+        assertEquals(2L, stats.get("trades"));
+
+        final var linear = (Map<String, Object>) events.get(1).getData().get("data");
+        assertNull(linear.get("vwap"));
+        assertTrue((double) linear.get("lastPrice") > 0);
+    }
+
+    private static Payload<Map<String, Object>> payload(final Source source, final String topic, final Object body) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("data", body);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("OrderBookSequenceTracker Tests")
+final class OrderBookSequenceTrackerTest {
+    private static final String TOPIC = "orderbook.50.BTCUSDT";
+
+    @Test
+    @DisplayName("consecutive deltas after a snapshot are accepted")
+    void shouldAcceptConsecutiveDeltas() {
+        final var tracker = OrderBookSequenceTracker.create();
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate(TOPIC, "snapshot", 10));
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate(TOPIC, "delta", 11));
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate(TOPIC, "delta", 12));
+        assertTrue(tracker.isValid(TOPIC));
+    }
+
+    @Test
+    @DisplayName("repeated update id is reported as duplicate")
+    void shouldReportDuplicate() {
+        final var tracker = OrderBookSequenceTracker.create();
+        tracker.onUpdate(TOPIC, "snapshot", 10);
+        tracker.onUpdate(TOPIC, "delta", 11);
+        assertEquals(OrderBookSequenceTracker.Result.DUPLICATE, tracker.onUpdate(TOPIC, "delta", 11));
+        assertEquals(1, tracker.getDuplicates());
+        assertTrue(tracker.isValid(TOPIC));
+    }
+
+    @Test
+    @DisplayName("gap invalidates the book until the next snapshot")
+    void shouldGapInvalidateBookUntilSnapshot() {
+        final var tracker = OrderBookSequenceTracker.create();
+        tracker.onUpdate(TOPIC, "snapshot", 10);
+        assertEquals(OrderBookSequenceTracker.Result.GAP, tracker.onUpdate(TOPIC, "delta", 13));
+        assertEquals(11, tracker.getLastExpectedUpdateId());
+        assertFalse(tracker.isValid(TOPIC));
+        assertEquals(OrderBookSequenceTracker.Result.INVALID, tracker.onUpdate(TOPIC, "delta", 14));
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate(TOPIC, "snapshot", 1));
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate(TOPIC, "delta", 2));
+        assertEquals(1, tracker.getGaps());
+        assertEquals(1, tracker.getDropped());
+    }
+
+    @Test
+    @DisplayName("delta before any snapshot is dropped")
+    void shouldDropDeltaBeforeSnapshot() {
+        final var tracker = OrderBookSequenceTracker.create();
+        assertEquals(OrderBookSequenceTracker.Result.INVALID, tracker.onUpdate(TOPIC, "delta", 5));
+        assertFalse(tracker.isValid(TOPIC));
+    }
+
+    @Test
+    @DisplayName("books are tracked independently")
+    void shouldTrackBooksIndependently() {
+        final var tracker = OrderBookSequenceTracker.create();
+        tracker.onUpdate(TOPIC, "snapshot", 10);
+        tracker.onUpdate("orderbook.200.BTCUSDT", "snapshot", 100);
+        assertEquals(OrderBookSequenceTracker.Result.GAP, tracker.onUpdate(TOPIC, "delta", 20));
+        assertEquals(OrderBookSequenceTracker.Result.ACCEPTED, tracker.onUpdate("orderbook.200.BTCUSDT", "delta", 101));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.akarazhev.cryptoscout.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("OrderBooks Tests")
+final class OrderBooksTest {
+    private static final String KEY = PayloadKeys.of("linear", "BTCUSDT", "orderbook.50");
+
+    @Test
+    @DisplayName("best levels follow inserts and removals")
+    void shouldKeepBestLevelsSorted() {
+        final var books = OrderBooks.create();
+        books.apply(KEY, update("snapshot", List.of(List.of("99.5", "2"), List.of("100.0", "1")),
+                List.of(List.of("101.0", "3"), List.of("100.5", "1"))));
+        final var book = books.apply(KEY, update("delta", List.of(List.of("100.0", "0"), List.of("99.8", "5")),
+                List.of(List.of("100.2", "4"))));
+
+        assertTrue(book.isValid());
+        assertEquals(List.of("99.8", "5"), book.getBestBid());
+        assertEquals(List.of("100.2", "4"), book.getBestAsk());
+        assertEquals(99.8, book.getBestBidPrice());
+        assertEquals(100.2, book.getBestAskPrice());
+    }
+
+    @Test
+    @DisplayName("a side grows past its initial capacity")
+    void shouldGrowPastInitialLevels() {
+        final var bids = new ArrayList<List<String>>();
+        final var asks = new ArrayList<List<String>>();
+        for (var i = 0; i < 200; i++) {
+            bids.add(List.of(String.valueOf(1_000 - i), "1"));
+            asks.add(List.of(String.valueOf(1_001 + i), "1"));
+        }
+
+        final var books = OrderBooks.create();
+        books.apply(KEY, update("snapshot", bids, asks));
+        final var book = books.apply(KEY, update("delta", List.of(List.of("1000", "0")),
+                List.of(List.of("1001", "0"))));
+        assertEquals(999.0, book.getBestBidPrice());
+        assertEquals(1_002.0, book.getBestAskPrice());
+    }
+
+    @Test
+    @DisplayName("listeners share one book and an update is applied once")
+    void shouldApplySharedUpdateOnce() {
+        final var books = OrderBooks.create();
+        books.apply(KEY, update("snapshot", List.of(List.of("100.0", "1")), List.of(List.of("100.5", "1"))));
+        final var gap = new LinkedHashMap<String, Object>();
+        gap.put("type", "gap");
+        final var book = books.apply(KEY, gap);
+        assertSame(book, books.apply(KEY, gap));
+        assertFalse(book.isValid());
+
+        final var delta = update("delta", List.of(List.of("99.2", "1")), List.of());
+        books.apply(KEY, update("snapshot", List.of(List.of("99.0", "1")), List.of(List.of("99.5", "1"))));
+        books.apply(KEY, delta);
+        books.apply(KEY, delta);
+        assertTrue(book.isValid());
+        assertEquals(99.2, book.getBestBidPrice());
+        assertEquals(99.5, book.getBestAskPrice());
+    }
+
+    private static Map<String, Object> update(final String type, final List<?> bids, final List<?> asks) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("type", type);
+        data.put("data", Map.of("b", bids, "a", asks));
+        return data;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import io.activej.promise.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Pipeline Tests")
+final class PipelineTest {
+    private final List<Payload<Map<String, Object>>> emitted = new ArrayList<>();
+    private final List<Pipeline.Target> targets = new ArrayList<>();
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @Test
+    @DisplayName("payloads no rule selects pass unchanged to their sink")
+    void shouldPassUnmatchedPayloads() {
+        final var pipeline = pipeline("bybit/PML/orderbook.200 -> route(local)");
+        final var payload = payload(Source.PMST, "orderbook.200.BTCUSDT", "snapshot", 1L);
+
+        pipeline.process(payload);
+
+        assertSame(payload, emitted.getFirst());
+        assertEquals(Pipeline.Target.SINK, targets.getFirst());
+    }
+
+    @Test
+    @DisplayName("filter and map stages run in order and route picks the target")
+    void shouldFilterMapAndRoute() {
+        final var pipeline = pipeline("bybit/*/orderbook.1 -> filter(type=snapshot) | map(drop=cts) | route(local)");
+
+        pipeline.process(payload(Source.PML, "orderbook.1.BTCUSDT", "delta", 1L));
+        pipeline.process(payload(Source.PML, "orderbook.1.BTCUSDT", "snapshot", 2L));
+
+        assertEquals(1, emitted.size());
+        assertEquals(1, pipeline.getFiltered());
+        assertEquals(2L, emitted.getFirst().getData().get("ts"));
+        assertFalse(emitted.getFirst().getData().containsKey("cts"));
+        assertEquals(Pipeline.Target.LOCAL, targets.getFirst());
+    }
+
+    @Test
+    @DisplayName("conflate passes on only the latest payload per topic once per interval")
+    void shouldConflatePerTopic() {
+        final var pipeline = pipeline("bybit/PMST/tickers -> conflate(10)");
+        final var first = pipeline.process(payload(Source.PMST, "tickers.BTCUSDT", "snapshot", 1L));
+        pipeline.process(payload(Source.PMST, "tickers.BTCUSDT", "snapshot", 2L));
+        pipeline.process(payload(Source.PMST, "tickers.ETHUSDT", "snapshot", 3L));
+        assertEquals(0, emitted.size());
+        assertFalse(first.isComplete());
+
+        reactor.delay(100, () -> {
+        });
+        reactor.run();
+
+        assertEquals(2, emitted.size());
+        assertEquals(List.of(2L, 3L), emitted.stream().map(p -> p.getData().get("ts")).sorted().toList());
+        assertEquals(3, pipeline.getHeld());
+        assertTrue(first.isResult());
+    }
+
+    @Test
+    @DisplayName("a delta passes conflate at once, after the held snapshot")
+    void shouldPassDeltasThroughConflate() {
+        final var pipeline = pipeline("bybit/*/tickers -> conflate(10000)");
+        pipeline.process(payload(Source.PML, "tickers.BTCUSDT", "snapshot", 1L));
+        pipeline.process(payload(Source.PML, "tickers.BTCUSDT", "delta", 2L));
+        pipeline.process(payload(Source.PML, "tickers.BTCUSDT", "delta", 3L));
+
+        assertEquals(List.of(1L, 2L, 3L), emitted.stream().map(p -> p.getData().get("ts")).toList());
+    }
+
+    @Test
+    @DisplayName("conflate rules that can never hold a payload are rejected")
+    void shouldRejectConflateThatNeverHolds() {
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/orderbook.200 -> conflate(250)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PMST/* -> conflate(250)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("*/*/order -> conflate(250)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/tickers -> conflate(250)"));
+        assertDoesNotThrow(() -> pipeline("cmc/*/* -> conflate(250)"));
+    }
+
+    @Test
+    @DisplayName("held payloads fail with the publish they are passed on in")
+    void shouldFailHeldPayloadsWithTheirPublish() {
+        final var pipeline = Pipeline.create(reactor, List.of("bybit/PMST/tickers -> conflate(10)"),
+                (_, _) -> Promise.ofException(new IllegalStateException("down")));
+        final var held = pipeline.process(payload(Source.PMST, "tickers.BTCUSDT", "snapshot", 1L));
+
+        reactor.delay(100, () -> {
+        });
+        reactor.run();
+
+        assertTrue(held.isException());
+    }
+
+    @Test
+    @DisplayName("aggregate passes on one batch payload per n payloads")
+    void shouldAggregateIntoBatches() {
+        final var pipeline = pipeline("bybit/PMST/publicTrade -> aggregate(2)");
+        pipeline.process(payload(Source.PMST, "publicTrade.BTCUSDT", "snapshot", 1L));
+        assertEquals(0, emitted.size());
+
+        pipeline.process(payload(Source.PMST, "publicTrade.BTCUSDT", "snapshot", 2L));
+
+        assertEquals(1, emitted.size());
+        final var batch = emitted.getFirst();
+        assertEquals(Provider.BYBIT, batch.getProvider());
+        assertEquals("batch.publicTrade.BTCUSDT", batch.getData().get("topic"));
+        assertEquals(2L, batch.getData().get("ts"));
+        assertEquals(2, ((List<?>) batch.getData().get("data")).size());
+    }
+
+    @Test
+    @DisplayName("aggregate passes on a partial batch once its first payload is max age old")
+    void shouldFlushPartialBatchAfterMaxAge() {
+        final var pipeline = pipeline("bybit/PMST/publicTrade -> aggregate(100,10)");
+        final var held = pipeline.process(payload(Source.PMST, "publicTrade.BTCUSDT", "snapshot", 1L));
+        assertEquals(0, emitted.size());
+
+        reactor.delay(100, () -> {
+        });
+        reactor.run();
+
+        assertEquals(1, emitted.size());
+        assertEquals(1, ((List<?>) emitted.getFirst().getData().get("data")).size());
+        assertTrue(held.isResult());
+    }
+
+    @Test
+    @DisplayName("stop passes on held payloads and cancels their timers")
+    void shouldPassOnHeldPayloadsOnStop() {
+        final var pipeline = pipeline("bybit/PMST/tickers -> conflate(60000)");
+        final var held = pipeline.process(payload(Source.PMST, "tickers.BTCUSDT", "snapshot", 1L));
+
+        pipeline.stop();
+        reactor.run();
+
+        assertEquals(1, emitted.size());
+        assertTrue(held.isResult());
+    }
+
+    @Test
+    @DisplayName("invalid rules are rejected")
+    void shouldRejectInvalidRules() {
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML -> conflate(10)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/* -> route(local) | conflate(10)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/* -> sample(10)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/NOPE/* -> conflate(10)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/* -> aggregate(0)"));
+        assertThrows(IllegalStateException.class, () -> pipeline("bybit/PML/* -> aggregate(2,0)"));
+    }
+
+    private Pipeline pipeline(final String rule) {
+        return Pipeline.create(reactor, List.of(rule), (payload, target) -> {
+            emitted.add(payload);
+            targets.add(target);
+            return Promise.complete();
+        });
+    }
+
+    private static Payload<Map<String, Object>> payload(final Source source, final String topic, final String type,
+                                                        final long ts) {
+        final var data = new HashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("type", type);
+        data.put("ts", ts);
+        data.put("cts", ts);
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+}
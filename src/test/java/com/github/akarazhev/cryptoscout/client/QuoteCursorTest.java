@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("QuoteCursor Tests")
+final class QuoteCursorTest {
+    @TempDir
+    private Path stateDir;
+    private ExecutorService executor;
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("cursor only moves forward per source")
+    void shouldCursorOnlyMoveForwardPerSource() {
+        final var cursor = QuoteCursor.create(reactor, executor, stateDir);
+        assertEquals(Long.MIN_VALUE, cursor.get(Source.BTC_USD_1D));
+        cursor.advance(Source.BTC_USD_1D, 2_000L);
+        cursor.advance(Source.BTC_USD_1D, 1_000L);
+        cursor.advance(Source.BTC_USD_1W, 500L);
+        assertEquals(2_000L, cursor.get(Source.BTC_USD_1D));
+        assertEquals(500L, cursor.get(Source.BTC_USD_1W));
+        reactor.run();
+    }
+
+    @Test
+    @DisplayName("cursors survive a restart")
+    void shouldCursorsSurviveRestart() {
+        final var cursor = QuoteCursor.create(reactor, executor, stateDir);
+        cursor.advance(Source.BTC_USD_1D, 2_000L);
+        reactor.post(() -> cursor.stop().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+        assertTrue(Files.exists(stateDir.resolve("cmc-quote-cursors.properties")));
+
+        final var restarted = QuoteCursor.create(reactor, executor, stateDir);
+        reactor.post(() -> restarted.start().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+        assertEquals(2_000L, restarted.get(Source.BTC_USD_1D));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RollingWindow Tests")
+final class RollingWindowTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    @DisplayName("VWAP, imbalance and trade rate cover the trades in the window")
+    void shouldAggregateTradesInWindow() {
+        final var window = new RollingWindow(10);
+        window.onTrade(0, 100, 1, true);
+        window.onTrade(500, 110, 3, false);
+
+        assertEquals(107.5, window.getVwap(), DELTA);
+        assertEquals(1, window.getBuyVolume(), DELTA);
+        assertEquals(3, window.getSellVolume(), DELTA);
+        assertEquals(-0.5, window.getImbalance(), DELTA);
+        assertEquals(0.2, window.getTradeRate(), DELTA);
+    }
+
+    @Test
+    @DisplayName("seconds that leave the window are evicted")
+    void shouldEvictOldSeconds() {
+        final var window = new RollingWindow(10);
+        window.onTrade(0, 100, 1, true);
+        window.onTrade(5_000, 200, 1, true);
+        window.advance(10_000);
+
+        assertEquals(200, window.getVwap(), DELTA);
+        assertEquals(1, window.getTrades());
+        window.advance(60_000);
+        assertEquals(0, window.getTrades());
+        assertTrue(Double.isNaN(window.getVwap()));
+        assertEquals(200, window.getLastPrice(), DELTA);
+    }
+
+    @Test
+    @DisplayName("realized volatility sums squared log returns between second closes")
+    void shouldComputeRealizedVolatility() {
+        final var window = new RollingWindow(10);
+        window.onPrice(0, 100);
+        window.onPrice(1_000, 101);
+        window.onPrice(1_500, 102);
+        window.onPrice(2_000, 100);
+
+        final var first = Math.log(102.0 / 100.0);
+        final var second = Math.log(100.0 / 102.0);
+        assertEquals(Math.sqrt(first * first + second * second), window.getVolatility(), DELTA);
+    }
+
+    @Test
+    @DisplayName("totals are recomputed from the slots on each full rotation")
+    void shouldRecomputeTotalsOnRotation() {
+        final var window = new RollingWindow(3);
+        window.onTrade(0, 1, 1e17, false);
+        window.onTrade(1_000, 1, 0.1, false);
+        window.onTrade(2_000, 1, 0.1, false);
+
+        // Subtracting the large second from the running sum alone would lose both small ones
+        window.advance(3_000);
+        assertEquals(0.2, window.getSellVolume(), DELTA);
+        assertEquals(2, window.getTrades());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import io.activej.promise.Promise;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SegmentLogSink Tests")
+final class SegmentLogSinkTest {
+    private static final int SEGMENT_BYTES = 512;
+    @TempDir
+    private Path dir;
+    private ExecutorService executor;
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("payloads are appended as length-prefixed JSON records")
+    void shouldAppendRecords() throws Exception {
+        final var sink = SegmentLogSink.create(reactor, executor, dir, SEGMENT_BYTES, 0);
+        assertFalse(sink.isReady());
+        assertTrue(sink.publish(payload(0)).isException());
+
+        await(sink::start);
+        assertTrue(sink.isReady());
+        assertTrue(sink.publish(payload(1)).isResult());
+        await(sink::stop);
+
+        final var segment = ByteBuffer.wrap(Files.readAllBytes(dir.resolve("00000000000000000000.log")));
+        assertEquals(SEGMENT_BYTES, segment.capacity());
+        final var record = new byte[segment.getInt()];
+        segment.get(record);
+        assertTrue(new String(record, UTF_8).contains("\"topic\":\"tickers.BTCUSDT\""));
+        assertEquals(0, segment.getInt());
+        assertEquals(1, sink.getRejected());
+    }
+
+    @Test
+    @DisplayName("segments roll by offset, expire beyond the retention and are resumed after a restart")
+    void shouldRollAndResume() {
+        final var sink = SegmentLogSink.create(reactor, executor, dir, SEGMENT_BYTES, 3);
+        await(sink::start);
+        for (var i = 0; i < 40; i++) {
+            assertTrue(sink.publish(payload(i)).isResult());
+        }
+
+        assertEquals(40, sink.getOffset());
+        assertEquals(3, sink.getSegmentCount());
+        await(sink::stop);
+
+        final var resumed = SegmentLogSink.create(reactor, executor, dir, SEGMENT_BYTES, 3);
+        await(resumed::start);
+        assertEquals(40, resumed.getOffset());
+        resumed.publish(payload(40));
+        assertEquals(41, resumed.getOffset());
+        await(resumed::stop);
+    }
+
+    private void await(final Supplier<Promise<Void>> action) {
+        reactor.post(() -> action.get().whenComplete(() -> reactor.breakEventloop()));
+        reactor.run();
+    }
+
+    private static Payload<Map<String, Object>> payload(final long ts) {
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(Source.PMST);
+        payload.setData(Map.of("topic", "tickers.BTCUSDT", "ts", ts));
+        return payload;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.promise.Promise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SinkRouter Tests")
+final class SinkRouterTest {
+
+    private static final class RecordingSink implements Sink {
+        private final List<Payload<Map<String, Object>>> payloads = new ArrayList<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private boolean ready = true;
+
+        @Override
+        public Promise<Void> publish(final Payload<Map<String, Object>> payload) {
+            payloads.add(payload);
+            return Promise.complete();
+        }
+
+        @Override
+        public Promise<Void> publish(final Payload<Map<String, Object>> payload, final byte[] bytes) {
+            encoded.add(bytes);
+            return publish(payload);
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+    }
+
+    @Test
+    @DisplayName("payloads are fanned out and routed to the sink of their stream")
+    void shouldRouteByStream() {
+        final var fanout = PayloadFanout.create();
+        final var fannedOut = new ArrayList<Payload<Map<String, Object>>>();
+        fanout.subscribe(fannedOut::add);
+        final var bybit = new RecordingSink();
+        final var cmc = new RecordingSink();
+        final var router = SinkRouter.create(fanout, bybit, cmc);
+
+        router.publish(payload(Provider.BYBIT, Source.PMST));
+        router.publish(payload(Provider.BYBIT, Source.PML));
+        router.publish(payload(Provider.CMC, Source.FGI_API_PRO_L));
+        router.publish(payload(null, null));
+
+        assertEquals(2, bybit.payloads.size());
+        assertEquals(1, cmc.payloads.size());
+        assertEquals(4, fannedOut.size());
+        assertTrue(router.isReady());
+        cmc.ready = false;
+        assertFalse(router.isReady());
+    }
+
+    @Test
+    @DisplayName("listeners and the sink share one encoding of the payload")
+    void shouldEncodeOnce() {
+        final var fanout = PayloadFanout.create();
+        final var listened = new ArrayList<byte[]>();
+        fanout.subscribe(new PayloadListener() {
+            @Override
+            public void onPayload(final Payload<Map<String, Object>> payload) {
+                throw new IllegalStateException("Expected the encoded payload");
+            }
+
+            @Override
+            public void onPayload(final Payload<Map<String, Object>> payload, final byte[] encoded) {
+                listened.add(encoded);
+            }
+        });
+        final var bybit = new RecordingSink();
+        SinkRouter.create(fanout, bybit, new RecordingSink()).publish(payload(Provider.BYBIT, Source.PMST));
+
+        assertEquals(1, bybit.encoded.size());
+        assertEquals(1, listened.size());
+        assertSame(bybit.encoded.getFirst(), listened.getFirst());
+    }
+
+    @Test
+    @DisplayName("both routes need a sink")
+    void shouldRejectMissingSink() {
+        assertThrows(IllegalStateException.class, () -> SinkRouter.create(null, new RecordingSink(), null));
+    }
+
+    private static Payload<Map<String, Object>> payload(final Provider provider, final Source source) {
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(provider);
+        payload.setSource(source);
+        payload.setData(new HashMap<>());
+        return payload;
+    }
+}
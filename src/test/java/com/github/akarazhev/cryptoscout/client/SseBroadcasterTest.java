@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SseBroadcaster Tests")
+final class SseBroadcasterTest {
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = SseBroadcaster.create(Eventloop.builder()
+                .withCurrentThread()
+                .build(), 1, 2);
+    }
+
+    @Test
+    @DisplayName("a waiting client receives the next matching event")
+    void shouldDeliverToWaitingClient() {
+        final var events = broadcaster.subscribe(PayloadFilter.of("spot", null, "tickers"));
+        final var next = events.get();
+        assertFalse(next.isComplete());
+
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "1"));
+        assertFalse(next.isComplete());
+        broadcaster.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "1"));
+        final var event = next.getResult().asString(UTF_8);
+        assertTrue(event.startsWith("event: spot|BTCUSDT|tickers\ndata: {"));
+        assertTrue(event.endsWith("}\n\n"));
+    }
+
+    @Test
+    @DisplayName("queued events for the same key are conflated to the latest")
+    void shouldConflateQueuedEvents() {
+        final var events = broadcaster.subscribe(PayloadFilter.of(null, null, null));
+        broadcaster.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "1"));
+        broadcaster.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "2"));
+
+        assertEquals(1, broadcaster.getConflatedEvents());
+        assertTrue(events.get().getResult().asString(UTF_8).contains("\"lastPrice\":\"2\""));
+        assertFalse(events.get().isComplete());
+    }
+
+    @Test
+    @DisplayName("deltas are queued in order and a snapshot supersedes them")
+    void shouldQueueDeltasUntilSnapshot() {
+        final var events = broadcaster.subscribe(PayloadFilter.of(null, null, null));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "delta", "1"));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "delta", "2"));
+        assertEquals(0, broadcaster.getConflatedEvents());
+        assertEquals(1, broadcaster.getClients());
+
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "snapshot", "3"));
+        assertEquals(2, broadcaster.getConflatedEvents());
+        assertTrue(events.get().getResult().asString(UTF_8).contains("\"lastPrice\":\"3\""));
+        assertFalse(events.get().isComplete());
+    }
+
+    @Test
+    @DisplayName("a client whose buffer overflows with deltas is disconnected")
+    void shouldDisconnectClientOverflowingWithDeltas() {
+        broadcaster.subscribe(PayloadFilter.of(null, null, null));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "delta", "1"));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "delta", "2"));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "delta", "3"));
+
+        assertEquals(0, broadcaster.getClients());
+        assertEquals(1, broadcaster.getSlowDisconnects());
+    }
+
+    @Test
+    @DisplayName("a client whose buffer overflows is disconnected")
+    void shouldDisconnectSlowClient() {
+        broadcaster.subscribe(PayloadFilter.of(null, null, null));
+        broadcaster.onPayload(bybit(Source.PMST, "tickers.BTCUSDT", "1"));
+        broadcaster.onPayload(bybit(Source.PMST, "tickers.ETHUSDT", "1"));
+        broadcaster.onPayload(bybit(Source.PML, "tickers.BTCUSDT", "1"));
+
+        assertEquals(0, broadcaster.getClients());
+        assertEquals(1, broadcaster.getSlowDisconnects());
+    }
+
+    @Test
+    @DisplayName("clients over the limit are rejected")
+    void shouldRejectClientsOverLimit() {
+        broadcaster.subscribe(PayloadFilter.of(null, null, null));
+        assertNull(broadcaster.subscribe(PayloadFilter.of(null, null, null)));
+    }
+
+    private static Payload<Map<String, Object>> bybit(final Source source, final String topic, final String price) {
+        return bybit(source, topic, "snapshot", price);
+    }
+
+    private static Payload<Map<String, Object>> bybit(final Source source, final String topic, final String type,
+                                                      final String price) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("type", type);
+        data.put("ts", 1L);
+        data.put("data", Map.of("lastPrice", price));
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StalenessWatchdog Tests")
+final class StalenessWatchdogTest {
+    private StalenessWatchdog watchdog;
+
+    @BeforeEach
+    void setUp() {
+        final var reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+        watchdog = StalenessWatchdog.create(reactor);
+    }
+
+    @Test
+    @DisplayName("expected interval depends on topic class")
+    void shouldExpectedIntervalDependOnTopicClass() {
+        assertEquals(10000, watchdog.getExpectedMs("orderbook.50.BTCUSDT"));
+        assertEquals(10000, watchdog.getExpectedMs("tickers.BTCUSDT"));
+        assertEquals(60000, watchdog.getExpectedMs("publicTrade.BTCUSDT"));
+        assertEquals(60000, watchdog.getExpectedMs("kline.15.BTCUSDT"));
+        assertEquals(0, watchdog.getExpectedMs("allLiquidation.BTCUSDT"));
+    }
+
+    @Test
+    @DisplayName("stale topic triggers resubscribe once per stale period")
+    void shouldStaleTopicTriggerResubscribe() {
+        final var resubscribes = new AtomicInteger();
+        watchdog.onUpdate(Source.PMST, "orderbook.50.BTCUSDT", resubscribes::incrementAndGet, 1_000);
+        watchdog.check(5_000);
+        assertEquals(0, resubscribes.get());
+        assertTrue(watchdog.isHealthy());
+
+        watchdog.check(11_001);
+        assertEquals(1, resubscribes.get());
+        assertFalse(watchdog.isHealthy());
+        assertEquals(1, watchdog.getStaleTopicCount());
+
+        watchdog.check(12_000);
+        assertEquals(1, resubscribes.get());
+        assertEquals(1, watchdog.getStaleEvents());
+
+        watchdog.check(21_002);
+        assertEquals(2, resubscribes.get());
+    }
+
+    @Test
+    @DisplayName("resubscribe keeps the real last update time")
+    void shouldResubscribeKeepLastUpdateTime() {
+        watchdog.onUpdate(Source.PMST, "orderbook.50.BTCUSDT", () -> {
+        }, 1_000);
+        watchdog.check(11_001);
+        assertEquals(1, watchdog.getStaleEvents());
+        assertEquals(14_000, watchdog.getMaxStalenessMs(15_000));
+    }
+
+    @Test
+    @DisplayName("update clears stale flag")
+    void shouldUpdateClearStaleFlag() {
+        watchdog.onUpdate(Source.PMST, "tickers.BTCUSDT", () -> {
+        }, 0);
+        watchdog.check(20_000);
+        assertFalse(watchdog.isHealthy());
+        watchdog.onUpdate(Source.PMST, "tickers.BTCUSDT", null, 20_001);
+        assertTrue(watchdog.isHealthy());
+    }
+
+    @Test
+    @DisplayName("topic classes with zero interval are never stale")
+    void shouldZeroIntervalNeverBeStale() {
+        final var resubscribes = new AtomicInteger();
+        watchdog.onUpdate(Source.PMST, "allLiquidation.BTCUSDT", resubscribes::incrementAndGet, 0);
+        watchdog.check(Long.MAX_VALUE / 2);
+        assertEquals(0, resubscribes.get());
+        assertTrue(watchdog.isHealthy());
+    }
+
+    @Test
+    @DisplayName("forget drops only the topics bound to the callback")
+    void shouldForgetTopicsOfCallback() {
+        final var resubscribes = new AtomicInteger();
+        final Runnable closed = resubscribes::incrementAndGet;
+        watchdog.onUpdate(Source.PMST, "tickers.SOLUSDT", closed, 1_000);
+        watchdog.onUpdate(Source.PMST, "publicTrade.SOLUSDT", closed, 1_000);
+        watchdog.onUpdate(Source.PMST, "tickers.BTCUSDT", () -> {
+        }, 1_000);
+
+        watchdog.forget(closed);
+        watchdog.check(100_000);
+
+        assertEquals(0, resubscribes.get());
+        assertEquals(1, watchdog.getTopicCount());
+    }
+
+    @Test
+    @DisplayName("same topic of two sources is tracked and resubscribed per source")
+    void shouldTrackSameTopicPerSource() {
+        final var spotResubscribes = new AtomicInteger();
+        final var linearResubscribes = new AtomicInteger();
+        watchdog.onUpdate(Source.PMST, "tickers.BTCUSDT", spotResubscribes::incrementAndGet, 0);
+        watchdog.onUpdate(Source.PML, "tickers.BTCUSDT", linearResubscribes::incrementAndGet, 0);
+        assertEquals(2, watchdog.getTopicCount());
+
+        // Linear keeps updating while spot freezes
+        watchdog.onUpdate(Source.PML, "tickers.BTCUSDT", linearResubscribes::incrementAndGet, 9_000);
+        watchdog.check(11_000);
+
+        assertEquals(1, spotResubscribes.get());
+        assertEquals(0, linearResubscribes.get());
+        assertEquals(1, watchdog.getStaleTopicCount());
+        assertTrue(watchdog.report().contains("PMST tickers.BTCUSDT"));
+    }
+
+    @Test
+    @DisplayName("forget keeps the topic of another source")
+    void shouldForgetKeepTopicOfAnotherSource() {
+        final Runnable spot = () -> {
+        };
+        final var linearResubscribes = new AtomicInteger();
+        final Runnable linear = linearResubscribes::incrementAndGet;
+        watchdog.onUpdate(Source.PMST, "tickers.BTCUSDT", spot, 0);
+        watchdog.onUpdate(Source.PML, "tickers.BTCUSDT", linear, 0);
+
+        watchdog.forget(spot);
+        watchdog.check(11_000);
+
+        assertEquals(1, watchdog.getTopicCount());
+        assertEquals(1, linearResubscribes.get());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StreamArbiter Tests")
+final class StreamArbiterTest {
+
+    private static Map<String, Object> orderBook(final long ts, final long updateId) {
+        return Map.of("topic", "orderbook.50.BTCUSDT", "ts", ts, "data", Map.of("u", updateId, "seq", updateId * 10));
+    }
+
+    private static Map<String, Object> trade(final long ts, final String tradeId) {
+        return Map.of("topic", "publicTrade.BTCUSDT", "ts", ts, "data", List.of(Map.of("i", tradeId)));
+    }
+
+    @Test
+    @DisplayName("first copy of a message wins and the second is dropped")
+    void shouldAcceptFirstCopyAndDropDuplicate() {
+        final var arbiter = StreamArbiter.create(16, 1000);
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(1, 1), 1));
+        assertFalse(arbiter.accept(StreamArbiter.Feed.STANDBY, orderBook(1, 1), 2));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.STANDBY, orderBook(2, 2), 3));
+        assertFalse(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(2, 2), 4));
+        assertEquals(2, arbiter.getDuplicates());
+    }
+
+    @Test
+    @DisplayName("trades are keyed by trade id")
+    void shouldKeyTradesByTradeId() {
+        final var arbiter = StreamArbiter.create(16, 1000);
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, trade(1, "a"), 1));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, trade(1, "b"), 1));
+        assertFalse(arbiter.accept(StreamArbiter.Feed.STANDBY, trade(1, "a"), 2));
+    }
+
+    @Test
+    @DisplayName("standby is promoted when the primary stalls")
+    void shouldPromoteStandbyWhenPrimaryStalls() {
+        final var arbiter = StreamArbiter.create(16, 100);
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(1, 1), 1_000));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.STANDBY, orderBook(2, 2), 1_050));
+        assertEquals(StreamArbiter.Feed.PRIMARY, arbiter.getActive());
+        assertTrue(arbiter.accept(StreamArbiter.Feed.STANDBY, orderBook(3, 3), 1_200));
+        assertEquals(StreamArbiter.Feed.STANDBY, arbiter.getActive());
+        assertEquals(1, arbiter.getPromotions());
+    }
+
+    @Test
+    @DisplayName("messages without a topic are always accepted")
+    void shouldAcceptMessagesWithoutTopic() {
+        final var arbiter = StreamArbiter.create(16, 1000);
+        assertNull(StreamArbiter.key(Map.of("op", "pong")));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, Map.of("op", "pong"), 1));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.STANDBY, Map.of("op", "pong"), 2));
+    }
+
+    @Test
+    @DisplayName("dedup window evicts the oldest keys")
+    void shouldEvictOldestKeys() {
+        final var arbiter = StreamArbiter.create(2, 1000);
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(1, 1), 1));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(2, 2), 1));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.PRIMARY, orderBook(3, 3), 1));
+        assertTrue(arbiter.accept(StreamArbiter.Feed.STANDBY, orderBook(1, 1), 2));
+    }
+
+    @Test
+    @DisplayName("create with non-positive window throws IllegalStateException")
+    void shouldCreateWithNonPositiveWindowThrow() {
+        assertThrows(IllegalStateException.class, () -> StreamArbiter.create(0, 1000));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.bybit.config.StreamType;
+import com.github.akarazhev.jcryptolib.bybit.config.Topic;
+import io.activej.eventloop.Eventloop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SubscriptionManager Tests")
+final class SubscriptionManagerTest {
+    private Eventloop reactor;
+
+    @BeforeEach
+    void setUp() {
+        reactor = Eventloop.builder()
+                .withCurrentThread()
+                .build();
+    }
+
+    @Test
+    @DisplayName("subscribe over the connection limit is rejected")
+    void shouldRejectSubscribeOverConnectionLimit() {
+        final var manager = SubscriptionManager.create(reactor, null, StalenessWatchdog.create(reactor), null, null,
+                0);
+        final var promise = manager.subscribe(StreamType.PMST, List.of(Topic.TICKERS_BTC_USDT));
+        assertInstanceOf(IllegalStateException.class, promise.getException());
+        assertEquals(0, manager.getConnectionCount());
+        assertEquals(0, manager.getChanges());
+    }
+
+    @Test
+    @DisplayName("subscribe of a topic a Bybit module carries is rejected")
+    void shouldRejectSubscribeOfReservedTopic() {
+        final var manager = SubscriptionManager.create(reactor, null, StalenessWatchdog.create(reactor), null, null,
+                1);
+        manager.reserve(StreamType.PMST, List.of(Topic.TICKERS_BTC_USDT));
+        final var promise = manager.subscribe(StreamType.PMST, List.of(Topic.TICKERS_ETH_USDT, Topic.TICKERS_BTC_USDT));
+        assertInstanceOf(IllegalStateException.class, promise.getException());
+        assertEquals(0, manager.getConnectionCount());
+        assertEquals(0, manager.getChanges());
+    }
+
+    @Test
+    @DisplayName("subscribe without topics opens no connection")
+    void shouldSubscribeWithoutTopicsOpenNoConnection() {
+        final var manager = SubscriptionManager.create(reactor, null, StalenessWatchdog.create(reactor), null, null,
+                0);
+        assertTrue(manager.subscribe(StreamType.PML, List.of()).isResult());
+        assertEquals(0, manager.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("unsubscribe of unknown topics changes nothing")
+    void shouldUnsubscribeUnknownTopicsChangeNothing() {
+        final var manager = SubscriptionManager.create(reactor, null, StalenessWatchdog.create(reactor), null, null,
+                1);
+        assertTrue(manager.unsubscribe(StreamType.PMST, List.of(Topic.TICKERS_BTC_USDT)).isResult());
+        assertEquals(0, manager.getChanges());
+        assertEquals(0, manager.getTopicCount());
+        assertEquals("", manager.report());
+    }
+}
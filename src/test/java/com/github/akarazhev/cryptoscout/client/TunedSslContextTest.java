@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TunedSslContext Tests")
+final class TunedSslContextTest {
+
+    @Test
+    @DisplayName("engines use configured protocols and preferred cipher suites first")
+    void shouldTuneEngines() throws Exception {
+        final var context = TunedSslContext.create(List.of("TLSv1.3", "TLSv1.2"),
+                List.of("TLS_CHACHA20_POLY1305_SHA256", "TLS_AES_128_GCM_SHA256"), 512, 3600);
+        final var engine = context.createSSLEngine("stream.bybit.com", 443);
+        engine.setUseClientMode(true);
+
+        assertArrayEquals(new String[]{"TLSv1.3", "TLSv1.2"}, engine.getEnabledProtocols());
+        assertEquals("TLS_CHACHA20_POLY1305_SHA256", engine.getEnabledCipherSuites()[0]);
+        assertEquals("TLS_AES_128_GCM_SHA256", engine.getEnabledCipherSuites()[1]);
+        assertEquals("stream.bybit.com", engine.getPeerHost());
+        assertEquals(512, context.getClientSessionContext().getSessionCacheSize());
+        assertEquals(3600, context.getClientSessionContext().getSessionTimeout());
+    }
+
+    @Test
+    @DisplayName("preferred suites move to the front, unknown ones are dropped")
+    void shouldOrderPreferredSuitesFirst() {
+        assertEquals(List.of("C", "A", "B"), TunedSslContext.order(List.of("C", "X"), new String[]{"A", "B", "C"}));
+    }
+
+    @Test
+    @DisplayName("unsupported protocols are rejected")
+    void shouldRejectUnsupportedProtocols() {
+        assertEquals(List.of("TLSv1.2"), TunedSslContext.retain(List.of("SSLv2", "TLSv1.2"),
+                new String[]{"TLSv1.3", "TLSv1.2"}));
+        assertThrows(IllegalStateException.class, () -> TunedSslContext.retain(List.of("SSLv2"),
+                new String[]{"TLSv1.3"}));
+    }
+}
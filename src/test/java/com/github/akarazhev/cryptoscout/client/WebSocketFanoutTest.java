@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.client;
+
+import com.github.akarazhev.jcryptolib.stream.Payload;
+import com.github.akarazhev.jcryptolib.stream.Provider;
+import com.github.akarazhev.jcryptolib.stream.Source;
+import io.activej.eventloop.Eventloop;
+import io.activej.http.IWebSocket;
+import io.activej.promise.Promise;
+import io.activej.promise.SettablePromise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WebSocketFanout Tests")
+final class WebSocketFanoutTest {
+    private WebSocketFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        fanout = WebSocketFanout.create(Eventloop.builder()
+                .withCurrentThread()
+                .build(), 2, 2);
+    }
+
+    @Test
+    @DisplayName("subscribers receive only payloads matching their filter")
+    void shouldSendMatchingPayloads() {
+        final var webSocket = webSocket(Promise.complete());
+        fanout.subscribe(webSocket, PayloadFilter.of("spot", "BTCUSDT", "tickers"));
+
+        fanout.onPayload(bybit(Source.PMST, "tickers.BTCUSDT"));
+        fanout.onPayload(bybit(Source.PMST, "tickers.ETHUSDT"));
+        fanout.onPayload(bybit(Source.PML, "tickers.BTCUSDT"));
+
+        verify(webSocket, times(1)).writeFrame(any());
+        assertEquals(1, fanout.getSentMessages());
+    }
+
+    @Test
+    @DisplayName("a subscriber that does not keep up is disconnected")
+    void shouldDisconnectSlowSubscriber() {
+        final var slow = webSocket(new SettablePromise<>());
+        final var fast = webSocket(Promise.complete());
+        fanout.subscribe(slow, PayloadFilter.of(null, null, null));
+        fanout.subscribe(fast, PayloadFilter.of(null, null, null));
+
+        for (var i = 0; i < 4; i++) {
+            fanout.onPayload(bybit(Source.PMST, "tickers.BTCUSDT"));
+        }
+
+        verify(slow).close();
+        verify(fast, never()).close();
+        verify(fast, times(4)).writeFrame(any());
+        assertEquals(1, fanout.getSubscribers());
+        assertEquals(1, fanout.getSlowDisconnects());
+    }
+
+    @Test
+    @DisplayName("subscribers over the limit are rejected")
+    void shouldRejectSubscribersOverLimit() {
+        fanout.subscribe(webSocket(Promise.complete()), PayloadFilter.of(null, null, null));
+        fanout.subscribe(webSocket(Promise.complete()), PayloadFilter.of(null, null, null));
+        final var rejected = webSocket(Promise.complete());
+        fanout.subscribe(rejected, PayloadFilter.of(null, null, null));
+
+        verify(rejected).close();
+        assertEquals(2, fanout.getSubscribers());
+    }
+
+    private static IWebSocket webSocket(final Promise<Void> write) {
+        final var webSocket = mock(IWebSocket.class);
+        when(webSocket.readMessage()).thenReturn(new SettablePromise<>());
+        when(webSocket.writeFrame(any())).thenReturn(write);
+        return webSocket;
+    }
+
+    private static Payload<Map<String, Object>> bybit(final Source source, final String topic) {
+        final var data = new LinkedHashMap<String, Object>();
+        data.put("topic", topic);
+        data.put("type", "snapshot");
+        data.put("ts", 1L);
+        data.put("data", Map.of("lastPrice", "1"));
+        final var payload = new Payload<Map<String, Object>>();
+        payload.setProvider(Provider.BYBIT);
+        payload.setSource(source);
+        payload.setData(data);
+        return payload;
+    }
+}
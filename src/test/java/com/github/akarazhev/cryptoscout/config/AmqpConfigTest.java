@@ -29,6 +29,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -60,4 +62,31 @@ final class AmqpConfigTest {
         assertNotNull(streamName, "Crypto Scout stream name should not be null");
         assertEquals("crypto-scout-stream", streamName);
     }
+
+    @Test
+    @DisplayName("getAmqpStartBuffer returns configured buffer size")
+    void getAmqpStartBufferReturnsConfiguredBufferSize() {
+        assertEquals(10000, AmqpConfig.getAmqpStartBuffer());
+    }
+
+    @Test
+    @DisplayName("getAmqpReconnectIntervalMs returns configured interval")
+    void getAmqpReconnectIntervalMsReturnsConfiguredInterval() {
+        assertEquals(30000, AmqpConfig.getAmqpReconnectIntervalMs());
+    }
+
+    @Test
+    @DisplayName("getAmqpEnvironments returns the configured environments")
+    void getAmqpEnvironmentsReturnsConfiguredEnvironments() {
+        assertEquals(List.of("primary"), AmqpConfig.getAmqpEnvironments());
+        assertEquals(10000, AmqpConfig.getAmqpConfirmWindow("primary"));
+    }
+
+    @Test
+    @DisplayName("getEnvironmentKey prefixes keys of environments other than the primary")
+    void getEnvironmentKeyPrefixesSecondaryKeys() {
+        assertEquals("amqp.rabbitmq.host", AmqpConfig.getEnvironmentKey("primary", "amqp.rabbitmq.host"));
+        assertEquals("amqp.analytics.rabbitmq.host", AmqpConfig.getEnvironmentKey("analytics", "amqp.rabbitmq.host"));
+        assertEquals("amqp.analytics.confirm.window", AmqpConfig.getEnvironmentKey("analytics", "amqp.confirm.window"));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BybitStreamConfig Tests")
+final class BybitStreamConfigTest {
+
+    @BeforeAll
+    static void setUp() {
+        // Initialize test environment
+    }
+
+    @AfterAll
+    static void tearDown() {
+        // Cleanup test environment
+    }
+
+    @Test
+    @DisplayName("hot standby is disabled by default")
+    void shouldHotStandbyBeDisabledByDefault() {
+        assertFalse(BybitStreamConfig.isHotStandbyEnabled(), "Hot standby should be disabled by default");
+    }
+
+    @Test
+    @DisplayName("default values match application.properties")
+    void defaultValuesMatchApplicationProperties() {
+        assertEquals(4096, BybitStreamConfig.getHotStandbyDedupWindow());
+        assertEquals(1000, BybitStreamConfig.getHotStandbyStallMs());
+        assertEquals(1000, BybitStreamConfig.getWatchdogCheckIntervalMs());
+        assertEquals(10000, BybitStreamConfig.getWatchdogOrderBookStaleMs());
+        assertEquals(10000, BybitStreamConfig.getWatchdogTickersStaleMs());
+        assertEquals(60000, BybitStreamConfig.getWatchdogTradeStaleMs());
+        assertEquals(60000, BybitStreamConfig.getWatchdogKlineStaleMs());
+        assertEquals(0, BybitStreamConfig.getWatchdogLiquidationStaleMs());
+        assertEquals(1000, BybitStreamConfig.getKlineStoreQueryLimit());
+        assertEquals(60, BybitStreamConfig.getAnalyticsWindowS());
+        assertEquals(1000, BybitStreamConfig.getAnalyticsIntervalMs());
+        assertEquals(500, BybitStreamConfig.getBasisMaxSkewMs());
+        assertEquals(1000000, BybitStreamConfig.getLiquidationBurstNotional());
+        assertEquals(20, BybitStreamConfig.getLiquidationBurstCount());
+    }
+
+    @Test
+    @DisplayName("watchdog is enabled by default")
+    void shouldWatchdogBeEnabledByDefault() {
+        assertTrue(BybitStreamConfig.isWatchdogEnabled(), "Watchdog should be enabled by default");
+    }
+}
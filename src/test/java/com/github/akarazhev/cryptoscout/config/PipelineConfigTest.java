@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Andrey Karazhev
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.akarazhev.cryptoscout.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PipelineConfig Tests")
+final class PipelineConfigTest {
+
+    @Test
+    @DisplayName("getPipelineRules returns no rules by default")
+    void getPipelineRulesReturnsNoRulesByDefault() {
+        assertTrue(PipelineConfig.getPipelineRules().isEmpty());
+    }
+
+    @Test
+    @DisplayName("rule pattern accepts stage chains and rejects a route before other stages")
+    void rulePatternAcceptsStageChains() {
+        assertTrue("bybit/PML/orderbook.200 -> conflate(250) | route(local)"
+                .matches(Constants.PipelineConfig.RULE_PATTERN));
+        assertTrue("cmc/*/* -> filter(type=snapshot) | map(latestQuote) | aggregate(10)"
+                .matches(Constants.PipelineConfig.RULE_PATTERN));
+        assertFalse("bybit/PML/* -> route(local) | conflate(250)".matches(Constants.PipelineConfig.RULE_PATTERN));
+    }
+}
@@ -29,7 +29,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -73,5 +76,27 @@ final class WebConfigTest {
         assertEquals(8081, WebConfig.getServerPort());
         assertEquals("8.8.8.8", WebConfig.getDnsAddress());
         assertEquals(10000, WebConfig.getDnsTimeoutMs());
+        assertTrue(WebConfig.isDnsCacheEnabled());
+        assertEquals(300000, WebConfig.getDnsCacheMaxTtlMs());
+        assertEquals(3600000, WebConfig.getDnsCacheStaleMs());
+        assertEquals(List.of("TLSv1.3", "TLSv1.2"), WebConfig.getTlsProtocols());
+        assertEquals("TLS_AES_128_GCM_SHA256", WebConfig.getTlsCipherSuites().getFirst());
+        assertEquals(1024, WebConfig.getTlsSessionCacheSize());
+        assertEquals(30000, WebConfig.getHttpKeepAliveTimeoutMs());
+        assertEquals(0, WebConfig.getHttpMaxKeepAliveRequests());
+        assertEquals(4, WebConfig.getHttpMaxConnectionsPerHost());
+        assertTrue(WebConfig.isWsFanoutEnabled());
+        assertEquals(64, WebConfig.getWsFanoutMaxSubscribers());
+        assertEquals(1024, WebConfig.getWsFanoutMaxPending());
+        assertTrue(WebConfig.isSseEnabled());
+        assertEquals(64, WebConfig.getSseMaxClients());
+        assertEquals(256, WebConfig.getSseMaxBuffered());
+        assertTrue(WebConfig.isLoopMonitorEnabled());
+        assertEquals(100, WebConfig.getLoopMonitorIntervalMs());
+        assertEquals(250, WebConfig.getLoopMonitorStallMs());
+        assertEquals(16, WebConfig.getLoopMonitorSamples());
+        assertEquals(60000, WebConfig.getLoopMonitorWindowMs());
+        assertFalse(WebConfig.isAdminApiEnabled());
+        assertEquals(16, WebConfig.getAdminMaxConnections());
     }
 }